@@ -0,0 +1,338 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Random;
+import software.amazon.ion.IonDatagram;
+import software.amazon.ion.IonException;
+import software.amazon.ion.IonContainer;
+import software.amazon.ion.IonList;
+import software.amazon.ion.IonStruct;
+import software.amazon.ion.IonSystem;
+import software.amazon.ion.IonValue;
+import software.amazon.ion.IonWriter;
+import software.amazon.ion.Timestamp;
+import software.amazon.ion.system.IonTextWriterBuilder;
+
+/**
+ * Test data shared by the benchmarks.
+ * <p>
+ * A corpus is named by the {@code corpus} JMH parameter.  The built-in names
+ * generate deterministic synthetic data; any other value is treated as the
+ * path of an Ion file, or of a directory whose {@code .ion} and {@code .10n}
+ * files are concatenated.  The special name {@code ion-tests} reads the
+ * {@code ion-tests/iontestdata/good} directory of the ion-tests submodule.
+ */
+final class Corpus
+{
+    /** Mixed records resembling typical service payloads. */
+    static final String STRUCTS = "structs";
+    /** Long lists of ints, floats and decimals. */
+    static final String NUMBERS = "numbers";
+    /** Text-heavy records. */
+    static final String STRINGS = "strings";
+    /** Deeply nested containers of mixed sizes. */
+    static final String NESTED = "nested";
+    /** The "good" files of the ion-tests submodule. */
+    static final String ION_TESTS = "ion-tests";
+
+    private static final int SYNTHETIC_VALUE_COUNT = 2000;
+
+    private static final String[] FIELD_NAMES = {
+        "id", "name", "created", "price", "quantity", "tags", "active",
+        "ratio", "address", "city", "zip", "notes"
+    };
+
+    private Corpus() { }
+
+    /**
+     * Loads the named corpus as a datagram.
+     *
+     * @throws IonException if a named file cannot be read.
+     */
+    static IonDatagram load(IonSystem system, String name)
+    {
+        if (STRUCTS.equals(name))
+        {
+            return makeStructs(system);
+        }
+        if (NUMBERS.equals(name))
+        {
+            return makeNumbers(system);
+        }
+        if (STRINGS.equals(name))
+        {
+            return makeStrings(system);
+        }
+        if (NESTED.equals(name))
+        {
+            return makeNested(system);
+        }
+
+        File file = ION_TESTS.equals(name)
+            ? findIonTests()
+            : new File(name);
+        return loadFiles(system, file);
+    }
+
+    /**
+     * Encodes a datagram as Ion binary.
+     */
+    static byte[] toBinary(IonDatagram datagram)
+    {
+        return datagram.getBytes();
+    }
+
+    /**
+     * Encodes a datagram as UTF-8 Ion text.
+     */
+    static byte[] toText(IonDatagram datagram)
+    {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        IonWriter writer = IonTextWriterBuilder.standard().build(out);
+        try
+        {
+            datagram.writeTo(writer);
+            writer.close();
+        }
+        catch (IOException e)
+        {
+            throw new IonException(e);
+        }
+        return out.toByteArray();
+    }
+
+    //=========================================================================
+
+    private static File findIonTests()
+    {
+        // The benchmarks are usually run from either the project root or
+        // from the benchmarks directory.
+        File[] candidates = {
+            new File("ion-tests/iontestdata/good"),
+            new File("../ion-tests/iontestdata/good"),
+        };
+        for (File candidate : candidates)
+        {
+            if (candidate.isDirectory())
+            {
+                return candidate;
+            }
+        }
+        throw new IonException("Cannot locate ion-tests data directory; "
+                               + "run `git submodule update --init`.");
+    }
+
+    private static IonDatagram loadFiles(IonSystem system, File file)
+    {
+        IonDatagram datagram = system.newDatagram();
+        if (file.isDirectory())
+        {
+            File[] children = file.listFiles();
+            Arrays.sort(children);
+            for (File child : children)
+            {
+                String n = child.getName();
+                if (child.isFile() && (n.endsWith(".ion") || n.endsWith(".10n")))
+                {
+                    // Some of the "good" files intentionally exercise edge
+                    // cases of the catalog; skip what we can't load alone.
+                    try
+                    {
+                        append(system, datagram, child);
+                    }
+                    catch (IonException e)
+                    {
+                        continue;
+                    }
+                }
+            }
+        }
+        else
+        {
+            append(system, datagram, file);
+        }
+        return datagram;
+    }
+
+    private static void append(IonSystem system, IonDatagram datagram, File file)
+    {
+        try
+        {
+            InputStream in = new FileInputStream(file);
+            try
+            {
+                IonDatagram loaded = system.getLoader().load(in);
+                for (IonValue value : loaded.toArray(new IonValue[0]))
+                {
+                    value.removeFromContainer();
+                    datagram.add(value);
+                }
+            }
+            finally
+            {
+                in.close();
+            }
+        }
+        catch (IOException e)
+        {
+            throw new IonException("Unable to read " + file, e);
+        }
+    }
+
+    private static IonDatagram makeStructs(IonSystem system)
+    {
+        Random random = new Random(42);
+        IonDatagram datagram = system.newDatagram();
+        Timestamp base = Timestamp.valueOf("2016-01-01T00:00:00.000Z");
+        for (int i = 0; i < SYNTHETIC_VALUE_COUNT; i++)
+        {
+            IonStruct s = system.newEmptyStruct();
+            s.add(FIELD_NAMES[0]).newInt(i);
+            s.add(FIELD_NAMES[1]).newString("item-" + random.nextInt(1000));
+            s.add(FIELD_NAMES[2]).newTimestamp(base.addSecond(random.nextInt(1000000)));
+            s.add(FIELD_NAMES[3]).newDecimal(BigDecimal.valueOf(random.nextInt(100000), 2));
+            s.add(FIELD_NAMES[4]).newInt(random.nextInt(50));
+            IonList tags = s.add(FIELD_NAMES[5]).newEmptyList();
+            for (int t = random.nextInt(4); t >= 0; t--)
+            {
+                tags.add().newSymbol("tag" + random.nextInt(20));
+            }
+            s.add(FIELD_NAMES[6]).newBool(random.nextBoolean());
+            s.add(FIELD_NAMES[7]).newFloat(random.nextDouble());
+            IonStruct address = s.add(FIELD_NAMES[8]).newEmptyStruct();
+            address.add(FIELD_NAMES[9]).newSymbol("city" + random.nextInt(100));
+            address.add(FIELD_NAMES[10]).newString(String.valueOf(10000 + random.nextInt(89999)));
+            if (random.nextInt(4) == 0)
+            {
+                s.add(FIELD_NAMES[11]).newNull();
+            }
+            s.setTypeAnnotations("record");
+            datagram.add(s);
+        }
+        return datagram;
+    }
+
+    private static IonDatagram makeNumbers(IonSystem system)
+    {
+        Random random = new Random(42);
+        IonDatagram datagram = system.newDatagram();
+        for (int i = 0; i < SYNTHETIC_VALUE_COUNT / 100; i++)
+        {
+            IonList ints = system.newEmptyList();
+            IonList floats = system.newEmptyList();
+            IonList decimals = system.newEmptyList();
+            for (int j = 0; j < 100; j++)
+            {
+                ints.add().newInt(random.nextLong() >> random.nextInt(64));
+                floats.add().newFloat(random.nextGaussian() * 1000);
+                decimals.add().newDecimal(BigDecimal.valueOf(random.nextInt(), random.nextInt(8)));
+            }
+            datagram.add(ints);
+            datagram.add(floats);
+            datagram.add(decimals);
+        }
+        return datagram;
+    }
+
+    private static IonDatagram makeStrings(IonSystem system)
+    {
+        Random random = new Random(42);
+        IonDatagram datagram = system.newDatagram();
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < SYNTHETIC_VALUE_COUNT; i++)
+        {
+            text.setLength(0);
+            int words = 3 + random.nextInt(30);
+            for (int w = 0; w < words; w++)
+            {
+                if (w > 0) text.append(' ');
+                int letters = 1 + random.nextInt(10);
+                for (int l = 0; l < letters; l++)
+                {
+                    text.append((char) ('a' + random.nextInt(26)));
+                }
+            }
+            if (random.nextInt(8) == 0)
+            {
+                text.append(" \u00e9\u4e2d\ud83d\ude00\n\"quoted\"");
+            }
+            IonStruct s = system.newEmptyStruct();
+            s.add(FIELD_NAMES[0]).newInt(i);
+            s.add(FIELD_NAMES[11]).newString(text.toString());
+            datagram.add(s);
+        }
+        return datagram;
+    }
+
+    private static IonDatagram makeNested(IonSystem system)
+    {
+        Random random = new Random(42);
+        IonDatagram datagram = system.newDatagram();
+        for (int i = 0; i < SYNTHETIC_VALUE_COUNT / 20; i++)
+        {
+            IonStruct root = system.newEmptyStruct();
+            addNested(random, root, 12);
+            datagram.add(root);
+        }
+        return datagram;
+    }
+
+    /**
+     * Adds a few children to a container, nesting down to the given depth,
+     * so that the containers span all of the length sizes.
+     */
+    private static void addNested(Random random, IonContainer container, int depth)
+    {
+        int children = 1 + random.nextInt(3);
+        for (int c = 0; c < children; c++)
+        {
+            IonValue child;
+            int kind = depth == 0 ? 3 : random.nextInt(4);
+            switch (kind)
+            {
+                case 0:
+                    child = container.getSystem().newEmptyStruct();
+                    addNested(random, (IonContainer) child, depth - 1);
+                    break;
+                case 1:
+                    child = container.getSystem().newEmptyList();
+                    addNested(random, (IonContainer) child, depth - 1);
+                    break;
+                case 2:
+                    child = container.getSystem().newInt(random.nextInt());
+                    break;
+                default:
+                    child = container.getSystem().newSymbol(FIELD_NAMES[random.nextInt(FIELD_NAMES.length)]);
+                    break;
+            }
+            if (container instanceof IonStruct)
+            {
+                ((IonStruct) container).add(FIELD_NAMES[c], child);
+            }
+            else
+            {
+                ((IonList) container).add(child);
+            }
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion.benchmark;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.ion.IonDatagram;
+import software.amazon.ion.IonLoader;
+import software.amazon.ion.IonSystem;
+import software.amazon.ion.system.IonSystemBuilder;
+
+/**
+ * Measures the lite DOM: {@code IonLoaderLite} materialization from binary
+ * and text, and {@code IonDatagramLite} serialization to a byte array and to
+ * a stream.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(2)
+public class DomBenchmark
+{
+    @Param({Corpus.STRUCTS, Corpus.NUMBERS, Corpus.STRINGS})
+    public String corpus;
+
+    /** Discards the data, so that only the encoding is measured. */
+    private static final OutputStream NULL_STREAM = new OutputStream()
+    {
+        @Override
+        public void write(int b) { }
+
+        @Override
+        public void write(byte[] b, int off, int len) { }
+    };
+
+    private IonLoader loader;
+    private IonDatagram datagram;
+    private byte[] binary;
+    private byte[] text;
+
+    @Setup
+    public void setup()
+    {
+        IonSystem system = IonSystemBuilder.standard().build();
+        loader = system.getLoader();
+        datagram = Corpus.load(system, corpus);
+        binary = Corpus.toBinary(datagram);
+        text = Corpus.toText(datagram);
+    }
+
+    @Benchmark
+    public IonDatagram loadBinary(ByteCounter counter)
+    {
+        counter.bytes += binary.length;
+        return loader.load(binary);
+    }
+
+    @Benchmark
+    public IonDatagram loadText(ByteCounter counter)
+    {
+        counter.bytes += text.length;
+        return loader.load(text);
+    }
+
+    @Benchmark
+    public byte[] getBytes(ByteCounter counter)
+    {
+        byte[] bytes = datagram.getBytes();
+        counter.bytes += bytes.length;
+        return bytes;
+    }
+
+    @Benchmark
+    public int getBytesToStream(ByteCounter counter)
+        throws IOException
+    {
+        int size = datagram.getBytes(NULL_STREAM);
+        counter.bytes += size;
+        return size;
+    }
+
+    @Benchmark
+    public int byteSize()
+    {
+        return datagram.byteSize();
+    }
+}
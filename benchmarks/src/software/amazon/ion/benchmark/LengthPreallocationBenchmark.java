@@ -0,0 +1,83 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.ion.IonDatagram;
+import software.amazon.ion.IonSystem;
+import software.amazon.ion.IonWriter;
+import software.amazon.ion.impl.bin.PrivateIonManagedBinaryWriterBuilder;
+import software.amazon.ion.impl.bin.PrivateIonManagedBinaryWriterBuilder.AllocatorMode;
+import software.amazon.ion.system.IonSystemBuilder;
+
+/**
+ * Compares the managed binary writer's length preallocation modes:
+ * preallocating 0, 1 or 2 length bytes and side patching the lengths that
+ * don't fit.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(2)
+@SuppressWarnings("deprecation")
+public class LengthPreallocationBenchmark
+{
+    @Param({"0", "1", "2"})
+    public String lengths;
+
+    @Param({Corpus.NESTED, Corpus.STRUCTS})
+    public String corpus;
+
+    private PrivateIonManagedBinaryWriterBuilder writerBuilder;
+    private IonDatagram datagram;
+    private ByteArrayOutputStream out;
+
+    @Setup
+    public void setup()
+    {
+        IonSystem system = IonSystemBuilder.standard().build();
+        datagram = Corpus.load(system, corpus);
+        writerBuilder = PrivateIonManagedBinaryWriterBuilder.create(AllocatorMode.POOLED);
+        writerBuilder.withPaddedLengthPreallocation(Integer.parseInt(lengths));
+        out = new ByteArrayOutputStream(Corpus.toBinary(datagram).length * 2);
+    }
+
+    @Benchmark
+    public int writeDom(ByteCounter counter)
+        throws IOException
+    {
+        out.reset();
+        IonWriter writer = writerBuilder.newWriter(out);
+        datagram.writeTo(writer);
+        writer.close();
+        counter.bytes += out.size();
+        return out.size();
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.ion.IonReader;
+import software.amazon.ion.IonType;
+import software.amazon.ion.IonWriter;
+import software.amazon.ion.system.IonBinaryWriterBuilder;
+import software.amazon.ion.system.IonReaderBuilder;
+import software.amazon.ion.util.IonStreamUtils;
+
+/**
+ * Compares the list helpers of {@link IonStreamUtils}, which the binary
+ * writer and reader encode and decode in bulk, against writing and reading
+ * the same lists one value at a time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(2)
+public class NumericListBenchmark
+{
+    @Param({"long", "double"})
+    public String type;
+
+    @Param({"16", "10000"})
+    public int size;
+
+    private IonBinaryWriterBuilder writerBuilder;
+    private IonReaderBuilder readerBuilder;
+    private long[] longs;
+    private double[] doubles;
+    private byte[] binary;
+    private ByteArrayOutputStream out;
+
+    @Setup
+    public void setup()
+        throws IOException
+    {
+        Random random = new Random(42);
+        longs = new long[size];
+        doubles = new double[size];
+        for (int i = 0; i < size; i++)
+        {
+            // a mix of magnitudes, like counters and deltas in a time series
+            longs[i] = random.nextLong() >> random.nextInt(64);
+            doubles[i] = random.nextGaussian() * 1000;
+        }
+        writerBuilder = IonBinaryWriterBuilder.standard().immutable();
+        readerBuilder = IonReaderBuilder.standard().immutable();
+        out = new ByteArrayOutputStream(size * 10 + 64);
+        writeList(new ByteCounter());
+        binary = out.toByteArray();
+    }
+
+    @Benchmark
+    public int writeValues(ByteCounter counter)
+        throws IOException
+    {
+        out.reset();
+        IonWriter writer = writerBuilder.build(out);
+        writer.stepIn(IonType.LIST);
+        if ("long".equals(type))
+        {
+            for (long value : longs)
+            {
+                writer.writeInt(value);
+            }
+        }
+        else
+        {
+            for (double value : doubles)
+            {
+                writer.writeFloat(value);
+            }
+        }
+        writer.stepOut();
+        writer.close();
+        counter.bytes += out.size();
+        return out.size();
+    }
+
+    @Benchmark
+    public int writeList(ByteCounter counter)
+        throws IOException
+    {
+        out.reset();
+        IonWriter writer = writerBuilder.build(out);
+        if ("long".equals(type))
+        {
+            IonStreamUtils.writeIntList(writer, longs);
+        }
+        else
+        {
+            IonStreamUtils.writeFloatList(writer, doubles);
+        }
+        writer.close();
+        counter.bytes += out.size();
+        return out.size();
+    }
+
+    @Benchmark
+    public int readValues(ByteCounter counter)
+        throws IOException
+    {
+        IonReader reader = readerBuilder.build(binary);
+        reader.next();
+        reader.stepIn();
+        int count = 0;
+        if ("long".equals(type))
+        {
+            while (reader.next() != null)
+            {
+                longs[count++] = reader.longValue();
+            }
+        }
+        else
+        {
+            while (reader.next() != null)
+            {
+                doubles[count++] = reader.doubleValue();
+            }
+        }
+        reader.stepOut();
+        reader.close();
+        counter.bytes += binary.length;
+        return count;
+    }
+
+    @Benchmark
+    public int readList(ByteCounter counter)
+        throws IOException
+    {
+        IonReader reader = readerBuilder.build(binary);
+        reader.next();
+        int count = "long".equals(type)
+            ? IonStreamUtils.readLongList(reader, longs)
+            : IonStreamUtils.readDoubleList(reader, doubles);
+        reader.close();
+        counter.bytes += binary.length;
+        return count;
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion.benchmark;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import software.amazon.ion.IonDatagram;
+import software.amazon.ion.IonReader;
+import software.amazon.ion.IonSystem;
+import software.amazon.ion.IonType;
+import software.amazon.ion.system.IonReaderBuilder;
+import software.amazon.ion.system.IonSystemBuilder;
+
+/**
+ * Measures the streaming readers: {@code IonReaderBinaryRawX} (via the binary
+ * user reader) and {@code IonReaderTextRawX} (via the text user reader).
+ * <p>
+ * {@link #next} only navigates, while {@link #nextAndScalars} also
+ * materializes every scalar, field name and annotation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(2)
+public class ReaderBenchmark
+{
+    @Param({"binary", "text"})
+    public String format;
+
+    @Param({Corpus.STRUCTS, Corpus.NUMBERS, Corpus.STRINGS})
+    public String corpus;
+
+    private IonReaderBuilder readerBuilder;
+    private byte[] data;
+
+    @Setup
+    public void setup()
+    {
+        IonSystem system = IonSystemBuilder.standard().build();
+        IonDatagram datagram = Corpus.load(system, corpus);
+        data = "text".equals(format)
+            ? Corpus.toText(datagram)
+            : Corpus.toBinary(datagram);
+        readerBuilder = IonReaderBuilder.standard().immutable();
+    }
+
+    @Benchmark
+    public int next(ByteCounter counter)
+        throws IOException
+    {
+        IonReader reader = readerBuilder.build(data);
+        int count = navigate(reader);
+        reader.close();
+        counter.bytes += data.length;
+        return count;
+    }
+
+    @Benchmark
+    public void nextAndScalars(ByteCounter counter, Blackhole bh)
+        throws IOException
+    {
+        IonReader reader = readerBuilder.build(data);
+        consume(reader, bh);
+        reader.close();
+        counter.bytes += data.length;
+    }
+
+    private static int navigate(IonReader reader)
+    {
+        int count = 0;
+        IonType type;
+        while ((type = reader.next()) != null)
+        {
+            count++;
+            if (IonType.isContainer(type) && !reader.isNullValue())
+            {
+                reader.stepIn();
+                count += navigate(reader);
+                reader.stepOut();
+            }
+        }
+        return count;
+    }
+
+    private static void consume(IonReader reader, Blackhole bh)
+    {
+        IonType type;
+        while ((type = reader.next()) != null)
+        {
+            if (reader.isInStruct())
+            {
+                bh.consume(reader.getFieldName());
+            }
+            bh.consume(reader.getTypeAnnotations());
+            if (reader.isNullValue())
+            {
+                continue;
+            }
+            switch (type)
+            {
+                case BOOL:
+                    bh.consume(reader.booleanValue());
+                    break;
+                case INT:
+                    switch (reader.getIntegerSize())
+                    {
+                        case BIG_INTEGER:
+                            bh.consume(reader.bigIntegerValue());
+                            break;
+                        default:
+                            bh.consume(reader.longValue());
+                            break;
+                    }
+                    break;
+                case FLOAT:
+                    bh.consume(reader.doubleValue());
+                    break;
+                case DECIMAL:
+                    bh.consume(reader.decimalValue());
+                    break;
+                case TIMESTAMP:
+                    bh.consume(reader.timestampValue());
+                    break;
+                case SYMBOL:
+                    bh.consume(reader.symbolValue());
+                    break;
+                case STRING:
+                    bh.consume(reader.stringValue());
+                    break;
+                case CLOB:
+                case BLOB:
+                    bh.consume(reader.newBytes());
+                    break;
+                case LIST:
+                case SEXP:
+                case STRUCT:
+                    reader.stepIn();
+                    consume(reader, bh);
+                    reader.stepOut();
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import software.amazon.ion.IonInt;
+import software.amazon.ion.IonStruct;
+import software.amazon.ion.IonSystem;
+import software.amazon.ion.system.IonSystemBuilder;
+
+/**
+ * Measures field access on DOM structs large enough to be indexed by field
+ * name: lookups, replacing fields with {@link IonStruct#put}, building, and
+ * cloning.  Each operation covers every field of one struct.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(2)
+public class StructFieldBenchmark
+{
+    @Param({"8", "32", "256"})
+    public int size;
+
+    private IonSystem system;
+    private String[] names;
+    /** Equal to {@link #names} but different instances, as from user code. */
+    private String[] lookupNames;
+    private IonInt[] values;
+    private IonStruct struct;
+
+    @Setup
+    public void setup()
+    {
+        system = IonSystemBuilder.standard().build();
+        names = new String[size];
+        lookupNames = new String[size];
+        values = new IonInt[size];
+        for (int i = 0; i < size; i++)
+        {
+            names[i] = "field_" + i;
+            lookupNames[i] = new String(names[i]);
+        }
+        struct = build();
+    }
+
+    private IonStruct build()
+    {
+        IonStruct s = system.newEmptyStruct();
+        for (int i = 0; i < size; i++)
+        {
+            s.add(names[i], system.newInt(i));
+        }
+        return s;
+    }
+
+    @Benchmark
+    public void get(Blackhole bh)
+    {
+        for (String name : lookupNames)
+        {
+            bh.consume(struct.get(name));
+        }
+    }
+
+    @Benchmark
+    public void getMissing(Blackhole bh)
+    {
+        for (String name : lookupNames)
+        {
+            bh.consume(struct.containsKey(name + "?"));
+        }
+    }
+
+    @Benchmark
+    public IonStruct put()
+    {
+        // swap each field for a new value, restoring them afterwards
+        for (int i = 0; i < size; i++)
+        {
+            values[i] = (IonInt) struct.get(names[i]);
+            struct.put(names[i], system.newInt(i));
+        }
+        for (int i = 0; i < size; i++)
+        {
+            struct.put(names[i], values[i]);
+        }
+        return struct;
+    }
+
+    @Benchmark
+    public IonStruct add()
+    {
+        return build();
+    }
+
+    @Benchmark
+    public IonStruct cloneStruct()
+    {
+        return struct.clone();
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.ion.IonDatagram;
+import software.amazon.ion.IonReader;
+import software.amazon.ion.IonSystem;
+import software.amazon.ion.IonWriter;
+import software.amazon.ion.system.IonBinaryWriterBuilder;
+import software.amazon.ion.system.IonReaderBuilder;
+import software.amazon.ion.system.IonSystemBuilder;
+import software.amazon.ion.system.IonTextWriterBuilder;
+import software.amazon.ion.system.IonWriterBuilder;
+
+/**
+ * Measures the streaming writers: {@code IonManagedBinaryWriter} and
+ * {@code IonWriterSystemText}.
+ * <p>
+ * {@link #writeValues} drives the writer from a reader over a binary copy of
+ * the corpus, which is how most stream transcoding is done; {@link #writeDom}
+ * drives it from an in-memory datagram.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(2)
+public class WriterBenchmark
+{
+    @Param({"binary", "text"})
+    public String format;
+
+    @Param({Corpus.STRUCTS, Corpus.NUMBERS, Corpus.STRINGS})
+    public String corpus;
+
+    private IonWriterBuilder writerBuilder;
+    private IonReaderBuilder readerBuilder;
+    private IonDatagram datagram;
+    private byte[] binary;
+    private ByteArrayOutputStream out;
+
+    @Setup
+    public void setup()
+    {
+        IonSystem system = IonSystemBuilder.standard().build();
+        datagram = Corpus.load(system, corpus);
+        binary = Corpus.toBinary(datagram);
+        writerBuilder = "text".equals(format)
+            ? IonTextWriterBuilder.standard().immutable()
+            : IonBinaryWriterBuilder.standard().immutable();
+        readerBuilder = IonReaderBuilder.standard().immutable();
+        out = new ByteArrayOutputStream(binary.length * 2);
+    }
+
+    @Benchmark
+    public int writeValues(ByteCounter counter)
+        throws IOException
+    {
+        out.reset();
+        IonReader reader = readerBuilder.build(binary);
+        IonWriter writer = newWriter();
+        writer.writeValues(reader);
+        writer.close();
+        reader.close();
+        counter.bytes += out.size();
+        return out.size();
+    }
+
+    @Benchmark
+    public int writeDom(ByteCounter counter)
+        throws IOException
+    {
+        out.reset();
+        IonWriter writer = newWriter();
+        datagram.writeTo(writer);
+        writer.close();
+        counter.bytes += out.size();
+        return out.size();
+    }
+
+    private IonWriter newWriter()
+    {
+        if (writerBuilder instanceof IonTextWriterBuilder)
+        {
+            return ((IonTextWriterBuilder) writerBuilder).build(out);
+        }
+        return ((IonBinaryWriterBuilder) writerBuilder).build(out);
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion;
+
+/**
+ * An {@link IonReader} facet providing the ability to compare the current
+ * field name with a given name without creating a {@link String} for it.
+ * <p>
+ * Readers that pick a few fields out of large structs can use this instead
+ * of {@link IonReader#getFieldName()} to avoid the cost of materializing
+ * every field name they skip over.
+ * <p>
+ * <b>WARNING:</b> This interface should not be implemented or extended by
+ * code outside of this library.
+ * <p>
+ * This functionality may be accessed as a facet of text and binary
+ * {@link IonReader}s.
+ */
+public interface FieldNameMatcher
+{
+    /**
+     * Determines whether the reader's current value has a field name whose
+     * text is equal to the given characters.
+     * Field names with unknown text never match.
+     *
+     * @param name the text to compare with; must not be null.
+     *
+     * @return true if the current field name's text equals {@code name};
+     * false if it doesn't, or if the current value has no field name.
+     */
+    public boolean fieldNameEquals(CharSequence name);
+}
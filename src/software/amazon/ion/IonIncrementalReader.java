@@ -0,0 +1,64 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion;
+
+/**
+ * An {@link IonReader} over Ion binary data that arrives in pieces, such as
+ * from a non-blocking socket.
+ * <p>
+ * <b>WARNING:</b> This interface should not be implemented or extended by
+ * code outside of this library.
+ * <p>
+ * Data is supplied by {@link #feed(byte[], int, int)} rather than pulled
+ * from a source, so this reader never blocks. A top-level value is only
+ * presented by {@link #next()} once all of its bytes have been fed, which
+ * means that stepping into containers and reading scalars never run out of
+ * data. When {@link #next()} returns null at top-level, {@link #needsData()}
+ * distinguishes a value that is still incomplete from the true end of the
+ * stream.
+ * <p>
+ * Instances are created by
+ * {@link software.amazon.ion.system.IonReaderBuilder#buildIncremental()}.
+ */
+public interface IonIncrementalReader
+    extends IonReader
+{
+    /**
+     * Supplies more of the stream. The bytes are copied, so the caller may
+     * reuse the array as soon as this method returns.
+     *
+     * @throws IllegalStateException if {@link #endOfInput()} has been called.
+     * @throws IonException if the stream doesn't start with the Ion binary
+     * version marker.
+     */
+    public void feed(byte[] bytes, int offset, int length);
+
+    /**
+     * Declares that no more data will be fed. Any incomplete value left in
+     * the buffer is then presented to {@link #next()}, which will report it
+     * as malformed.
+     */
+    public void endOfInput();
+
+    /**
+     * Determines whether the last call to {@link #next()} at top-level
+     * returned null because the next value hasn't been completely fed.
+     *
+     * @return true if more data must be fed before the next top-level value
+     * can be read; false if a value is available, if the reader is not at
+     * top-level, or if {@link #endOfInput()} has been called.
+     */
+    public boolean needsData();
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion;
+
+/**
+ * An {@link IonReader} facet providing the ability to restart the reader
+ * on new input, reusing its internal buffers and state instead of building
+ * a new reader.
+ * <p>
+ * Applications that decode many small messages can keep one reader per
+ * thread (or a pool of them) and reset it for each message.  A reset reader
+ * behaves exactly like one newly built over the same data with the same
+ * configuration: it starts at top-level, before the first value, with the
+ * system symbol table.
+ * <p>
+ * <b>WARNING:</b> This interface should not be implemented or extended by
+ * code outside of this library.
+ * <p>
+ * This functionality may be accessed as a facet of text and binary
+ * {@link IonReader}s built over byte arrays of uncompressed data.
+ */
+public interface ResettableReader
+{
+    /**
+     * Restarts the reader at the beginning of the given data, abandoning
+     * its current input.  The data must be in the same format, text or
+     * binary, as the data this reader was built over.
+     * <p>
+     * The reader retains a reference to the array until it's reset again.
+     *
+     * @param ionData the new input; must not be null.
+     * @param offset the offset of the first byte of the data.
+     * @param length the number of bytes of data.
+     *
+     * @throws IllegalArgumentException if the data isn't in this reader's
+     * format, or is GZIPped.
+     */
+    public void reset(byte[] ionData, int offset, int length);
+}
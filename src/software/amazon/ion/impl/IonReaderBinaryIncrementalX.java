@@ -0,0 +1,74 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion.impl;
+
+import software.amazon.ion.IonCatalog;
+import software.amazon.ion.IonIncrementalReader;
+import software.amazon.ion.IonType;
+import software.amazon.ion.impl.UnifiedInputStreamX.FromIncrementalBytes;
+
+/**
+ * Binary user reader over input that is fed incrementally.
+ * <p>
+ * The heavy lifting is done by {@link FromIncrementalBytes}, which only lets
+ * the reader see complete top-level values.  This class just resumes the
+ * reader when a top-level EOF turns out to be a pause rather than the end.
+ */
+final class IonReaderBinaryIncrementalX
+    extends IonReaderBinaryUserX
+    implements IonIncrementalReader
+{
+    private final FromIncrementalBytes _fed_input;
+
+    private IonReaderBinaryIncrementalX(IonCatalog catalog,
+                                        PrivateLocalSymbolTableFactory lstFactory,
+                                        FromIncrementalBytes input)
+    {
+        super(catalog, lstFactory, input, 0);
+        _fed_input = input;
+    }
+
+    static IonReaderBinaryIncrementalX make(IonCatalog catalog,
+                                            PrivateLocalSymbolTableFactory lstFactory)
+    {
+        FromIncrementalBytes input = UnifiedInputStreamX.makeIncrementalStream();
+        return new IonReaderBinaryIncrementalX(catalog, lstFactory, input);
+    }
+
+    public void feed(byte[] bytes, int offset, int length)
+    {
+        _fed_input.feed(bytes, offset, length);
+    }
+
+    public void endOfInput()
+    {
+        _fed_input.endOfInput();
+    }
+
+    public boolean needsData()
+    {
+        return _eof && getDepth() == 0 && !_fed_input.isEnded();
+    }
+
+    @Override
+    public IonType next()
+    {
+        if (_eof && getDepth() == 0 && _fed_input.hasUnreadData()) {
+            _fed_input.resume();
+            resume_after_eof();
+        }
+        return super.next();
+    }
+}
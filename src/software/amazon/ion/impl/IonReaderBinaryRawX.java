@@ -46,7 +46,7 @@ import software.amazon.ion.impl.UnifiedSavePointManagerX.SavePoint;
  *  strings) are handled by IonBinaryReaderUser.
  */
 abstract class IonReaderBinaryRawX
-    implements IonReader
+    implements PrivateListReader
 {
     static final int DEFAULT_CONTAINER_STACK_SIZE = 12; // a multiple of 3
     static final int DEFAULT_ANNOTATION_SIZE = 10;
@@ -142,6 +142,18 @@ abstract class IonReaderBinaryRawX
         _container_top = 0;
     }
 
+    /**
+     * Leaves the top-level EOF state so the next call to {@link #next()}
+     * will look for another value.  This is only useful when the input
+     * source can grow, as with incremental input.
+     */
+    final void resume_after_eof() {
+        assert(getDepth() == 0);
+        _eof = false;
+        _state = State.S_BEFORE_TID;
+        _has_next_needed = true;
+    }
+
     public void close()
         throws IOException
     {
@@ -652,6 +664,195 @@ abstract class IonReaderBinaryRawX
         assert(next_position == getPosition());
         _local_remaining = local_remaining;
     }
+    //========================================================================
+    // PrivateListReader
+    //
+    //  these decode the elements of a list directly from their type
+    //  descriptors, rather than going through hasNext() and the value
+    //  cache of the system reader for each of them.
+    //
+
+    public int readIntList(int[] values)
+    {
+        int count = 0;
+        start_list();
+        try {
+            int tid;
+            while ((tid = read_list_element_tid()) != UnifiedInputStreamX.EOF) {
+                if (count == values.length) {
+                    throw list_too_long(values.length);
+                }
+                long value = read_list_int(tid);
+                if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+                    throw list_element_too_large("an int");
+                }
+                values[count++] = (int) value;
+            }
+        }
+        catch (IOException e) {
+            error(e);
+        }
+        stepOut();
+        return count;
+    }
+
+    public int readLongList(long[] values)
+    {
+        int count = 0;
+        start_list();
+        try {
+            int tid;
+            while ((tid = read_list_element_tid()) != UnifiedInputStreamX.EOF) {
+                if (count == values.length) {
+                    throw list_too_long(values.length);
+                }
+                values[count++] = read_list_int(tid);
+            }
+        }
+        catch (IOException e) {
+            error(e);
+        }
+        stepOut();
+        return count;
+    }
+
+    public int readDoubleList(double[] values)
+    {
+        int count = 0;
+        start_list();
+        try {
+            int tid;
+            while ((tid = read_list_element_tid()) != UnifiedInputStreamX.EOF) {
+                if (count == values.length) {
+                    throw list_too_long(values.length);
+                }
+                if (tid != PrivateIonConstants.tidFloat) {
+                    throw list_element_mismatch(IonType.FLOAT, tid);
+                }
+                values[count++] = readFloat(_value_len);
+            }
+        }
+        catch (IOException e) {
+            error(e);
+        }
+        stepOut();
+        return count;
+    }
+
+    private final void start_list()
+    {
+        if (_value_type != IonType.LIST || _eof) {
+            throw new IllegalStateException("the reader must be positioned on a list");
+        }
+        stepIn();
+    }
+
+    /**
+     * Reads the type descriptor of the next element of a list that's being
+     * read in bulk, skipping over padding and annotations, and leaves the
+     * length of the element in {@link #_value_len}.
+     *
+     * @return the type id of the element, or EOF at the end of the list.
+     */
+    private final int read_list_element_tid() throws IOException
+    {
+        for (;;) {
+            int td = read();
+            if (td < 0) {
+                return UnifiedInputStreamX.EOF;
+            }
+            int tid = PrivateIonConstants.getTypeCode(td);
+            int len = PrivateIonConstants.getLowNibble(td);
+            if (len == PrivateIonConstants.lnIsNull) {
+                throw list_element_mismatch(null, tid);
+            }
+            if (len == PrivateIonConstants.lnIsVarLen) {
+                len = readVarUInt();
+            }
+            if (tid == PrivateIonConstants.tidNull) {
+                // NOP padding
+                skip(len);
+                continue;
+            }
+            if (tid == PrivateIonConstants.tidTypedecl) {
+                int value_end = _local_remaining - len;
+                skip(readVarUInt());
+                td = read();
+                if (td < 0) {
+                    throwUnexpectedEOFException();
+                }
+                tid = PrivateIonConstants.getTypeCode(td);
+                len = PrivateIonConstants.getLowNibble(td);
+                if (tid == PrivateIonConstants.tidNull || tid == PrivateIonConstants.tidTypedecl) {
+                    throwErrorAt("invalid value in annotation wrapper");
+                }
+                if (len == PrivateIonConstants.lnIsNull) {
+                    throw list_element_mismatch(null, tid);
+                }
+                if (len == PrivateIonConstants.lnIsVarLen) {
+                    len = readVarUInt();
+                }
+                if (_local_remaining - len != value_end) {
+                    throwErrorAt("Wrapper length mismatch");
+                }
+            }
+            _value_len = len;
+            return tid;
+        }
+    }
+
+    /**
+     * Reads an int element whose type descriptor has been read.
+     *
+     * @throws IonException if the value doesn't fit in a long.
+     */
+    private final long read_list_int(int tid) throws IOException
+    {
+        if (tid != PrivateIonConstants.tidPosInt && tid != PrivateIonConstants.tidNegInt) {
+            throw list_element_mismatch(IonType.INT, tid);
+        }
+        int len = _value_len;
+        for (; len > Long.BYTES; len--) {
+            int b = read();
+            if (b < 0) {
+                throwUnexpectedEOFException();
+            }
+            if (b != 0) {
+                throw list_element_too_large("a long");
+            }
+        }
+        long magnitude = readULong(len);
+        if (tid == PrivateIonConstants.tidNegInt) {
+            if (magnitude < 0 && magnitude != Long.MIN_VALUE) {
+                throw list_element_too_large("a long");
+            }
+            return -magnitude;
+        }
+        if (magnitude < 0) {
+            throw list_element_too_large("a long");
+        }
+        return magnitude;
+    }
+
+    private final IonException list_too_long(int capacity)
+    {
+        return newErrorAt("list has more than " + capacity + " elements");
+    }
+
+    private final IonException list_element_too_large(String type)
+    {
+        return newErrorAt("list element is too large to fit in " + type);
+    }
+
+    private final IonException list_element_mismatch(IonType expected, int tid)
+    {
+        if (expected == null) {
+            return newErrorAt("list element is null");
+        }
+        return newErrorAt("list element is not a " + expected
+                          + ": " + get_iontype_from_tid(tid));
+    }
+
     public int byteSize()
     {
         int len;
@@ -439,6 +439,17 @@ class IonReaderBinarySystemX
         return name;
     }
 
+    /**
+     * Compares the current field name with the given text; the symbol
+     * table already holds the text, so nothing is allocated.
+     */
+    final boolean fieldNameEquals(CharSequence name)
+    {
+        if (_value_field_id == SymbolTable.UNKNOWN_SYMBOL_ID) return false;
+        String text = _symbols.findKnownSymbol(_value_field_id);
+        return text != null && text.contentEquals(name);
+    }
+
     public SymbolToken getFieldNameSymbol()
     {
         if (_value_field_id == SymbolTable.UNKNOWN_SYMBOL_ID) return null;
@@ -16,11 +16,14 @@ package software.amazon.ion.impl;
 
 import static software.amazon.ion.SystemSymbols.ION_1_0_SID;
 import static software.amazon.ion.SystemSymbols.ION_SYMBOL_TABLE_SID;
+import static software.amazon.ion.util.IonStreamUtils.isIonBinary;
 
 import java.io.IOException;
+import software.amazon.ion.FieldNameMatcher;
 import software.amazon.ion.IonCatalog;
 import software.amazon.ion.IonType;
 import software.amazon.ion.OffsetSpan;
+import software.amazon.ion.ResettableReader;
 import software.amazon.ion.SeekableReader;
 import software.amazon.ion.Span;
 import software.amazon.ion.SpanProvider;
@@ -31,7 +34,7 @@ import software.amazon.ion.impl.PrivateScalarConversions.AS_TYPE;
 import software.amazon.ion.impl.UnifiedInputStreamX.FromByteArray;
 import software.amazon.ion.impl.UnifiedSavePointManagerX.SavePoint;
 
-final class IonReaderBinaryUserX
+class IonReaderBinaryUserX
     extends IonReaderBinarySystemX
     implements PrivateReaderWriter
 {
@@ -40,7 +43,7 @@ final class IonReaderBinaryUserX
      * It must be subtracted from the logical offsets exposed by
      * {@link OffsetSpan}s.
      */
-    private final int _physical_start_offset;
+    private int _physical_start_offset;
     private final PrivateLocalSymbolTableFactory _lstFactory;
 
     IonCatalog  _catalog;
@@ -169,6 +172,29 @@ final class IonReaderBinaryUserX
     }
 
 
+    /**
+     * Restarts this reader at the beginning of the given binary data,
+     * reusing its input stream and buffers.  The reader must be reading a
+     * byte array.
+     */
+    final void reset(byte[] bytes, int offset, int length)
+    {
+        if (! isIonBinary(bytes, offset, length))
+        {
+            throw new IllegalArgumentException("Data isn't Ion binary");
+        }
+        FromByteArray input = (FromByteArray)_input;
+        input.reset(bytes, offset, length);
+        _physical_start_offset = offset;
+
+        re_init_raw();
+        _position_start = -1;
+        _annotations.clear();
+        clear_system_value_stack();
+        init_user(_catalog);
+    }
+
+
     @Override
     public IonType next()
     {
@@ -312,6 +338,11 @@ final class IonReaderBinaryUserX
             return facetType.cast(new SpanProviderFacet());
         }
 
+        if (facetType == FieldNameMatcher.class)
+        {
+            return facetType.cast(new FieldNameMatcherFacet());
+        }
+
         // TODO amzn/ion-java#17 support seeking over InputStream
         if (_input instanceof FromByteArray)
         {
@@ -319,6 +350,11 @@ final class IonReaderBinaryUserX
             {
                 return facetType.cast(new SeekableReaderFacet());
             }
+
+            if (facetType == ResettableReader.class)
+            {
+                return facetType.cast(new ResettableReaderFacet());
+            }
         }
 
         if (facetType == PrivateByteTransferReader.class)
@@ -392,4 +428,24 @@ final class IonReaderBinaryUserX
             sink.writeBytes(_input._bytes, inOffset, inLen);
         }
     }
+
+
+    private class FieldNameMatcherFacet
+        implements FieldNameMatcher
+    {
+        public boolean fieldNameEquals(CharSequence name)
+        {
+            return IonReaderBinaryUserX.this.fieldNameEquals(name);
+        }
+    }
+
+
+    private class ResettableReaderFacet
+        implements ResettableReader
+    {
+        public void reset(byte[] ionData, int offset, int length)
+        {
+            IonReaderBinaryUserX.this.reset(ionData, offset, length);
+        }
+    }
 }
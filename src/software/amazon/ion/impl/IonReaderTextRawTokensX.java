@@ -106,6 +106,11 @@ final class IonReaderTextRawTokensX
      */
     private int                 _base64_prefetch_stack;
 
+    /** when not null, used to jump over containers instead of scanning them */
+    private TextStructuralIndex _structural_index;
+    /** when true, containers are skipped without validating their contents */
+    private boolean             _lenient_skip;
+
 
     /**
      * IonTokenReader constructor requires a UnifiedInputStream
@@ -125,6 +130,21 @@ final class IonReaderTextRawTokensX
         _line_starting_position = _stream.getPosition() - starting_column;
     }
 
+    /**
+     * Restarts tokenizing at the current position of the source stream,
+     * after the stream has been reset onto new input.
+     */
+    final void re_init(long starting_line, long starting_column)
+    {
+        _token = -1;
+        _unfinished_token = false;
+        _line_count = starting_line;
+        _line_starting_position = _stream.getPosition() - starting_column;
+        _line_count_has_cached = false;
+        _base64_prefetch_count = 0;
+        _base64_prefetch_stack = 0;
+    }
+
     public void close()
         throws IOException
     {
@@ -141,6 +161,14 @@ final class IonReaderTextRawTokensX
 
     UnifiedInputStreamX getSourceStream() { return this._stream; }
 
+    final void setStructuralIndex(TextStructuralIndex index) {
+        _structural_index = index;
+    }
+
+    final void setLenientSkip(boolean lenient) {
+        _lenient_skip = lenient;
+    }
+
     public final boolean isBufferedInput()
     {
         boolean is_buffered = ! _stream._is_stream;
@@ -878,6 +906,7 @@ final class IonReaderTextRawTokensX
         int c;
 
         loop: for (;;) {
+            _stream.skipBlanks();
             c = read_char();
             switch (c) {
             case -1:
@@ -1208,6 +1237,13 @@ final class IonReaderTextRawTokensX
     private void skip_over_container(int terminator) throws IOException
     {
         assert( terminator == '}' || terminator == ']' || terminator == ')' );
+        if (_structural_index != null && jump_over_container(terminator)) {
+            return;
+        }
+        if (_lenient_skip) {
+            skip_over_container_leniently();
+            return;
+        }
         int c;
 
         for (;;) {
@@ -1284,6 +1320,196 @@ final class IonReaderTextRawTokensX
         }
     }
 
+    /**
+     * Moves past the end of the container we're in, if the structural index
+     * knows where it ends.
+     *
+     * @return false if the container has to be scanned.
+     */
+    private boolean jump_over_container(int terminator)
+    {
+        UnifiedInputStreamX stream = _stream;
+        TextStructuralIndex index = _structural_index;
+        if (stream._bytes != index.bytes) return false;
+
+        int entry = index.enclosing(stream._pos);
+        if (entry < 0) return false;
+
+        int end = index.closeEnd(entry);
+        if (end > stream._limit || stream._bytes[end - 1] != terminator) {
+            return false;
+        }
+
+        // the index counts lines from the start of the data, which is line 1
+        long line = 1 + index.linesBefore(entry);
+        if (line != _line_count) {
+            _line_count = line;
+            _line_starting_position =
+                stream.getPosition() + (index.lastNewline(entry) - stream._pos);
+        }
+        _line_count_has_cached = false;
+        stream._pos = end;
+        return true;
+    }
+
+    /**
+     * Skips to the end of the container we're in, looking only at the
+     * characters that delimit containers, strings, and comments.  The
+     * values within the container aren't validated, nor is the kind of
+     * bracket that closes each container.
+     */
+    private void skip_over_container_leniently() throws IOException
+    {
+        int depth = 1;
+        for (;;) {
+            _stream.skipToDelimiter();
+            int c = read_char();
+            switch (c) {
+            case -1:
+                unexpected_eof();
+                break;
+            case '{':
+                c = read_char();
+                if (c == '{') {
+                    skip_lob_leniently();
+                    break;
+                }
+                unread_char(c);
+                depth++;
+                break;
+            case '[':
+            case '(':
+                depth++;
+                break;
+            case '}':
+            case ']':
+            case ')':
+                if (--depth == 0) {
+                    return;
+                }
+                break;
+            case '"':
+                skip_quoted_leniently('"');
+                break;
+            case '\'':
+                if (is_2_single_quotes_helper()) {
+                    skip_long_string_leniently();
+                }
+                else {
+                    skip_quoted_leniently('\'');
+                }
+                break;
+            case '/':
+                c = read_char();
+                if (c == '/') {
+                    skip_single_line_comment();
+                }
+                else if (c == '*') {
+                    skip_block_comment();
+                }
+                else {
+                    unread_char(c);
+                }
+                break;
+            default:
+                // new lines, already counted
+                break;
+            }
+        }
+    }
+
+    /**
+     * Skips past the closing braces of a blob or clob without validating
+     * its content.  Base64 may contain slashes, so comments aren't
+     * recognized.
+     */
+    private void skip_lob_leniently() throws IOException
+    {
+        for (;;) {
+            _stream.skipToDelimiter();
+            int c = read_char();
+            switch (c) {
+            case -1:
+                unexpected_eof();
+                break;
+            case '}':
+                c = read_char();
+                if (c == '}') {
+                    return;
+                }
+                unread_char(c);
+                break;
+            case '"':
+                skip_quoted_leniently('"');
+                break;
+            case '\'':
+                if (is_2_single_quotes_helper()) {
+                    skip_long_string_leniently();
+                }
+                break;
+            default:
+                break;
+            }
+        }
+    }
+
+    /**
+     * Skips past the closing quote of a short string or quoted symbol
+     * without validating its content.
+     */
+    private void skip_quoted_leniently(int quote) throws IOException
+    {
+        for (;;) {
+            _stream.readPlainAscii(null, quote);
+            int c = read_char();
+            if (c == quote) {
+                return;
+            }
+            switch (c) {
+            case -1:
+                unexpected_eof();
+                break;
+            case '\\':
+                // the escaped character may be a new line, which is counted
+                if (read_char() == -1) {
+                    unexpected_eof();
+                }
+                break;
+            default:
+                break;
+            }
+        }
+    }
+
+    /**
+     * Skips past the closing quotes of a long string without validating
+     * its content.
+     */
+    private void skip_long_string_leniently() throws IOException
+    {
+        for (;;) {
+            _stream.readPlainAscii(null, '\'');
+            int c = read_char();
+            switch (c) {
+            case -1:
+                unexpected_eof();
+                break;
+            case '\'':
+                if (is_2_single_quotes_helper()) {
+                    return;
+                }
+                break;
+            case '\\':
+                if (read_char() == -1) {
+                    unexpected_eof();
+                }
+                break;
+            default:
+                break;
+            }
+        }
+    }
+
     private int skip_over_number(SavePoint sp) throws IOException
     {
         int c = read_char();
@@ -1916,6 +2142,7 @@ final class IonReaderTextRawTokensX
         // quoted symbol
 
         for (;;) {
+            _stream.readPlainAscii(null, '\'');
             c = read_string_char(ProhibitedCharacters.NONE);
             switch (c) {
             case -1: unexpected_eof();
@@ -1937,6 +2164,7 @@ final class IonReaderTextRawTokensX
         int c;
 
         for (;;) {
+            _stream.readPlainAscii(sb, '\'');
             c = read_string_char(ProhibitedCharacters.NONE);
             switch (c) {
             case CharacterSequence.CHAR_SEQ_ESCAPED_NEWLINE_SEQUENCE_1:
@@ -1988,6 +2216,7 @@ final class IonReaderTextRawTokensX
     {
         int c;
         for (;;) {
+            _stream.readPlainAscii(null, '"');
             c = read_string_char(ProhibitedCharacters.NONE);
             switch (c) {
             case -1:
@@ -2012,6 +2241,7 @@ final class IonReaderTextRawTokensX
         int c;
 
         for (;;) {
+            _stream.readPlainAscii(sb, '"');
             c = read_string_char(ProhibitedCharacters.SHORT_CHAR);
             switch (c) {
             case CharacterSequence.CHAR_SEQ_ESCAPED_NEWLINE_SEQUENCE_1:
@@ -271,6 +271,10 @@ abstract class IonReaderTextRawX
     IonType             _null_type;
     String              _field_name;
     int                 _field_name_sid = UNKNOWN_SYMBOL_ID;
+    // the field name's text is kept in this buffer until someone asks for
+    // it as a String, so skipping or comparing field names doesn't allocate
+    boolean             _field_name_buffered;
+    StringBuilder       _field_name_buffer;
     int                 _annotation_count;
     SymbolToken[]    _annotations;
 
@@ -281,6 +285,13 @@ abstract class IonReaderTextRawX
 
     ValueVariant        _v = new ValueVariant();
 
+    TextStructuralIndex _structural_index;
+    boolean             _lenient_skip;
+
+    // canonicalizes field names and annotations; created on first use
+    // unless a shared cache has been provided
+    PrivateTextSymbolCache _symbol_cache;
+
     long                _value_start_offset;
     long                _value_start_line;
     long                _value_start_column;
@@ -313,6 +324,7 @@ abstract class IonReaderTextRawX
 
     protected final void init_once() {
         _current_value_buffer = new StringBuilder();
+        _field_name_buffer = new StringBuilder();
         _annotations = new SymbolToken[DEFAULT_ANNOTATION_COUNT];
     }
 
@@ -328,10 +340,19 @@ abstract class IonReaderTextRawX
     ) {
 
         assert(parent != null);
-        _scanner = new IonReaderTextRawTokensX(iis, start_line, start_column);
+        if (_scanner != null && _scanner.getSourceStream() == iis) {
+            // the stream has been reset, so its save point can be reused
+            _scanner.re_init(start_line, start_column);
+            _current_value_save_point.clear();
+        }
+        else {
+            _scanner = new IonReaderTextRawTokensX(iis, start_line, start_column);
+            _current_value_save_point = iis.savePointAllocate();
+        }
+        _scanner.setStructuralIndex(_structural_index);
+        _scanner.setLenientSkip(_lenient_skip);
         _value_start_line = start_line;
         _value_start_column = start_column;
-        _current_value_save_point = iis.savePointAllocate();
         _lob_loaded = LOB_STATE.EMPTY;
         int starting_state = get_state_at_container_start(parent);
         set_state(starting_state);
@@ -354,8 +375,10 @@ abstract class IonReaderTextRawX
         _null_type = null;
         _field_name = null;
         _field_name_sid = UNKNOWN_SYMBOL_ID;
+        _field_name_buffered = false;
         _annotation_count = 0;
         _current_value_save_point_loaded = false;
+        _current_value_buffer.setLength(0);
         _current_value_buffer_loaded = false;
         _value_start_offset = 0;
         _lob_value_set = false;
@@ -372,6 +395,57 @@ abstract class IonReaderTextRawX
         }
     }
 
+    /**
+     * Restarts this reader at the top level of its source stream, which
+     * has been reset onto new input.  The reader's buffers are reused, and
+     * if the old input was indexed, the new input is indexed as well.
+     */
+    protected final void reset_raw()
+    {
+        boolean indexed = (_structural_index != null);
+        _structural_index = null;
+        re_init(_scanner.getSourceStream(), IonType.DATAGRAM, 1, 1);
+        _nesting_parent = null;
+        if (indexed) {
+            buildStructuralIndex();
+        }
+    }
+
+    /**
+     * Indexes the containers of the input so that skipping over them doesn't
+     * require tokenizing their contents.  Only text held in a byte array can
+     * be indexed; for other inputs this does nothing.
+     */
+    protected final void buildStructuralIndex()
+    {
+        UnifiedInputStreamX iis = _scanner.getSourceStream();
+        if (iis instanceof UnifiedInputStreamX.FromByteArray) {
+            int offset = iis._pos;
+            _structural_index =
+                TextStructuralIndex.build(iis._bytes, offset, iis._limit - offset);
+            _scanner.setStructuralIndex(_structural_index);
+        }
+    }
+
+    /**
+     * Uses the given cache to canonicalize field names and annotations,
+     * instead of one private to this reader.
+     */
+    final void setSymbolCache(PrivateTextSymbolCache cache)
+    {
+        _symbol_cache = cache;
+    }
+
+    /**
+     * Skips containers by matching their brackets, without validating the
+     * values within them.
+     */
+    final void setLenientSkip(boolean lenient)
+    {
+        _lenient_skip = lenient;
+        _scanner.setLenientSkip(lenient);
+    }
+
     public void close()
         throws IOException
     {
@@ -416,14 +490,57 @@ abstract class IonReaderTextRawX
         _v.setAuthoritativeType(PrivateScalarConversions.AS_TYPE.boolean_value);
     }
 
-    private final void set_fieldname(SymbolToken sym) {
-        _field_name = sym.getText();
-        _field_name_sid = sym.getSid();
+    private final void set_fieldname_sid(int sid) {
+        _field_name = null;
+        _field_name_sid = sid;
+        _field_name_buffered = false;
+    }
+
+    /**
+     * Takes the text of the field name from the current value buffer,
+     * which holds the field name token just loaded.  The buffers are
+     * swapped rather than copied, and the String isn't created until
+     * {@link #field_name_text()} is called.
+     */
+    private final void set_fieldname_from_buffer() {
+        StringBuilder name = _current_value_buffer;
+        _current_value_buffer = _field_name_buffer;
+        _current_value_buffer.setLength(0);
+        _field_name_buffer = name;
+        _field_name = null;
+        _field_name_sid = UNKNOWN_SYMBOL_ID;
+        _field_name_buffered = true;
+    }
+
+    /**
+     * Materializes the text of a field name or annotation through the
+     * symbol cache, so repeated names share one String.
+     */
+    private final String symbol_text(StringBuilder sb) {
+        PrivateTextSymbolCache cache = _symbol_cache;
+        if (cache == null) {
+            cache = new PrivateTextSymbolCache(PrivateTextSymbolCache.DEFAULT_CAPACITY);
+            _symbol_cache = cache;
+        }
+        return cache.intern(sb);
     }
 
     private final void clear_fieldname() {
         _field_name = null;
         _field_name_sid = UNKNOWN_SYMBOL_ID;
+        _field_name_buffered = false;
+    }
+
+    /**
+     * @return the text of the current field name, materializing it from
+     * the field name buffer if need be; null if there's no field name or
+     * it only has a symbol ID.
+     */
+    private final String field_name_text() {
+        if (_field_name == null && _field_name_buffered) {
+            _field_name = symbol_text(_field_name_buffer);
+        }
+        return _field_name;
     }
 
     private final void append_annotation(SymbolToken sym) {
@@ -737,9 +854,24 @@ abstract class IonReaderTextRawX
                                                   int t)
         throws IOException
     {
-        String text;
-        int sid;
+        int sid = parseSymbolId(context, sb, t);
+        String text = (sid == UNKNOWN_SYMBOL_ID ? symbol_text(sb) : null);
+        return new SymbolTokenImpl(text, sid);
+    }
 
+    /**
+     * Validates the text of a symbol token without converting it to a
+     * String.
+     *
+     * @return the symbol ID if the token is an identifier of the form
+     * <code>$&lt;digits&gt;</code>, otherwise {@link #UNKNOWN_SYMBOL_ID},
+     * in which case the token's text is the symbol's text.
+     */
+    private final int parseSymbolId(String context,
+                                    StringBuilder sb,
+                                    int t)
+        throws IOException
+    {
         if (t == IonTokenConstsX.TOKEN_SYMBOL_IDENTIFIER) {
             int kw = IonTokenConstsX.keyword(sb, 0, sb.length());
             switch (kw) {
@@ -753,21 +885,12 @@ abstract class IonReaderTextRawX
                         sb.toString() + " as " + context;
                     parse_error(reason);
                 case IonTokenConstsX.KEYWORD_sid:
-                    text = null;
-                    sid = IonTokenConstsX.decodeSid(sb);
-                    break;
+                    return IonTokenConstsX.decodeSid(sb);
                 default:
-                    text = sb.toString();
-                    sid = UNKNOWN_SYMBOL_ID;
                     break;
             }
         }
-        else {
-            text = sb.toString();
-            sid = UNKNOWN_SYMBOL_ID;
-        }
-
-        return new SymbolTokenImpl(text, sid);
+        return UNKNOWN_SYMBOL_ID;
     }
 
 
@@ -854,8 +977,13 @@ abstract class IonReaderTextRawX
 
                 sb = token_contents_load(t);
 
-                SymbolToken sym = parseSymbolToken("a field name", sb, t);
-                set_fieldname(sym);
+                int sid = parseSymbolId("a field name", sb, t);
+                if (sid == UNKNOWN_SYMBOL_ID) {
+                    set_fieldname_from_buffer();
+                }
+                else {
+                    set_fieldname_sid(sid);
+                }
                 clear_current_value_buffer();
 
                 t = _scanner.nextToken();
@@ -1282,7 +1410,7 @@ if (depth == debugging_depth) {
         // For hoisting
         if (getDepth() == 0 && is_in_struct_internal()) return null;
 
-        String name = _field_name;
+        String name = field_name_text();
         if (name == null && _field_name_sid > 0)
         {
             throw new UnknownSymbolException(_field_name_sid);
@@ -1294,7 +1422,44 @@ if (depth == debugging_depth) {
     {
         // For hoisting
         if (getDepth() == 0 && is_in_struct_internal()) return null;
-        return _field_name;
+        return field_name_text();
+    }
+
+    /**
+     * Compares the text of the current field name, as written in the
+     * input, without materializing it as a String.
+     *
+     * @return false if there's no field name or it only has a symbol ID,
+     * in which case the caller must resolve the ID itself.
+     */
+    final boolean rawFieldNameEquals(CharSequence name)
+    {
+        // For hoisting
+        if (getDepth() == 0 && is_in_struct_internal()) return false;
+
+        if (_field_name != null) {
+            return _field_name.contentEquals(name);
+        }
+        if (!_field_name_buffered) return false;
+
+        StringBuilder buffer = _field_name_buffer;
+        int length = buffer.length();
+        if (length != name.length()) return false;
+        for (int i = 0; i < length; i++) {
+            if (buffer.charAt(i) != name.charAt(i)) return false;
+        }
+        return true;
+    }
+
+    /**
+     * @return true if the current field name has text in the input, so
+     * {@link #rawFieldNameEquals(CharSequence)} is authoritative.
+     */
+    final boolean hasRawFieldNameText()
+    {
+        // For hoisting
+        if (getDepth() == 0 && is_in_struct_internal()) return false;
+        return _field_name_buffered || _field_name != null;
     }
 
     int getFieldId()
@@ -1309,7 +1474,7 @@ if (depth == debugging_depth) {
         // For hoisting
         if (getDepth() == 0 && is_in_struct_internal()) return null;
 
-        String name = _field_name;
+        String name = field_name_text();
         int sid = getFieldId();
         if (name == null && sid == UNKNOWN_SYMBOL_ID) return null;
         return new SymbolTokenImpl(name, sid);
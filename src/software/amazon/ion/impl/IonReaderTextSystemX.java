@@ -225,6 +225,11 @@ class IonReaderTextSystemX
 
         int token_type = _scanner.getToken();
 
+        if (load_small_number(cs, token_type)) {
+            clear_current_value_buffer();
+            return;
+        }
+
         if (_value_type == IonType.DECIMAL) {
             // we do this here (instead of in the case below
             // so that we can modify the value while it's not
@@ -428,6 +433,140 @@ class IonReaderTextSystemX
             parse_error("scalar token "+IonTokenConstsX.getTokenName(_scanner.getToken())+"isn't a recognized type");
         }
     }
+    /**
+     * Decimal digit strings up to this length always fit in a long.
+     */
+    private static final int MAX_SMALL_NUMBER_DIGITS = 18;
+
+    /**
+     * Exponents beyond this many digits are left to the text conversions.
+     */
+    private static final int MAX_SMALL_EXPONENT_DIGITS = 4;
+
+    /**
+     * The powers of ten that are exactly representable as doubles.
+     */
+    private static final double[] EXACT_DOUBLE_POWERS_OF_TEN = {
+        1e0,  1e1,  1e2,  1e3,  1e4,  1e5,  1e6,  1e7,  1e8,  1e9,  1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    /**
+     * Loads base-ten ints, decimals and floats whose digits fit in a long
+     * directly from the token text, without the intermediate String or
+     * BigDecimal parsing of the general case.
+     *
+     * @return false if the value wasn't loaded and must go through the
+     *  general case.
+     */
+    private final boolean load_small_number(CharSequence cs, int token_type)
+    {
+        switch (token_type) {
+        case IonTokenConstsX.TOKEN_UNKNOWN_NUMERIC:
+            if (_value_type == IonType.TIMESTAMP) return false;
+            break;
+        case IonTokenConstsX.TOKEN_INT:
+        case IonTokenConstsX.TOKEN_DECIMAL:
+        case IonTokenConstsX.TOKEN_FLOAT:
+            break;
+        default:
+            return false;
+        }
+
+        final int len = cs.length();
+        int pos = 0;
+        boolean is_negative = false;
+        if (len > 0 && cs.charAt(0) == '-') {
+            is_negative = true;
+            pos++;
+        }
+
+        // the significand, as an integer and the number of digits after the point
+        long digits = 0;
+        int digit_count = 0;
+        int fraction_count = 0;
+        boolean has_point = false;
+        for (; pos < len; pos++) {
+            char c = cs.charAt(pos);
+            if (c >= '0' && c <= '9') {
+                if (++digit_count > MAX_SMALL_NUMBER_DIGITS) return false;
+                digits = digits * 10 + (c - '0');
+                if (has_point) fraction_count++;
+            }
+            else if (c == '.' && !has_point) {
+                has_point = true;
+            }
+            else {
+                break;
+            }
+        }
+        if (digit_count == 0) return false;
+
+        int exponent = 0;
+        if (pos < len) {
+            char c = cs.charAt(pos++);
+            if (c != 'e' && c != 'E' && c != 'd' && c != 'D') return false;
+            boolean exponent_is_negative = false;
+            if (pos < len && (cs.charAt(pos) == '-' || cs.charAt(pos) == '+')) {
+                exponent_is_negative = (cs.charAt(pos) == '-');
+                pos++;
+            }
+            int exponent_count = 0;
+            for (; pos < len; pos++) {
+                c = cs.charAt(pos);
+                if (c < '0' || c > '9') return false;
+                if (++exponent_count > MAX_SMALL_EXPONENT_DIGITS) return false;
+                exponent = exponent * 10 + (c - '0');
+            }
+            if (exponent_count == 0) return false;
+            if (exponent_is_negative) exponent = -exponent;
+        }
+
+        switch (_value_type) {
+        case INT:
+            if (has_point || exponent != 0) return false;
+            long value = is_negative ? -digits : digits;
+            if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+                _v.setValue((int) value);
+            }
+            else {
+                _v.setValue(value);
+            }
+            return true;
+        case DECIMAL:
+            int scale = fraction_count - exponent;
+            if (digits == 0 && is_negative) {
+                _v.setValue(Decimal.negativeZero(scale));
+            }
+            else {
+                BigInteger unscaled = BigInteger.valueOf(is_negative ? -digits : digits);
+                _v.setValue(Decimal.valueOf(unscaled, scale));
+            }
+            return true;
+        case FLOAT:
+            // a significand below 2^53 and an exact power of ten give
+            // a correctly rounded result with a single operation
+            int power = exponent - fraction_count;
+            double d;
+            if (digits == 0) {
+                d = 0d;
+            }
+            else if (digits < (1L << 53) && power >= 0 && power < EXACT_DOUBLE_POWERS_OF_TEN.length) {
+                d = digits * EXACT_DOUBLE_POWERS_OF_TEN[power];
+            }
+            else if (digits < (1L << 53) && power < 0 && -power < EXACT_DOUBLE_POWERS_OF_TEN.length) {
+                d = digits / EXACT_DOUBLE_POWERS_OF_TEN[-power];
+            }
+            else {
+                return false;
+            }
+            _v.setValue(is_negative ? -d : d);
+            return true;
+        default:
+            return false;
+        }
+    }
+
     private final void cast_cached_value(int new_type)
     {
         // this should only be called when it actually has to do some work
@@ -652,6 +791,27 @@ class IonReaderTextSystemX
         return text;
     }
 
+    /**
+     * Compares the current field name without materializing its text,
+     * resolving it through the symbol table only if it's written as a
+     * symbol ID.
+     */
+    final boolean fieldNameEquals(CharSequence name)
+    {
+        // Superclass handles hoisting logic
+        if (hasRawFieldNameText())
+        {
+            return rawFieldNameEquals(name);
+        }
+        int id = super.getFieldId();
+        if (id == SymbolTable.UNKNOWN_SYMBOL_ID)
+        {
+            return false;
+        }
+        String text = getSymbolTable().findKnownSymbol(id);
+        return text != null && text.contentEquals(name);
+    }
+
     @Override
     public SymbolToken getFieldNameSymbol()
     {
@@ -16,11 +16,15 @@ package software.amazon.ion.impl;
 
 import static software.amazon.ion.SystemSymbols.ION_1_0;
 import static software.amazon.ion.SystemSymbols.ION_SYMBOL_TABLE;
+import static software.amazon.ion.util.IonStreamUtils.isGzip;
+import static software.amazon.ion.util.IonStreamUtils.isIonBinary;
 
 import java.util.regex.Pattern;
+import software.amazon.ion.FieldNameMatcher;
 import software.amazon.ion.IonCatalog;
 import software.amazon.ion.IonType;
 import software.amazon.ion.OffsetSpan;
+import software.amazon.ion.ResettableReader;
 import software.amazon.ion.SeekableReader;
 import software.amazon.ion.Span;
 import software.amazon.ion.SpanProvider;
@@ -29,6 +33,7 @@ import software.amazon.ion.SymbolToken;
 import software.amazon.ion.TextSpan;
 import software.amazon.ion.UnknownSymbolException;
 import software.amazon.ion.UnsupportedIonVersionException;
+import software.amazon.ion.impl.UnifiedInputStreamX.FromByteArray;
 
 /**
  *    The text user reader add support for symbols and recognizes,
@@ -61,7 +66,7 @@ class IonReaderTextUserX
      * It must be subtracted from the logical offsets exposed by
      * {@link OffsetSpan}s.
      */
-    private final int _physical_start_offset;
+    private int _physical_start_offset;
     private final PrivateLocalSymbolTableFactory _lstFactory;
 
     // IonSystem   _system; now in IonReaderTextSystemX where it could be null
@@ -389,6 +394,25 @@ class IonReaderTextUserX
     }
 
 
+    /**
+     * Restarts this reader at the beginning of the given text, reusing its
+     * input stream and buffers.  The reader must be reading a byte array.
+     */
+    final void reset(byte[] bytes, int offset, int length)
+    {
+        if (isIonBinary(bytes, offset, length) || isGzip(bytes, offset, length))
+        {
+            throw new IllegalArgumentException("Data isn't Ion text");
+        }
+        FromByteArray iis = (FromByteArray) _scanner.getSourceStream();
+        iis.reset(bytes, offset, length);
+        _physical_start_offset = offset;
+        clear_system_value_stack();
+        _symbols = _system_symtab;
+        reset_raw();
+    }
+
+
     //========================================================================
 
 
@@ -400,11 +424,22 @@ class IonReaderTextUserX
             return facetType.cast(new SpanProviderFacet());
         }
 
+        if (facetType == FieldNameMatcher.class)
+        {
+            return facetType.cast(new FieldNameMatcherFacet());
+        }
+
         if (facetType == SeekableReader.class && _scanner.isBufferedInput())
         {
             return facetType.cast(new SeekableReaderFacet());
         }
 
+        if (facetType == ResettableReader.class
+            && _scanner.getSourceStream() instanceof FromByteArray)
+        {
+            return facetType.cast(new ResettableReaderFacet());
+        }
+
         return super.asFacet(facetType);
     }
 
@@ -428,4 +463,24 @@ class IonReaderTextUserX
             hoistImpl(span);
         }
     }
+
+
+    private class FieldNameMatcherFacet
+        implements FieldNameMatcher
+    {
+        public boolean fieldNameEquals(CharSequence name)
+        {
+            return IonReaderTextUserX.this.fieldNameEquals(name);
+        }
+    }
+
+
+    private class ResettableReaderFacet
+        implements ResettableReader
+    {
+        public void reset(byte[] ionData, int offset, int length)
+        {
+            IonReaderTextUserX.this.reset(ionData, offset, length);
+        }
+    }
 }
@@ -511,8 +511,25 @@ final class IonTokenConstsX
         int length = sidToken.length();
         assert length > 1;
 
-        String digits = sidToken.subSequence(1, length).toString();
-        return Integer.parseInt(digits);
+        // accumulate negatively, as Integer.parseInt does, to detect overflow
+        int sid = 0;
+        for (int i = 1; i < length; i++)
+        {
+            int digit = sidToken.charAt(i) - '0';
+            if (digit < 0 || digit > 9 || sid < -(Integer.MAX_VALUE / 10)
+                || (sid = sid * 10 - digit) > 0)
+            {
+                // let parseInt produce the usual exception
+                String digits = sidToken.subSequence(1, length).toString();
+                return Integer.parseInt(digits);
+            }
+        }
+        if (sid == Integer.MIN_VALUE)
+        {
+            String digits = sidToken.subSequence(1, length).toString();
+            return Integer.parseInt(digits);
+        }
+        return -sid;
     }
 
     static public int keyword(CharSequence word, int start_word, int end_word)
@@ -16,6 +16,7 @@ package software.amazon.ion.impl;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.channels.WritableByteChannel;
 import software.amazon.ion.IonCatalog;
 import software.amazon.ion.IonException;
 import software.amazon.ion.IonSystem;
@@ -288,6 +289,20 @@ public class PrivateIonBinaryWriterBuilder
         }
     }
 
+    @Override
+    public final IonWriter build(WritableByteChannel out)
+    {
+        PrivateIonBinaryWriterBuilder b = fillDefaults();
+        try
+        {
+            return b.myBinaryWriterBuilder.newWriter(out);
+        }
+        catch (final IOException e)
+        {
+            throw new IonException("I/O Error", e);
+        }
+    }
+
     //=========================================================================
 
 
@@ -0,0 +1,231 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion.impl;
+
+import static software.amazon.ion.impl.PrivateIonConstants.BINARY_VERSION_MARKER_SIZE;
+import static software.amazon.ion.util.IonStreamUtils.isIonBinary;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import software.amazon.ion.IonCatalog;
+import software.amazon.ion.IonException;
+import software.amazon.ion.IonReader;
+import software.amazon.ion.SymbolTable;
+
+/**
+ * A run of consecutive top-level values within Ion data, along with the
+ * symbol table in effect at its start, such that it can be read
+ * independently of (and concurrently with) the rest of the data.
+ * <p>
+ * Binary data is split by walking the top-level values with a user reader.
+ * That only decodes value headers and local symbol tables; the bodies of
+ * other values are skipped using their encoded lengths.  Text (and gzipped)
+ * data can't be split without parsing it, so it always forms a single chunk.
+ *
+ * @deprecated This is an internal API that is subject to change without notice.
+ */
+@Deprecated
+public final class PrivateIonChunk
+{
+    private final byte[]      _bytes;
+    private final ByteBuffer  _buffer;
+    private final int         _offset;
+    private final int         _length;
+    private final boolean     _binary;
+    private final SymbolTable _symbols;
+
+    private PrivateIonChunk(byte[] bytes, ByteBuffer buffer,
+                            int offset, int length,
+                            boolean binary, SymbolTable symbols)
+    {
+        _bytes   = bytes;
+        _buffer  = buffer;
+        _offset  = offset;
+        _length  = length;
+        _binary  = binary;
+        _symbols = symbols;
+    }
+
+    /**
+     * Splits data into chunks of roughly {@code chunkSize} bytes each.
+     * A chunk only ends on a top-level value boundary, so a large value
+     * makes for a large chunk.
+     *
+     * @return the chunks, in order; not empty.
+     */
+    public static List<PrivateIonChunk> split(IonCatalog catalog,
+                                              byte[] bytes,
+                                              int offset,
+                                              int length,
+                                              int chunkSize)
+    {
+        if (! isIonBinary(bytes, offset, length))
+        {
+            List<PrivateIonChunk> chunks = new ArrayList<PrivateIonChunk>(1);
+            chunks.add(new PrivateIonChunk(bytes, null, offset, length,
+                                           false, null));
+            return chunks;
+        }
+
+        UnifiedInputStreamX uis =
+            UnifiedInputStreamX.makeStream(bytes, offset, length);
+        return split(catalog, bytes, null, offset, length, uis, chunkSize);
+    }
+
+    /**
+     * Splits the remaining content of a buffer into chunks of roughly
+     * {@code chunkSize} bytes each.  The buffer's position and limit aren't
+     * changed, but its content must not be modified while the chunks are
+     * in use.
+     *
+     * @return the chunks, in order; not empty.
+     */
+    public static List<PrivateIonChunk> split(IonCatalog catalog,
+                                              ByteBuffer buffer,
+                                              int chunkSize)
+    {
+        if (buffer.hasArray())
+        {
+            int offset = buffer.arrayOffset() + buffer.position();
+            return split(catalog, buffer.array(), offset, buffer.remaining(),
+                         chunkSize);
+        }
+
+        int length = buffer.remaining();
+        byte[] cookie = new byte[Math.min(length, BINARY_VERSION_MARKER_SIZE)];
+        buffer.duplicate().get(cookie);
+        if (! isIonBinary(cookie))
+        {
+            List<PrivateIonChunk> chunks = new ArrayList<PrivateIonChunk>(1);
+            chunks.add(new PrivateIonChunk(null, buffer, buffer.position(),
+                                           length, false, null));
+            return chunks;
+        }
+
+        try {
+            UnifiedInputStreamX uis =
+                UnifiedInputStreamX.makeStream(new ByteBuffer[] { buffer });
+            return split(catalog, null, buffer, buffer.position(), length,
+                         uis, chunkSize);
+        }
+        catch (IOException e) {
+            throw new IonException(e);
+        }
+    }
+
+    private static List<PrivateIonChunk> split(IonCatalog catalog,
+                                               byte[] bytes,
+                                               ByteBuffer buffer,
+                                               int offset,
+                                               int length,
+                                               UnifiedInputStreamX uis,
+                                               int chunkSize)
+    {
+        // Positions reported by a byte[] stream include the offset into
+        // the array, while a buffer stream counts from its first byte.
+        int physicalStart = (bytes == null ? 0 : offset);
+        IonReaderBinaryUserX scanner =
+            new IonReaderBinaryUserX(catalog,
+                                     LocalSymbolTable.DEFAULT_LST_FACTORY,
+                                     uis, physicalStart);
+
+        List<PrivateIonChunk> chunks = new ArrayList<PrivateIonChunk>();
+        int chunkStart = 0;
+        SymbolTable chunkSymbols = null;
+        while (scanner.next() != null)
+        {
+            int start = (int) (scanner._position_start - physicalStart);
+            if (start - chunkStart >= chunkSize)
+            {
+                chunks.add(new PrivateIonChunk(bytes, buffer,
+                                               offset + chunkStart,
+                                               start - chunkStart,
+                                               true, chunkSymbols));
+                chunkStart = start;
+                chunkSymbols = scanner.getSymbolTable();
+            }
+        }
+        chunks.add(new PrivateIonChunk(bytes, buffer,
+                                       offset + chunkStart,
+                                       length - chunkStart,
+                                       true, chunkSymbols));
+        return chunks;
+    }
+
+    /**
+     * The number of bytes of data in this chunk.
+     */
+    public int length()
+    {
+        return _length;
+    }
+
+    /**
+     * Creates a user reader over the values in this chunk.  The reader
+     * starts out with the symbol table that was in effect at the start of
+     * the chunk, so symbols are resolved exactly as they would be by a
+     * reader over the whole data.
+     */
+    public IonReader newReader(IonCatalog catalog)
+    {
+        if (! _binary)
+        {
+            if (_bytes != null)
+            {
+                return PrivateIonReaderFactory.makeReader(catalog, _bytes,
+                                                          _offset, _length);
+            }
+            return PrivateIonReaderFactory.makeReader(catalog, slice());
+        }
+
+        UnifiedInputStreamX uis;
+        int physicalStart;
+        if (_bytes != null)
+        {
+            uis = UnifiedInputStreamX.makeStream(_bytes, _offset, _length);
+            physicalStart = _offset;
+        }
+        else
+        {
+            try {
+                uis = UnifiedInputStreamX.makeStream(new ByteBuffer[] { slice() });
+            }
+            catch (IOException e) {
+                throw new IonException(e);
+            }
+            physicalStart = 0;
+        }
+
+        IonReaderBinaryUserX reader =
+            new IonReaderBinaryUserX(catalog,
+                                     LocalSymbolTable.DEFAULT_LST_FACTORY,
+                                     uis, physicalStart);
+        if (_symbols != null)
+        {
+            reader._symbols = _symbols;
+        }
+        return reader;
+    }
+
+    private ByteBuffer slice()
+    {
+        ByteBuffer slice = _buffer.duplicate();
+        slice.limit(_offset + _length);
+        slice.position(_offset);
+        return slice;
+    }
+}
@@ -22,9 +22,13 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
 import java.util.zip.GZIPInputStream;
 import software.amazon.ion.IonCatalog;
 import software.amazon.ion.IonException;
+import software.amazon.ion.IonIncrementalReader;
 import software.amazon.ion.IonReader;
 import software.amazon.ion.IonSystem;
 import software.amazon.ion.IonValue;
@@ -36,6 +40,13 @@ import software.amazon.ion.util.IonStreamUtils;
 @Deprecated
 public final class PrivateIonReaderFactory
 {
+    /**
+     * Size of the regions mapped by {@link #makeReader(IonCatalog, FileChannel)}.
+     * A single {@link ByteBuffer} can't address more than 2GB, so larger
+     * files are mapped as a sequence of chunks.
+     */
+    static final int MAPPED_CHUNK_SIZE = 1 << 30;
+
     public static final IonReader makeReader(IonCatalog catalog,
                                              byte[] bytes)
     {
@@ -71,6 +82,74 @@ public final class PrivateIonReaderFactory
         }
     }
 
+    /**
+     * Makes the given reader, if it's a text reader, canonicalize the text
+     * of field names and annotations through the given cache, which may be
+     * shared with other readers.
+     *
+     * @return the given reader.
+     */
+    public static final IonReader useSymbolCache(IonReader reader,
+                                                 PrivateTextSymbolCache cache)
+    {
+        if (reader instanceof IonReaderTextRawX)
+        {
+            ((IonReaderTextRawX) reader).setSymbolCache(cache);
+        }
+        return reader;
+    }
+
+    /**
+     * @return true if the given reader is reading Ion binary data, false
+     * if it's reading text or is a tree reader.
+     */
+    public static final boolean isBinaryReader(IonReader reader)
+    {
+        return reader instanceof IonReaderBinaryRawX;
+    }
+
+    /**
+     * Makes the given reader, if it's a text reader, skip containers by
+     * matching their brackets instead of tokenizing their contents.  Syntax
+     * errors within skipped containers aren't detected.
+     *
+     * @return the given reader.
+     */
+    public static final IonReader useLenientSkip(IonReader reader)
+    {
+        if (reader instanceof IonReaderTextRawX)
+        {
+            ((IonReaderTextRawX) reader).setLenientSkip(true);
+        }
+        return reader;
+    }
+
+    /**
+     * Like {@link #makeReader(IonCatalog, byte[], int, int)}, but if the
+     * data is text, the reader first indexes its containers so that it can
+     * skip over them without tokenizing their contents.
+     */
+    public static final IonReader makeIndexedReader(IonCatalog catalog,
+                                                    byte[] bytes,
+                                                    int offset,
+                                                    int length)
+    {
+        try
+        {
+            UnifiedInputStreamX uis = makeUnifiedStream(bytes, offset, length);
+            IonReader r = makeReader(catalog, uis, offset, LocalSymbolTable.DEFAULT_LST_FACTORY);
+            if (r instanceof IonReaderTextUserX)
+            {
+                ((IonReaderTextUserX) r).buildStructuralIndex();
+            }
+            return r;
+        }
+        catch (IOException e)
+        {
+            throw new IonException(e);
+        }
+    }
+
     public static final IonReader makeReader(IonCatalog catalog,
                                              byte[] bytes,
                                              int offset,
@@ -203,6 +282,74 @@ public final class PrivateIonReaderFactory
         }
     }
 
+    /**
+     * Reads the buffer's content from its position to its limit, without
+     * modifying either.  Array-backed buffers are read in place, exactly like
+     * {@link #makeReader(IonCatalog, byte[], int, int)}; direct and read-only
+     * buffers are paged without an intermediate copy of the whole content.
+     */
+    public static final IonReader makeReader(IonCatalog catalog,
+                                             ByteBuffer buffer)
+    {
+        return makeReader(catalog, buffer, LocalSymbolTable.DEFAULT_LST_FACTORY);
+    }
+
+    public static final IonReader makeReader(IonCatalog catalog,
+                                             ByteBuffer buffer,
+                                             PrivateLocalSymbolTableFactory lstFactory)
+    {
+        if (buffer.hasArray())
+        {
+            int offset = buffer.arrayOffset() + buffer.position();
+            return makeReader(catalog, buffer.array(), offset,
+                              buffer.remaining(), lstFactory);
+        }
+
+        try {
+            UnifiedInputStreamX uis =
+                makeUnifiedStream(new ByteBuffer[] { buffer });
+            return makeReader(catalog, uis, 0, lstFactory);
+        }
+        catch (IOException e) {
+            throw new IonException(e);
+        }
+    }
+
+    /**
+     * Memory-maps the entire content of the channel, from position zero, and
+     * reads from the mapped regions.  The channel is not used after this
+     * method returns and may be closed by the caller.
+     */
+    public static final IonReader makeReader(IonCatalog catalog,
+                                             FileChannel channel)
+    {
+        return makeReader(catalog, channel, LocalSymbolTable.DEFAULT_LST_FACTORY);
+    }
+
+    public static final IonReader makeReader(IonCatalog catalog,
+                                             FileChannel channel,
+                                             PrivateLocalSymbolTableFactory lstFactory)
+    {
+        try {
+            UnifiedInputStreamX uis = makeUnifiedStream(map(channel));
+            return makeReader(catalog, uis, 0, lstFactory);
+        }
+        catch (IOException e) {
+            throw new IonException(e);
+        }
+    }
+
+    public static final IonIncrementalReader makeIncrementalReader(IonCatalog catalog)
+    {
+        return makeIncrementalReader(catalog, LocalSymbolTable.DEFAULT_LST_FACTORY);
+    }
+
+    public static final IonIncrementalReader makeIncrementalReader(IonCatalog catalog,
+                                                                   PrivateLocalSymbolTableFactory lstFactory)
+    {
+        return IonReaderBinaryIncrementalX.make(catalog, lstFactory);
+    }
+
     public static final IonReader makeReader(IonCatalog catalog,
                                              Reader chars)
     {
@@ -321,6 +468,103 @@ public final class PrivateIonReaderFactory
         return uis;
     }
 
+    private static UnifiedInputStreamX makeUnifiedStream(ByteBuffer[] buffers)
+        throws IOException
+    {
+        UnifiedInputStreamX uis;
+        if (isGzip(buffers))
+        {
+            InputStream in = new ByteBuffersInputStream(buffers);
+            uis = UnifiedInputStreamX.makeStream(new GZIPInputStream(in));
+        }
+        else
+        {
+            uis = UnifiedInputStreamX.makeStream(buffers);
+        }
+        return uis;
+    }
+
+    private static ByteBuffer[] map(FileChannel channel)
+        throws IOException
+    {
+        long size = channel.size();
+        int count = (int) ((size + MAPPED_CHUNK_SIZE - 1) / MAPPED_CHUNK_SIZE);
+        ByteBuffer[] buffers = new ByteBuffer[count];
+        long position = 0;
+        for (int ii=0; ii<count; ii++) {
+            long len = Math.min(MAPPED_CHUNK_SIZE, size - position);
+            buffers[ii] = channel.map(MapMode.READ_ONLY, position, len);
+            position += len;
+        }
+        return buffers;
+    }
+
+    private static boolean isGzip(ByteBuffer[] buffers)
+    {
+        byte[] header = new byte[2];
+        int len = 0;
+        for (ByteBuffer buffer : buffers) {
+            for (int pos = buffer.position();
+                 pos < buffer.limit() && len < header.length;
+                 pos++) {
+                header[len++] = buffer.get(pos);
+            }
+        }
+        return IonStreamUtils.isGzip(header, 0, len);
+    }
+
+    /**
+     * Adapts a sequence of buffers for use by {@link GZIPInputStream}, which
+     * requires an {@link InputStream}.
+     */
+    private static final class ByteBuffersInputStream
+        extends InputStream
+    {
+        private final ByteBuffer[] myBuffers;
+        private int myIndex;
+
+        ByteBuffersInputStream(ByteBuffer[] buffers)
+        {
+            myBuffers = new ByteBuffer[buffers.length];
+            for (int ii=0; ii<buffers.length; ii++) {
+                myBuffers[ii] = buffers[ii].duplicate();
+            }
+        }
+
+        private ByteBuffer current()
+        {
+            while (myIndex < myBuffers.length) {
+                if (myBuffers[myIndex].hasRemaining()) {
+                    return myBuffers[myIndex];
+                }
+                myIndex++;
+            }
+            return null;
+        }
+
+        @Override
+        public int read()
+        {
+            ByteBuffer buffer = current();
+            return (buffer == null) ? -1 : (buffer.get() & 0xff);
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len)
+        {
+            if (len == 0) {
+                return 0;
+            }
+            ByteBuffer buffer = current();
+            if (buffer == null) {
+                return -1;
+            }
+            len = Math.min(len, buffer.remaining());
+            buffer.get(b, off, len);
+            return len;
+        }
+    }
+
     private static final boolean has_binary_cookie(UnifiedInputStreamX uis)
         throws IOException
     {
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion.impl;
+
+/**
+ * NOT FOR APPLICATION USE!
+ * <p>
+ * A bounded cache of the text of field names and annotations parsed by text
+ * readers, so that the same name read repeatedly is materialized as the same
+ * {@link String} instance.  Besides saving allocation, this lets hash-based
+ * lookups of the names (as in the DOM's structs) use the cached hash code
+ * and an identity comparison.
+ * <p>
+ * The cache is direct-mapped: each name hashes to a single slot, and a name
+ * that collides with the current occupant replaces it.  Names longer than
+ * {@link #MAX_LENGTH} aren't cached.
+ * <p>
+ * This class is thread-safe, so one instance may be shared by readers on
+ * different threads.  Racing updates of a slot may lose an entry, which
+ * only costs a later miss.
+ */
+public final class PrivateTextSymbolCache
+{
+    /** The number of slots of caches created by a reader for its own use. */
+    static final int DEFAULT_CAPACITY = 256;
+
+    /** The length of the longest text that is cached. */
+    static final int MAX_LENGTH = 32;
+
+    private final String[] mySlots;
+    private final int      myMask;
+
+    /**
+     * @param capacity the number of names the cache can hold, which is
+     * rounded up to a power of two.
+     */
+    public PrivateTextSymbolCache(int capacity)
+    {
+        if (capacity < 1)
+        {
+            throw new IllegalArgumentException("Invalid capacity: " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity)
+        {
+            size <<= 1;
+        }
+        mySlots = new String[size];
+        myMask = size - 1;
+    }
+
+    /**
+     * Returns the cached String with the given text, first caching a new
+     * instance if there is none.
+     *
+     * @param text must not be null.
+     */
+    public String intern(CharSequence text)
+    {
+        int length = text.length();
+        if (length > MAX_LENGTH)
+        {
+            return text.toString();
+        }
+
+        // same as String.hashCode(), which the cached instance will reuse
+        int hash = 0;
+        for (int i = 0; i < length; i++)
+        {
+            hash = 31 * hash + text.charAt(i);
+        }
+        int slot = (hash ^ (hash >>> 16)) & myMask;
+
+        String cached = mySlots[slot];
+        if (cached != null && cached.length() == length)
+        {
+            int i = 0;
+            while (i < length && cached.charAt(i) == text.charAt(i))
+            {
+                i++;
+            }
+            if (i == length)
+            {
+                return cached;
+            }
+        }
+
+        cached = text.toString();
+        mySlots[slot] = cached;
+        return cached;
+    }
+}
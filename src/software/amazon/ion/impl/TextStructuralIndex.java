@@ -0,0 +1,424 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion.impl;
+
+import static software.amazon.ion.impl.UnifiedInputStreamX.bytes_equal_to;
+import static software.amazon.ion.impl.UnifiedInputStreamX.delimiter_bytes;
+import static software.amazon.ion.impl.UnifiedInputStreamX.is_delimiter;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+/**
+ * An index of the containers in a block of UTF-8 Ion text, mapping the
+ * position of each container's opening character to the position just past
+ * its closing character, so that {@link IonReaderTextRawTokensX} can skip a
+ * container without tokenizing its contents.
+ * <p>
+ * The index is built in a single pass over the bytes which looks for the
+ * characters that delimit containers, strings, comments, and lobs, scanning
+ * eight bytes at a time between them.  It also counts the line terminators
+ * it passes, so that the tokenizer's line numbers stay correct across a jump.
+ * <p>
+ * The index doesn't validate the text.  If it finds unbalanced or
+ * unterminated syntax it stops, and the containers it hasn't closed by then
+ * are left to be skipped the usual way, which reports the error.
+ */
+final class TextStructuralIndex
+{
+    private static final int INITIAL_CAPACITY = 64;
+
+    final byte[] bytes;
+    private final int end;
+    private final ByteBuffer words;
+
+    // one entry per container, in order of their opening characters
+    private int[] opens;
+    private int[] closes;        // just past the closing character, or -1
+    private int[] parents;       // the enclosing container's entry, or -1
+    private int[] closeLines;    // line terminators before closes[i]
+    private int[] lastNewlines;  // the last line terminator before closes[i]
+    private int   count;
+
+    // the entries of the containers we're in while indexing
+    private int[] stack;
+    private int   depth;
+
+    private int   lines;
+    private int   lastNewline = -1;
+
+    private TextStructuralIndex(byte[] bytes, int end)
+    {
+        this.bytes = bytes;
+        this.end = end;
+        this.words = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+        opens = new int[INITIAL_CAPACITY];
+        closes = new int[INITIAL_CAPACITY];
+        parents = new int[INITIAL_CAPACITY];
+        closeLines = new int[INITIAL_CAPACITY];
+        lastNewlines = new int[INITIAL_CAPACITY];
+        stack = new int[16];
+    }
+
+    /**
+     * Indexes the containers of the UTF-8 text in the given range.
+     */
+    static TextStructuralIndex build(byte[] bytes, int offset, int length)
+    {
+        TextStructuralIndex index = new TextStructuralIndex(bytes, offset + length);
+        index.index(offset);
+        index.stack = null;
+        return index;
+    }
+
+    /**
+     * Finds the innermost container whose content includes the given
+     * position, which must be outside of any string, comment, or lob.
+     * The position of a container's closing character is part of its
+     * content.
+     *
+     * @return the container's entry, or -1 if the position isn't within
+     * a container or the container wasn't closed.
+     */
+    int enclosing(int pos)
+    {
+        // find the last container opened before the position...
+        int entry = -1;
+        int low = 0;
+        int high = count - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (opens[mid] < pos) {
+                entry = mid;
+                low = mid + 1;
+            }
+            else {
+                high = mid - 1;
+            }
+        }
+        // ...then go out past the ones that have already been closed
+        while (entry >= 0 && closes[entry] >= 0 && closes[entry] <= pos) {
+            entry = parents[entry];
+        }
+        if (entry < 0 || closes[entry] < 0) return -1;
+        return entry;
+    }
+
+    /** @return the position just past the entry's closing character. */
+    int closeEnd(int entry)
+    {
+        return closes[entry];
+    }
+
+    /**
+     * @return the number of line terminators from the start of the data
+     * to the end of the entry.
+     */
+    int linesBefore(int entry)
+    {
+        return closeLines[entry];
+    }
+
+    /**
+     * @return the position of the last line terminator before the end of
+     * the entry, or -1 if there is none.
+     */
+    int lastNewline(int entry)
+    {
+        return lastNewlines[entry];
+    }
+
+    //========================================================================
+    // Indexing
+
+    private void index(int pos)
+    {
+        final byte[] bytes = this.bytes;
+        final int end = this.end;
+
+        for (;;) {
+            pos = findPlain(pos);
+            if (pos >= end) return;
+
+            int c = bytes[pos];
+            switch (c) {
+            case '\n':
+            case '\r':
+                pos = newline(pos);
+                break;
+            case '{':
+                if (pos + 1 < end && bytes[pos + 1] == '{') {
+                    pos = skipLob(pos + 2);
+                }
+                else {
+                    open(pos);
+                    pos++;
+                }
+                break;
+            case '[':
+            case '(':
+                open(pos);
+                pos++;
+                break;
+            case '}':
+            case ']':
+            case ')':
+                if (!close(pos, c)) return;
+                pos++;
+                break;
+            case '"':
+                pos = skipQuoted(pos + 1, '"');
+                break;
+            case '\'':
+                if (pos + 2 < end && bytes[pos + 1] == '\'' && bytes[pos + 2] == '\'') {
+                    pos = skipLongString(pos + 3);
+                }
+                else {
+                    pos = skipQuoted(pos + 1, '\'');
+                }
+                break;
+            case '/':
+                if (pos + 1 < end && bytes[pos + 1] == '/') {
+                    // the line terminator is counted by the next pass
+                    pos = find(pos + 2, '\n', '\r', '\r', '\r', '\r');
+                }
+                else if (pos + 1 < end && bytes[pos + 1] == '*') {
+                    pos = skipBlockComment(pos + 2);
+                }
+                else {
+                    pos++;
+                }
+                break;
+            default:
+                throw new IllegalStateException();
+            }
+            if (pos < 0) return;
+        }
+    }
+
+    private void open(int pos)
+    {
+        if (count == opens.length) {
+            int capacity = count * 2;
+            opens = Arrays.copyOf(opens, capacity);
+            closes = Arrays.copyOf(closes, capacity);
+            parents = Arrays.copyOf(parents, capacity);
+            closeLines = Arrays.copyOf(closeLines, capacity);
+            lastNewlines = Arrays.copyOf(lastNewlines, capacity);
+        }
+        if (depth == stack.length) {
+            stack = Arrays.copyOf(stack, depth * 2);
+        }
+        opens[count] = pos;
+        closes[count] = -1;
+        parents[count] = (depth == 0 ? -1 : stack[depth - 1]);
+        stack[depth++] = count;
+        count++;
+    }
+
+    private boolean close(int pos, int c)
+    {
+        if (depth == 0) return false;
+
+        int entry = stack[--depth];
+        int open = bytes[opens[entry]];
+        if ((c == '}' && open != '{') || (c == ']' && open != '[')
+            || (c == ')' && open != '(')) {
+            return false;
+        }
+        closes[entry] = pos + 1;
+        closeLines[entry] = lines;
+        lastNewlines[entry] = lastNewline;
+        return true;
+    }
+
+    /**
+     * Counts the line terminator at the given position, treating CR LF as
+     * one, just as {@link IonReaderTextRawTokensX} does.
+     *
+     * @return the position after the terminator.
+     */
+    private int newline(int pos)
+    {
+        if (bytes[pos] == '\r' && pos + 1 < end && bytes[pos + 1] == '\n') {
+            pos++;
+        }
+        lines++;
+        lastNewline = pos;
+        return pos + 1;
+    }
+
+    /**
+     * Handles a backslash escape in a string, including escaped newlines.
+     *
+     * @return the position after the escape, or -1 at the end of the data.
+     */
+    private int escape(int pos)
+    {
+        pos++;
+        if (pos >= end) return -1;
+        int c = bytes[pos];
+        if (c == '\n' || c == '\r') {
+            return newline(pos);
+        }
+        return pos + 1;
+    }
+
+    /**
+     * @return the position after the closing quote, or -1 if the string is
+     * unterminated or contains a line terminator, which the tokenizer will
+     * report.
+     */
+    private int skipQuoted(int pos, int quote)
+    {
+        for (;;) {
+            pos = find(pos, quote, '\\', '\n', '\r', '\r');
+            if (pos >= end) return -1;
+            int c = bytes[pos];
+            if (c == quote) {
+                return pos + 1;
+            }
+            if (c != '\\') return -1;
+            pos = escape(pos);
+            if (pos < 0) return -1;
+        }
+    }
+
+    private int skipLongString(int pos)
+    {
+        for (;;) {
+            pos = find(pos, '\'', '\\', '\n', '\r', '\r');
+            if (pos >= end) return -1;
+            switch (bytes[pos]) {
+            case '\'':
+                if (pos + 2 < end && bytes[pos + 1] == '\'' && bytes[pos + 2] == '\'') {
+                    return pos + 3;
+                }
+                pos++;
+                break;
+            case '\\':
+                pos = escape(pos);
+                if (pos < 0) return -1;
+                break;
+            default:
+                pos = newline(pos);
+                break;
+            }
+        }
+    }
+
+    private int skipBlockComment(int pos)
+    {
+        for (;;) {
+            pos = find(pos, '*', '\n', '\r', '\r', '\r');
+            if (pos >= end) return -1;
+            if (bytes[pos] == '*') {
+                if (pos + 1 < end && bytes[pos + 1] == '/') {
+                    return pos + 2;
+                }
+                pos++;
+            }
+            else {
+                pos = newline(pos);
+            }
+        }
+    }
+
+    /**
+     * Skips the content of a blob or clob, whose opening braces have been
+     * consumed.  Base64 may contain slashes, so comments aren't recognized.
+     */
+    private int skipLob(int pos)
+    {
+        for (;;) {
+            pos = find(pos, '}', '"', '\'', '\n', '\r');
+            if (pos >= end) return -1;
+            switch (bytes[pos]) {
+            case '}':
+                if (pos + 1 < end && bytes[pos + 1] == '}') {
+                    return pos + 2;
+                }
+                return -1;
+            case '"':
+                pos = skipQuoted(pos + 1, '"');
+                break;
+            case '\'':
+                if (pos + 2 < end && bytes[pos + 1] == '\'' && bytes[pos + 2] == '\'') {
+                    pos = skipLongString(pos + 3);
+                    break;
+                }
+                return -1;
+            default:
+                pos = newline(pos);
+                break;
+            }
+            if (pos < 0) return -1;
+        }
+    }
+
+    /**
+     * @return the position of the next byte that's one of the given
+     * characters, or {@link #end} if there is none.
+     */
+    private int find(int pos, int a, int b, int c, int d, int e)
+    {
+        final int end = this.end;
+        while (pos + 8 <= end) {
+            long word = words.getLong(pos);
+            long stops = bytes_equal_to(word, a)
+                       | bytes_equal_to(word, b)
+                       | bytes_equal_to(word, c)
+                       | bytes_equal_to(word, d)
+                       | bytes_equal_to(word, e);
+            if (stops != 0) {
+                // the lowest flagged byte is never spurious
+                return pos + (Long.numberOfTrailingZeros(stops) >>> 3);
+            }
+            pos += 8;
+        }
+        final byte[] bytes = this.bytes;
+        while (pos < end) {
+            int x = bytes[pos];
+            if (x == a || x == b || x == c || x == d || x == e) {
+                return pos;
+            }
+            pos++;
+        }
+        return end;
+    }
+
+    /**
+     * @return the position of the next byte that may start or end a
+     * container, string, or comment, or that ends a line; or {@link #end}
+     * if there is none.
+     */
+    private int findPlain(int pos)
+    {
+        final int end = this.end;
+        while (pos + 8 <= end) {
+            long stops = delimiter_bytes(words.getLong(pos));
+            if (stops != 0) {
+                return pos + (Long.numberOfTrailingZeros(stops) >>> 3);
+            }
+            pos += 8;
+        }
+        final byte[] bytes = this.bytes;
+        while (pos < end && !is_delimiter(bytes[pos] & 0xff)) {
+            pos++;
+        }
+        return pos;
+    }
+}
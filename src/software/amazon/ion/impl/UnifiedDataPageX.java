@@ -17,6 +17,7 @@ package software.amazon.ion.impl;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
+import java.nio.ByteBuffer;
 
 /**
  * this base class and it's two children (below) manage
@@ -96,6 +97,52 @@ abstract class UnifiedDataPageX
         return read;
     }
 
+    /**
+     * Fills this page from the remaining bytes of {@code buffer} using a
+     * single bulk transfer, advancing the buffer's position.
+     *
+     * @return the number of bytes loaded, or -1 if the buffer is exhausted.
+     */
+    int load(ByteBuffer buffer, int start_offset, long file_position)
+    {
+        if (!isBytes()) {
+            throw new UnsupportedOperationException("character pages can't load bytes");
+        }
+        int read = Math.min(buffer.remaining(), _bytes.length - start_offset);
+        if (read < 1) {
+            return -1;
+        }
+        buffer.get(_bytes, start_offset, read);
+        _base_offset = start_offset;
+        _unread_count = 0;
+        _page_limit = start_offset + read;
+        setFilePosition(file_position, start_offset);
+        return read;
+    }
+
+    /**
+     * Fills this page with up to {@code length} bytes copied from
+     * {@code src}.
+     *
+     * @return the number of bytes loaded, or -1 if {@code length} is zero.
+     */
+    int load(byte[] src, int offset, int length, int start_offset, long file_position)
+    {
+        if (!isBytes()) {
+            throw new UnsupportedOperationException("character pages can't load bytes");
+        }
+        int read = Math.min(length, _bytes.length - start_offset);
+        if (read < 1) {
+            return -1;
+        }
+        System.arraycopy(src, offset, _bytes, start_offset, read);
+        _base_offset = start_offset;
+        _unread_count = 0;
+        _page_limit = start_offset + read;
+        setFilePosition(file_position, start_offset);
+        return read;
+    }
+
     public int getBufferLimit()    { return _page_limit; }
     public int getOriginalStartingOffset() { return _base_offset; }
 
@@ -176,6 +223,18 @@ abstract class UnifiedDataPageX
             _page_limit  = offset + len;
         }
 
+        /**
+         * Replaces the content of a page over a user's array with a range
+         * of another array.
+         */
+        final void reset(byte[] bytes, int offset, int len) {
+            _bytes        = bytes;
+            _base_offset  = offset;
+            _page_limit   = offset + len;
+            _unread_count = 0;
+            _file_offset  = 0;
+        }
+
         @Override
         public int getValue(int offset) {
             return (_bytes[offset] & 0xff);
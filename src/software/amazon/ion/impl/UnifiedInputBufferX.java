@@ -267,6 +267,25 @@ abstract class UnifiedInputBufferX
             _buffer_current = 0;
             _buffer_count = 1;
         }
+
+        /**
+         * Replaces the content of a buffer over a user's array with a range
+         * of another array, reusing its page.
+         */
+        final void reset(byte[] bytes, int offset, int length) {
+            UnifiedDataPageX.Bytes page = (UnifiedDataPageX.Bytes) _buffers[0];
+            if (page == null) {
+                page = new UnifiedDataPageX.Bytes(bytes, offset, length);
+                _buffers[0] = page;
+            }
+            else {
+                page.reset(bytes, offset, length);
+            }
+            _page_size = length;
+            _buffer_current = 0;
+            _buffer_count = 1;
+            _locks = 0;
+        }
         @Override
         public final BufferType getType() { return BufferType.BYTES; }
 
@@ -18,6 +18,9 @@ import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import software.amazon.ion.IonException;
 import software.amazon.ion.impl.IonReaderTextRawTokensX.IonReaderTextTokenException;
 import software.amazon.ion.impl.UnifiedSavePointManagerX.SavePoint;
 
@@ -86,6 +89,9 @@ abstract class UnifiedInputStreamX
     byte[]                  _bytes;
     char[]                  _chars;
 
+    // a view over _bytes for reading eight bytes at a time
+    private ByteBuffer      _words;
+
 
     UnifiedSavePointManagerX _save_points;
 
@@ -116,6 +122,17 @@ abstract class UnifiedInputStreamX
     public static UnifiedInputStreamX makeStream(InputStream stream) throws IOException {
         return new FromByteStream(stream);
     }
+    /**
+     * The buffers are read in order, as if they were one contiguous input,
+     * from their current positions to their limits.  Their positions and
+     * limits are not modified.
+     */
+    public static UnifiedInputStreamX makeStream(ByteBuffer[] buffers) throws IOException {
+        return new FromByteBuffers(buffers);
+    }
+    public static FromIncrementalBytes makeIncrementalStream() {
+        return new FromIncrementalBytes();
+    }
     public final InputStream getInputStream() { return _stream; }
     public final Reader      getReader()      { return _reader; }
     public final byte[]      getByteArray()   { return _bytes; }
@@ -294,6 +311,201 @@ abstract class UnifiedInputStreamX
         return did_unread;
     }
 
+    static final long WORD_ONES  = 0x0101010101010101L;
+    static final long WORD_HIGHS = 0x8080808080808080L;
+
+    /**
+     * Sets the high bit of each byte of the word which is less than n,
+     * which must be at most 0x80.  Bytes above the lowest flagged byte
+     * may be flagged spuriously.
+     */
+    static long bytes_less_than(long word, int n)
+    {
+        return (word - WORD_ONES * n) & ~word & WORD_HIGHS;
+    }
+
+    /**
+     * Sets the high bit of each byte of the word which is equal to b.
+     * Bytes above the lowest flagged byte may be flagged spuriously.
+     */
+    static long bytes_equal_to(long word, int b)
+    {
+        return bytes_less_than(word ^ (WORD_ONES * b), 1);
+    }
+
+    private static final long WORD_NOT_0x20 = ~(WORD_ONES * 0x20);
+    private static final long WORD_NOT_0x01 = ~(WORD_ONES * 0x01);
+
+    /** Characters flagged by {@link #delimiter_bytes(long)}. */
+    private static final boolean[] DELIMITERS = new boolean[256];
+    static {
+        for (char c : "\"'/{}[]()\n\r".toCharArray()) {
+            DELIMITERS[c] = true;
+        }
+    }
+
+    /**
+     * Sets the high bit of each byte of the word that may start or end a
+     * container, string, or comment, or that ends a line.  Bytes above the
+     * lowest flagged byte may be flagged spuriously.
+     */
+    static long delimiter_bytes(long word)
+    {
+        // fold {} onto [] and ) onto (
+        long braces = word & WORD_NOT_0x20;
+        long parens = word & WORD_NOT_0x01;
+        return bytes_equal_to(braces, '[')
+             | bytes_equal_to(braces, ']')
+             | bytes_equal_to(parens, '(')
+             | bytes_equal_to(word, '"')
+             | bytes_equal_to(word, '\'')
+             | bytes_equal_to(word, '/')
+             | bytes_equal_to(word, '\n')
+             | bytes_equal_to(word, '\r');
+    }
+
+    /**
+     * @return whether the character is one flagged by
+     * {@link #delimiter_bytes(long)}.
+     */
+    static boolean is_delimiter(int c)
+    {
+        return c < DELIMITERS.length && DELIMITERS[c];
+    }
+
+    /**
+     * Consumes the characters that are ready in the current page up to the
+     * next one that may start or end a container, string, or comment, or
+     * that ends a line.  Byte data is scanned eight bytes at a time.
+     */
+    public final void skipToDelimiter()
+    {
+        int pos = _pos;
+        final int limit = _limit;
+
+        if (!_is_byte_data) {
+            final char[] chars = _chars;
+            while (pos < limit && !is_delimiter(chars[pos])) {
+                pos++;
+            }
+            _pos = pos;
+            return;
+        }
+
+        final byte[] bytes = _bytes;
+        ByteBuffer words = _words;
+        if (pos + 8 <= limit && (words == null || words.array() != bytes)) {
+            words = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+            _words = words;
+        }
+        while (pos + 8 <= limit) {
+            long stops = delimiter_bytes(words.getLong(pos));
+            if (stops != 0) {
+                // the lowest flagged byte is never spurious
+                _pos = pos + (Long.numberOfTrailingZeros(stops) >>> 3);
+                return;
+            }
+            pos += 8;
+        }
+        while (pos < limit && !is_delimiter(bytes[pos] & 0xff)) {
+            pos++;
+        }
+        _pos = pos;
+    }
+
+    /**
+     * Consumes the printable ASCII characters, other than the given quote
+     * character and backslash, that are ready in the current page, appending
+     * them to the buffer.  This lets string scanning skip the per-character
+     * work of {@link #read()} for the common case; the character that ends
+     * the run (or the first character of the next page) is read as usual.
+     * Byte data is scanned eight bytes at a time.
+     *
+     * @param sb receives the characters; may be null to just skip them.
+     */
+    public final void readPlainAscii(StringBuilder sb, int quote)
+    {
+        int pos = _pos;
+        final int limit = _limit;
+        if (pos >= limit) {
+            return;
+        }
+
+        if (!_is_byte_data) {
+            final char[] chars = _chars;
+            while (pos < limit) {
+                char c = chars[pos];
+                if (c < 0x20 || c >= 0x80 || c == quote || c == '\\') {
+                    break;
+                }
+                pos++;
+            }
+            if (sb != null) {
+                sb.append(chars, _pos, pos - _pos);
+            }
+            _pos = pos;
+            return;
+        }
+
+        final byte[] bytes = _bytes;
+        ByteBuffer words = _words;
+        if (words == null || words.array() != bytes) {
+            words = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+            _words = words;
+        }
+        while (pos + 8 <= limit) {
+            long word = words.getLong(pos);
+            long stops = (word & WORD_HIGHS)
+                       | bytes_less_than(word, 0x20)
+                       | bytes_equal_to(word, quote)
+                       | bytes_equal_to(word, '\\');
+            if (stops != 0) {
+                // the lowest flagged byte is never spurious
+                pos += Long.numberOfTrailingZeros(stops) >>> 3;
+                break;
+            }
+            pos += 8;
+        }
+        while (pos < limit) {
+            int c = bytes[pos];
+            if (c < 0x20 || c == quote || c == '\\') {
+                // negative for bytes of multi-byte sequences
+                break;
+            }
+            pos++;
+        }
+        if (sb != null) {
+            for (int i = _pos; i < pos; i++) {
+                sb.append((char) bytes[i]);
+            }
+        }
+        _pos = pos;
+    }
+
+    /**
+     * Consumes the spaces and tabs that are ready in the current page.
+     */
+    public final void skipBlanks()
+    {
+        int pos = _pos;
+        final int limit = _limit;
+        if (_is_byte_data) {
+            final byte[] bytes = _bytes;
+            while (pos < limit && (bytes[pos] == ' ' || bytes[pos] == '\t')) {
+                pos++;
+            }
+        }
+        else {
+            final char[] chars = _chars;
+            while (pos < limit && (chars[pos] == ' ' || chars[pos] == '\t')) {
+                pos++;
+            }
+        }
+        if (pos > _pos) {
+            _pos = pos;
+        }
+    }
+
     public final int read() throws IOException {
         if (_pos >= _limit) return read_helper();
         // both bytes and chars might be null if this is empty input
@@ -516,7 +728,7 @@ abstract class UnifiedInputStreamX
         return _is_stream;
     }
 
-    protected final int load(UnifiedDataPageX curr, int start_pos, long file_position) throws IOException
+    protected int load(UnifiedDataPageX curr, int start_pos, long file_position) throws IOException
     {
         int read = 0;
         if (can_fill_new_page()) {
@@ -591,6 +803,25 @@ static class FromByteArray extends UnifiedInputStreamX
             make_page_current(curr, 0, offset, offset+length);
             super.init();
         }
+
+        /**
+         * Replaces the input with a range of another array, keeping this
+         * stream's page for reuse.  Save points left active, as by an
+         * exception, are deactivated and cleared but stay allocated to
+         * their owners.
+         */
+        final void reset(byte[] bytes, int offset, int length)
+        {
+            for (;;) {
+                SavePoint sp = _save_points._active_stack;
+                if (sp == null) break;
+                _save_points.savePointPopActive(sp);
+                sp.clear();
+            }
+            UnifiedInputBufferX.Bytes buffer = (UnifiedInputBufferX.Bytes) _buffer;
+            buffer.reset(bytes, offset, length);
+            make_page_current(buffer.getCurrentPage(), 0, offset, offset+length);
+        }
     }
 
     private static class FromByteStream extends UnifiedInputStreamX
@@ -613,4 +844,232 @@ static class FromByteArray extends UnifiedInputStreamX
             _stream.close();
         }
     }
+
+    /**
+     * Pages through a sequence of {@link ByteBuffer}s, typically the chunks
+     * of a memory-mapped file.  Pages are filled with one bulk transfer per
+     * page directly from the buffers, so there's no intervening
+     * {@link InputStream} and no per-byte copying.
+     */
+    static final class FromByteBuffers extends UnifiedInputStreamX
+    {
+        private final ByteBuffer[] _byte_buffers;
+        private int                _byte_buffer_idx;
+
+        FromByteBuffers(ByteBuffer[] buffers) throws IOException
+        {
+            _is_byte_data = true;
+            _is_stream = true;
+            _byte_buffers = new ByteBuffer[buffers.length];
+            for (int ii=0; ii<buffers.length; ii++) {
+                // duplicate so we don't disturb the caller's positions
+                _byte_buffers[ii] = buffers[ii].duplicate();
+            }
+            _byte_buffer_idx = 0;
+            _buffer = UnifiedInputBufferX.makePageBuffer(UnifiedInputBufferX.BufferType.BYTES, DEFAULT_PAGE_SIZE);
+            super.init();
+            _limit = refill();
+        }
+
+        @Override
+        protected int load(UnifiedDataPageX curr, int start_pos, long file_position)
+        {
+            while (_byte_buffer_idx < _byte_buffers.length) {
+                ByteBuffer buffer = _byte_buffers[_byte_buffer_idx];
+                if (buffer.hasRemaining()) {
+                    return curr.load(buffer, start_pos, file_position);
+                }
+                // release the exhausted chunk as we go
+                _byte_buffers[_byte_buffer_idx++] = null;
+            }
+            return -1;
+        }
+
+        @Override
+        public void close()
+            throws IOException
+        {
+            super.close();
+            for (int ii=0; ii<_byte_buffers.length; ii++) {
+                _byte_buffers[ii] = null;
+            }
+        }
+    }
+
+    /**
+     * Reads Ion binary that is supplied a piece at a time through
+     * {@link #feed(byte[], int, int)}.  Fed bytes are held in a local buffer
+     * and are only made readable, by {@link #load}, once they complete a
+     * top-level value.  Since binary containers carry their lengths, this
+     * only requires decoding the header of each top-level value, and it
+     * guarantees that the reader never sees a partial value: running out of
+     * data can only happen between top-level values, where it looks like an
+     * ordinary EOF which {@link #resume()} can later clear.
+     */
+    static final class FromIncrementalBytes extends UnifiedInputStreamX
+    {
+        private static final int IVM_TD = PrivateIonConstants.BINARY_VERSION_MARKER_1_0[0] & 0xff;
+        private static final int IVM_LENGTH = PrivateIonConstants.BINARY_VERSION_MARKER_SIZE;
+        private static final int MAX_VAR_UINT_LENGTH = 5;
+
+        private byte[]  _fed;
+        private int     _fed_read;      // start of the bytes not yet loaded into pages
+        private int     _fed_complete;  // end of the last complete top-level value
+        private int     _fed_limit;     // end of the fed bytes
+        private boolean _fed_ended;
+        private boolean _ivm_checked;
+
+        FromIncrementalBytes()
+        {
+            _is_byte_data = true;
+            _is_stream = true;
+            _fed = new byte[DEFAULT_PAGE_SIZE];
+            _buffer = UnifiedInputBufferX.makePageBuffer(UnifiedInputBufferX.BufferType.BYTES, DEFAULT_PAGE_SIZE);
+            super.init();
+            // unlike the other streams we don't refill here: with nothing
+            // fed yet that would only latch EOF
+        }
+
+        void feed(byte[] bytes, int offset, int length)
+        {
+            if (_fed_ended) {
+                throw new IllegalStateException("input has already ended");
+            }
+            if (offset < 0 || length < 0 || offset + length > bytes.length) {
+                throw new IndexOutOfBoundsException();
+            }
+            if (_fed_limit + length > _fed.length) {
+                make_room(length);
+            }
+            System.arraycopy(bytes, offset, _fed, _fed_limit, length);
+            _fed_limit += length;
+            scan_complete_values();
+        }
+
+        void endOfInput()
+        {
+            _fed_ended = true;
+            // whatever is left is made visible so the reader can report it
+            _fed_complete = _fed_limit;
+        }
+
+        boolean isEnded()
+        {
+            return _fed_ended;
+        }
+
+        /**
+         * @return true if complete values have been fed that the reader
+         * hasn't loaded yet.
+         */
+        boolean hasUnreadData()
+        {
+            return _fed_complete > _fed_read;
+        }
+
+        /**
+         * Clears the EOF condition so that newly completed values can be
+         * loaded by the next refill.
+         */
+        void resume()
+        {
+            _eof = false;
+        }
+
+        private void make_room(int length)
+        {
+            // drop what has already been loaded into pages
+            int unread = _fed_limit - _fed_read;
+            byte[] dst = _fed;
+            if (unread + length > _fed.length) {
+                int newlen = _fed.length * 2;
+                while (newlen < unread + length) {
+                    newlen *= 2;
+                }
+                dst = new byte[newlen];
+            }
+            System.arraycopy(_fed, _fed_read, dst, 0, unread);
+            _fed = dst;
+            _fed_complete -= _fed_read;
+            _fed_limit -= _fed_read;
+            _fed_read = 0;
+        }
+
+        private void scan_complete_values()
+        {
+            if (!_ivm_checked) {
+                int len = Math.min(_fed_limit, IVM_LENGTH);
+                for (int ii=0; ii<len; ii++) {
+                    if (_fed[ii] != PrivateIonConstants.BINARY_VERSION_MARKER_1_0[ii]) {
+                        throw new IonException("incremental input must be Ion binary");
+                    }
+                }
+                if (len < IVM_LENGTH) {
+                    return;
+                }
+                _ivm_checked = true;
+            }
+            for (;;) {
+                int end = find_value_end(_fed_complete);
+                if (end < 0) break;
+                _fed_complete = end;
+            }
+        }
+
+        /**
+         * Decodes the header of the top-level value starting at {@code pos}.
+         *
+         * @return the end of the value, or -1 if it hasn't been fed entirely.
+         */
+        private int find_value_end(int pos)
+        {
+            if (pos >= _fed_limit) {
+                return -1;
+            }
+            int td = _fed[pos++] & 0xff;
+            if (td == IVM_TD) {
+                pos += IVM_LENGTH - 1;
+                return (pos <= _fed_limit) ? pos : -1;
+            }
+            int tid = PrivateIonConstants.getTypeCode(td);
+            int ln  = PrivateIonConstants.getLowNibble(td);
+            long len;
+            if (ln == PrivateIonConstants.lnIsNull || tid == PrivateIonConstants.tidBoolean) {
+                len = 0;
+            }
+            else if (ln == PrivateIonConstants.lnIsVarLen
+                 || (tid == PrivateIonConstants.tidStruct && ln == 1)) {
+                len = 0;
+                int b;
+                int count = 0;
+                do {
+                    if (pos >= _fed_limit) {
+                        return -1;
+                    }
+                    if (++count > MAX_VAR_UINT_LENGTH) {
+                        // malformed, let the reader see it and complain
+                        return _fed_limit;
+                    }
+                    b = _fed[pos++] & 0xff;
+                    len = (len << 7) | (b & 0x7f);
+                } while ((b & 0x80) == 0);
+            }
+            else {
+                len = ln;
+            }
+            long end = pos + len;
+            return (end <= _fed_limit) ? (int) end : -1;
+        }
+
+        @Override
+        protected int load(UnifiedDataPageX curr, int start_pos, long file_position)
+        {
+            int read = curr.load(_fed, _fed_read, _fed_complete - _fed_read,
+                                 start_pos, file_position);
+            if (read > 0) {
+                _fed_read += read;
+            }
+            return read;
+        }
+    }
 }
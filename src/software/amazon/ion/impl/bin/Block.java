@@ -15,25 +15,50 @@
 package software.amazon.ion.impl.bin;
 
 import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
 
 
 /**
  * An abstraction for a block of managed memory.  A {@link Block} is acquired by a caller via
  * {@link BlockAllocator#allocateBlock()} and released by {@link #close()}.
  * <p>
+ * A block is either backed by an on-heap array, or by off-heap {@link #storage}.  Encoding always happens on
+ * {@link #data}, so an off-heap block borrows an on-heap staging array while it is the block being written to
+ * (between {@link #activate()} and {@link #deactivate()}) and copies its content to {@link #storage} afterwards.
+ * Random access to a block's content should go through the accessors here, which handle either state.
+ * <p>
  * This class and its implementations are <b>not</b> thread-safe.
  */
 /*package*/ abstract class Block implements Closeable
 {
-    /** The data backing this block. */
-    public final byte[] data;
+    /**
+     * The data backing this block.
+     * For off-heap blocks this is the staging array, and is {@code null} when the block is not active.
+     */
+    public byte[] data;
     /** The first index for which data has not been written to or read from. */
     public int limit;
+    /** The off-heap data backing this block, or {@code null} for on-heap blocks. */
+    /*package*/ final ByteBuffer storage;
+    private final int capacity;
 
     /*package*/ Block(final byte[] data)
     {
         this.data = data;
         this.limit = 0;
+        this.storage = null;
+        this.capacity = data.length;
+    }
+
+    /*package*/ Block(final ByteBuffer storage)
+    {
+        this.data = null;
+        this.limit = 0;
+        this.storage = storage;
+        this.capacity = storage.capacity();
     }
 
     /** Resets the limit to zero. */
@@ -45,13 +70,98 @@ import java.io.Closeable;
     /** Returns the unused amount of bytes from the limit to the capacity of the data array. */
     public final int remaining()
     {
-        return data.length - limit;
+        return capacity - limit;
     }
 
     /** Returns the underlying data array's capacity. */
     public final int capacity()
     {
-        return data.length;
+        return capacity;
+    }
+
+    /**
+     * Makes {@link #data} available for writing.  This is a no-op for on-heap blocks; off-heap blocks acquire a
+     * staging array and copy their current content into it.
+     */
+    /*package*/ void activate() {}
+
+    /**
+     * Signals that this block is no longer being written to.  This is a no-op for on-heap blocks; off-heap blocks
+     * copy their content to {@link #storage} and release their staging array.
+     */
+    /*package*/ void deactivate() {}
+
+    /** Returns the octet at the given offset as an unsigned value. */
+    /*package*/ final int getUInt8(final int offset)
+    {
+        if (data != null)
+        {
+            return data[offset] & 0xFF;
+        }
+        return storage.get(offset) & 0xFF;
+    }
+
+    /** Overwrites the octet at the given offset. */
+    /*package*/ final void putUInt8(final int offset, final byte value)
+    {
+        if (data != null)
+        {
+            data[offset] = value;
+        }
+        else
+        {
+            storage.put(offset, value);
+        }
+    }
+
+    /**
+     * Returns a view of a segment of this block's content.  For an active off-heap block, this first copies the
+     * staged content to {@link #storage}.
+     */
+    /*package*/ final ByteBuffer toByteBuffer(final int offset, final int length)
+    {
+        if (storage == null)
+        {
+            return ByteBuffer.wrap(data, offset, length);
+        }
+        if (data != null)
+        {
+            storage.clear();
+            storage.put(data, 0, limit);
+        }
+        final ByteBuffer view = storage.duplicate();
+        view.limit(offset + length);
+        view.position(offset);
+        return view;
+    }
+
+    /** Replaces the content of this inactive block with a copy of another block's content. */
+    /*package*/ final void copyFrom(final Block other)
+    {
+        final ByteBuffer source = other.toByteBuffer(0, other.limit);
+        if (storage == null)
+        {
+            source.get(data, 0, other.limit);
+        }
+        else
+        {
+            storage.clear();
+            storage.put(source);
+        }
+        limit = other.limit;
+    }
+
+    /** Writes a segment of this block's content to a stream. */
+    /*package*/ final void writeTo(final OutputStream out, final int offset, final int length) throws IOException
+    {
+        if (data != null)
+        {
+            out.write(data, offset, length);
+        }
+        else
+        {
+            Channels.newChannel(out).write(toByteBuffer(offset, length));
+        }
     }
 
     /**
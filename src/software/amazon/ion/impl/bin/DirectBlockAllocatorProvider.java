@@ -0,0 +1,150 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion.impl.bin;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A pooling implementation of {@link BlockAllocatorProvider} whose {@link Block}s are backed by direct
+ * {@link ByteBuffer}s, with a global thread-safe free list of buffers for each block size.
+ * <p>
+ * Encoding happens on an on-heap staging array that a block only holds while it is being written to, so each
+ * {@link BlockAllocator} keeps just a couple of block-sized arrays on the heap regardless of how much data is
+ * buffered.
+ * <p>
+ * This implementation is thread-safe, but unlike {@link PooledBlockAllocatorProvider} each call to
+ * {@link #vendAllocator(int)} returns a new allocator which must not be shared across threads.
+ */
+/*package*/ final class DirectBlockAllocatorProvider extends BlockAllocatorProvider
+{
+    /**
+     * A {@link BlockAllocator} that vends off-heap blocks from a shared free list and keeps its own staging arrays.
+     * <p>
+     * This implementation is <b>not</b> thread-safe.
+     */
+    private static final class DirectBlockAllocator extends BlockAllocator
+    {
+        private final int blockSize;
+        private final ConcurrentLinkedQueue<ByteBuffer> freeBuffers;
+        private final List<byte[]> freeStaging;
+
+        public DirectBlockAllocator(final int blockSize, final ConcurrentLinkedQueue<ByteBuffer> freeBuffers)
+        {
+            this.blockSize = blockSize;
+            this.freeBuffers = freeBuffers;
+            this.freeStaging = new ArrayList<byte[]>(2);
+        }
+
+        @Override
+        public Block allocateBlock()
+        {
+            ByteBuffer buffer = freeBuffers.poll();
+            if (buffer == null)
+            {
+                buffer = ByteBuffer.allocateDirect(blockSize);
+            }
+            return new Block(buffer)
+            {
+                @Override
+                void activate()
+                {
+                    final byte[] staging = takeStaging();
+                    if (limit > 0)
+                    {
+                        storage.clear();
+                        storage.get(staging, 0, limit);
+                    }
+                    data = staging;
+                }
+
+                @Override
+                void deactivate()
+                {
+                    storage.clear();
+                    storage.put(data, 0, limit);
+                    freeStaging.add(data);
+                    data = null;
+                }
+
+                @Override
+                public void close()
+                {
+                    if (data != null)
+                    {
+                        freeStaging.add(data);
+                        data = null;
+                    }
+                    reset();
+                    freeBuffers.add(storage);
+                }
+            };
+        }
+
+        private byte[] takeStaging()
+        {
+            final int size = freeStaging.size();
+            if (size == 0)
+            {
+                return new byte[blockSize];
+            }
+            return freeStaging.remove(size - 1);
+        }
+
+        @Override
+        public int getBlockSize()
+        {
+            return blockSize;
+        }
+
+        @Override
+        public void close()
+        {
+            freeStaging.clear();
+        }
+    }
+
+    private final ConcurrentMap<Integer, ConcurrentLinkedQueue<ByteBuffer>> freeLists;
+
+    public DirectBlockAllocatorProvider()
+    {
+        freeLists = new ConcurrentHashMap<Integer, ConcurrentLinkedQueue<ByteBuffer>>();
+    }
+
+    @Override
+    public BlockAllocator vendAllocator(final int blockSize)
+    {
+        if (blockSize <= 0)
+        {
+            throw new IllegalArgumentException("Invalid block size: " + blockSize);
+        }
+
+        ConcurrentLinkedQueue<ByteBuffer> freeBuffers = freeLists.get(blockSize);
+        if (freeBuffers == null)
+        {
+            freeBuffers = new ConcurrentLinkedQueue<ByteBuffer>();
+            final ConcurrentLinkedQueue<ByteBuffer> existing = freeLists.putIfAbsent(blockSize, freeBuffers);
+            if (existing != null)
+            {
+                freeBuffers = existing;
+            }
+        }
+        return new DirectBlockAllocator(blockSize, freeBuffers);
+    }
+}
@@ -32,6 +32,8 @@ import static software.amazon.ion.impl.bin.Symbols.systemSymbols;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.ArrayList;
@@ -49,12 +51,13 @@ import software.amazon.ion.SymbolTable;
 import software.amazon.ion.SymbolToken;
 import software.amazon.ion.Timestamp;
 import software.amazon.ion.UnknownSymbolException;
+import software.amazon.ion.impl.PrivateListWriter;
 import software.amazon.ion.impl.PrivateUtils;
 import software.amazon.ion.impl.bin.IonRawBinaryWriter.StreamCloseMode;
 import software.amazon.ion.impl.bin.IonRawBinaryWriter.StreamFlushMode;
 
 /** Wraps {@link IonRawBinaryWriter} with symbol table management. */
-/*package*/ final class IonManagedBinaryWriter extends AbstractIonWriter
+/*package*/ final class IonManagedBinaryWriter extends AbstractIonWriter implements PrivateListWriter
 {
     private interface SymbolResolver
     {
@@ -623,6 +626,8 @@ import software.amazon.ion.impl.bin.IonRawBinaryWriter.StreamFlushMode;
 
     private final IonCatalog                    catalog;
     private final ImportedSymbolContext         bootstrapImports;
+    private final SymbolTable                   initialSymbolTable;
+    private final ImportedSymbolContext         initialImports;
 
     private ImportedSymbolContext               imports;
     private final Map<String, SymbolToken>      locals;
@@ -644,12 +649,14 @@ import software.amazon.ion.impl.bin.IonRawBinaryWriter.StreamFlushMode;
     private boolean                             forceSystemOutput;
     private boolean                             closed;
 
+    /** When non-null, the symbol table and user data of each flush are gathered into a single write. */
+    private final WritableByteChannel           channel;
+
     /*package*/ IonManagedBinaryWriter(final PrivateIonManagedBinaryWriterBuilder builder,
                                        final OutputStream out)
                                        throws IOException
     {
-        super(builder.optimization);
-        this.symbols = new IonRawBinaryWriter(
+        this(builder, new IonRawBinaryWriter(
             builder.provider,
             builder.symbolsBlockSize,
             out,
@@ -658,8 +665,7 @@ import software.amazon.ion.impl.bin.IonRawBinaryWriter.StreamFlushMode;
             StreamFlushMode.NO_FLUSH,
             builder.preallocationMode,
             builder.isFloatBinary32Enabled
-        );
-        this.user = new IonRawBinaryWriter(
+        ), new IonRawBinaryWriter(
             builder.provider,
             builder.userBlockSize,
             out,
@@ -668,7 +674,42 @@ import software.amazon.ion.impl.bin.IonRawBinaryWriter.StreamFlushMode;
             StreamFlushMode.FLUSH,
             builder.preallocationMode,
             builder.isFloatBinary32Enabled
-        );
+        ), null);
+    }
+
+    /*package*/ IonManagedBinaryWriter(final PrivateIonManagedBinaryWriterBuilder builder,
+                                       final WritableByteChannel channel)
+                                       throws IOException
+    {
+        this(builder, new IonRawBinaryWriter(
+            builder.provider,
+            builder.symbolsBlockSize,
+            channel,
+            WriteValueOptimization.NONE, // optimization is not relevant for the nested raw writer
+            StreamCloseMode.NO_CLOSE,
+            builder.preallocationMode,
+            builder.isFloatBinary32Enabled
+        ), new IonRawBinaryWriter(
+            builder.provider,
+            builder.userBlockSize,
+            channel,
+            WriteValueOptimization.NONE, // optimization is not relevant for the nested raw writer
+            StreamCloseMode.CLOSE,
+            builder.preallocationMode,
+            builder.isFloatBinary32Enabled
+        ), channel);
+    }
+
+    private IonManagedBinaryWriter(final PrivateIonManagedBinaryWriterBuilder builder,
+                                   final IonRawBinaryWriter symbols,
+                                   final IonRawBinaryWriter user,
+                                   final WritableByteChannel channel)
+                                   throws IOException
+    {
+        super(builder.optimization);
+        this.symbols = symbols;
+        this.user = user;
+        this.channel = channel;
 
         this.catalog = builder.catalog;
         this.bootstrapImports = builder.imports;
@@ -683,6 +724,12 @@ import software.amazon.ion.impl.bin.IonRawBinaryWriter.StreamFlushMode;
 
         this.userState = UserState.NORMAL;
 
+        if (builder.spillThreshold >= 0)
+        {
+            // only user values can get large enough to need this
+            user.spillTo(builder.spillDirectory, builder.spillThreshold);
+        }
+
         this.userSymbolTablePosition = 0L;
         this.userImports = new ArrayList<SymbolTable>();
         this.userSymbols = new ArrayList<String>();
@@ -690,31 +737,38 @@ import software.amazon.ion.impl.bin.IonRawBinaryWriter.StreamFlushMode;
 
         // TODO decide if initial LST should survive finish() and seed the next LST
         final SymbolTable lst = builder.initialSymbolTable;
+        this.initialSymbolTable = lst;
         if (lst != null)
         {
             // build import context from seeded LST
             final List<SymbolTable> lstImportList = Arrays.asList(lst.getImportedTables());
             // TODO determine if the resolver mode should be configurable for this use case
-            final ImportedSymbolContext lstImports = new ImportedSymbolContext(ImportedSymbolResolverMode.DELEGATE, lstImportList);
-            this.imports = lstImports;
-
-            // intern all of the local symbols provided from LST
-            final Iterator<String> symbolIter = lst.iterateDeclaredSymbolNames();
-            while (symbolIter.hasNext())
-            {
-                final String text = symbolIter.next();
-                intern(text);
-            }
-
-            // TODO determine if we really need to force emitting LST if there are no imports/locals
-            startLocalSymbolTableIfNeeded(/*writeIVM*/ true);
+            this.initialImports = new ImportedSymbolContext(ImportedSymbolResolverMode.DELEGATE, lstImportList);
+            seedInitialSymbolTable();
         }
         else
         {
+            this.initialImports = null;
             this.imports = builder.imports;
         }
     }
 
+    private void seedInitialSymbolTable() throws IOException
+    {
+        this.imports = initialImports;
+
+        // intern all of the local symbols provided from LST
+        final Iterator<String> symbolIter = initialSymbolTable.iterateDeclaredSymbolNames();
+        while (symbolIter.hasNext())
+        {
+            final String text = symbolIter.next();
+            intern(text);
+        }
+
+        // TODO determine if we really need to force emitting LST if there are no imports/locals
+        startLocalSymbolTableIfNeeded(/*writeIVM*/ true);
+    }
+
     // Compatibility with Implementation Writer Interface
 
     public IonCatalog getCatalog()
@@ -1024,6 +1078,127 @@ import software.amazon.ion.impl.bin.IonRawBinaryWriter.StreamFlushMode;
         user.writeString(value);
     }
 
+    // Bulk List Writing
+    //
+    // Lists of primitives are encoded directly by the user writer unless we're intercepting a local symbol table
+    // that the user is writing, in which case every value has to go through the user state.
+
+    public void writeBoolList(final boolean[] values) throws IOException
+    {
+        if (userState == UserState.NORMAL)
+        {
+            user.writeBoolList(values);
+            return;
+        }
+        stepIn(LIST);
+        for (final boolean value : values)
+        {
+            writeBool(value);
+        }
+        stepOut();
+    }
+
+    public void writeFloatList(final float[] values) throws IOException
+    {
+        if (userState == UserState.NORMAL)
+        {
+            user.writeFloatList(values);
+            return;
+        }
+        stepIn(LIST);
+        for (final float value : values)
+        {
+            writeFloat(value);
+        }
+        stepOut();
+    }
+
+    public void writeFloatList(final double[] values) throws IOException
+    {
+        if (userState == UserState.NORMAL)
+        {
+            user.writeFloatList(values);
+            return;
+        }
+        stepIn(LIST);
+        for (final double value : values)
+        {
+            writeFloat(value);
+        }
+        stepOut();
+    }
+
+    public void writeIntList(final byte[] values) throws IOException
+    {
+        if (userState == UserState.NORMAL)
+        {
+            user.writeIntList(values);
+            return;
+        }
+        stepIn(LIST);
+        for (final byte value : values)
+        {
+            writeInt(value);
+        }
+        stepOut();
+    }
+
+    public void writeIntList(final short[] values) throws IOException
+    {
+        if (userState == UserState.NORMAL)
+        {
+            user.writeIntList(values);
+            return;
+        }
+        stepIn(LIST);
+        for (final short value : values)
+        {
+            writeInt(value);
+        }
+        stepOut();
+    }
+
+    public void writeIntList(final int[] values) throws IOException
+    {
+        if (userState == UserState.NORMAL)
+        {
+            user.writeIntList(values);
+            return;
+        }
+        stepIn(LIST);
+        for (final int value : values)
+        {
+            writeInt(value);
+        }
+        stepOut();
+    }
+
+    public void writeIntList(final long[] values) throws IOException
+    {
+        if (userState == UserState.NORMAL)
+        {
+            user.writeIntList(values);
+            return;
+        }
+        stepIn(LIST);
+        for (final long value : values)
+        {
+            writeInt(value);
+        }
+        stepOut();
+    }
+
+    public void writeStringList(final String[] values) throws IOException
+    {
+        // strings need their symbol state and UTF-8 length, so there's nothing to gain over writing them one by one
+        stepIn(LIST);
+        for (final String value : values)
+        {
+            writeString(value);
+        }
+        stepOut();
+    }
+
     public void writeClob(byte[] data) throws IOException
     {
         user.writeClob(data);
@@ -1073,8 +1248,20 @@ import software.amazon.ion.impl.bin.IonRawBinaryWriter.StreamFlushMode;
         symbolState = SymbolState.LOCAL_SYMBOLS_FLUSHED;
         forceSystemOutput = false;
         // push the data out
-        symbols.finish();
-        user.finish();
+        if (channel != null)
+        {
+            final List<ByteBuffer> segments = new ArrayList<ByteBuffer>();
+            long length = symbols.collectFinished(segments);
+            length += user.collectFinished(segments);
+            WriteBuffer.writeFully(channel, segments.toArray(new ByteBuffer[segments.size()]), length);
+            symbols.resetFinished();
+            user.resetFinished();
+        }
+        else
+        {
+            symbols.finish();
+            user.finish();
+        }
     }
 
     public void finish() throws IOException
@@ -1092,6 +1279,43 @@ import software.amazon.ion.impl.bin.IonRawBinaryWriter.StreamFlushMode;
         imports = bootstrapImports;
     }
 
+    /**
+     * Directs the output of this writer to a different stream, so that it can be reused instead of constructing a
+     * new writer.  The writer keeps its blocks, container stacks, and import context, and is left in the same
+     * state as a new writer from the same builder.  The previous stream is neither flushed nor closed.
+     *
+     * @throws IllegalStateException if the writer is closed, writes to a channel, or has values that haven't
+     *                               been finished.
+     */
+    /*package*/ void rebind(final OutputStream out) throws IOException
+    {
+        if (closed)
+        {
+            throw new IllegalStateException("Cannot rebind a closed writer");
+        }
+        if (getDepth() != 0 || user.hasWrittenValuesSinceFinished() || user.isFieldNameSet() || user.hasAnnotations())
+        {
+            throw new IllegalStateException("Cannot rebind a writer with unfinished values");
+        }
+        // any pending system data is discarded
+        symbols.rebind(out);
+        user.rebind(out);
+
+        locals.clear();
+        localsLocked = false;
+        symbolState = SymbolState.SYSTEM_SYMBOLS;
+        userState = UserState.NORMAL;
+        forceSystemOutput = false;
+        if (initialSymbolTable != null)
+        {
+            seedInitialSymbolTable();
+        }
+        else
+        {
+            imports = bootstrapImports;
+        }
+    }
+
     public void close() throws IOException
     {
         if (closed)
@@ -37,13 +37,16 @@ import static software.amazon.ion.Timestamp.Precision.MINUTE;
 import static software.amazon.ion.Timestamp.Precision.MONTH;
 import static software.amazon.ion.Timestamp.Precision.SECOND;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.NoSuchElementException;
 import software.amazon.ion.IonCatalog;
@@ -214,6 +217,8 @@ import software.amazon.ion.Timestamp;
     /** Max supported annotation length specifier size supported. */
     private static final int MAX_ANNOTATION_LENGTH = 0x7F;
 
+    private static final int INITIAL_CONTAINER_STACK_SIZE = 16;
+
     private enum ContainerType
     {
         SEQUENCE(true),
@@ -232,18 +237,20 @@ import software.amazon.ion.Timestamp;
     private static class ContainerInfo
     {
         /** Whether or not the container is a struct */
-        public final ContainerType type;
+        public ContainerType type;
         /** The location of the pre-allocated size descriptor in the buffer. */
-        public final long position;
+        public long position;
         /** The size of the current value. */
         public long length;
         /** The patchlist for this container. */
         public PatchList patches;
 
-        public ContainerInfo(final ContainerType type, final long offset)
+        /** Resets this (possibly recycled) container for a new value. */
+        public void initialize(final ContainerType type, final long offset)
         {
             this.type = type;
             this.position = offset;
+            this.length = 0;
             this.patches = null;
         }
 
@@ -455,7 +462,9 @@ import software.amazon.ion.Timestamp;
     }
 
     private final BlockAllocator                allocator;
-    private final OutputStream                  out;
+    private BlockAllocator                      spillAllocator;
+    private OutputStream                        out;
+    private final WritableByteChannel           channel;
     private final StreamCloseMode               streamCloseMode;
     private final StreamFlushMode               streamFlushMode;
     private final PreallocationMode             preallocationMode;
@@ -463,7 +472,8 @@ import software.amazon.ion.Timestamp;
     private final WriteBuffer                   buffer;
     private final WriteBuffer                   patchBuffer;
     private final PatchList                     patchPoints;
-    private final LinkedList<ContainerInfo>     containers;
+    private ContainerInfo[]                     containers;
+    private int                                 containerCount;
     private int                                 depth;
     private boolean                             hasWrittenValuesSinceFinished;
     private boolean                             hasWrittenValuesSinceConstructed;
@@ -485,12 +495,44 @@ import software.amazon.ion.Timestamp;
                                    final boolean isFloatBinary32Enabled)
                                    throws IOException
     {
-        super(optimization);
-
+        this(provider, blockSize, out, null, optimization, streamCloseMode, streamFlushMode, preallocationMode,
+             isFloatBinary32Enabled);
         if (out == null) { throw new NullPointerException(); }
+    }
+
+    /**
+     * Constructs a writer that emits each {@link #finish()} as a single gathering write to a channel.
+     * The {@link StreamFlushMode} is ignored as channels have no notion of flushing.
+     */
+    /*package*/ IonRawBinaryWriter(final BlockAllocatorProvider provider,
+                                   final int blockSize,
+                                   final WritableByteChannel channel,
+                                   final WriteValueOptimization optimization,
+                                   final StreamCloseMode streamCloseMode,
+                                   final PreallocationMode preallocationMode,
+                                   final boolean isFloatBinary32Enabled)
+                                   throws IOException
+    {
+        this(provider, blockSize, null, channel, optimization, streamCloseMode, StreamFlushMode.NO_FLUSH,
+             preallocationMode, isFloatBinary32Enabled);
+        if (channel == null) { throw new NullPointerException(); }
+    }
+
+    private IonRawBinaryWriter(final BlockAllocatorProvider provider,
+                               final int blockSize,
+                               final OutputStream out,
+                               final WritableByteChannel channel,
+                               final WriteValueOptimization optimization,
+                               final StreamCloseMode streamCloseMode,
+                               final StreamFlushMode streamFlushMode,
+                               final PreallocationMode preallocationMode,
+                               final boolean isFloatBinary32Enabled)
+    {
+        super(optimization);
 
         this.allocator         = provider.vendAllocator(blockSize);
         this.out               = out;
+        this.channel           = channel;
         this.streamCloseMode   = streamCloseMode;
         this.streamFlushMode   = streamFlushMode;
         this.preallocationMode = preallocationMode;
@@ -498,7 +540,8 @@ import software.amazon.ion.Timestamp;
         this.buffer            = new WriteBuffer(allocator);
         this.patchBuffer       = new WriteBuffer(allocator);
         this.patchPoints       = new PatchList();
-        this.containers        = new LinkedList<ContainerInfo>();
+        this.containers        = new ContainerInfo[INITIAL_CONTAINER_STACK_SIZE];
+        this.containerCount    = 0;
 
         this.depth                            = 0;
         this.hasWrittenValuesSinceFinished    = false;
@@ -620,23 +663,40 @@ import software.amazon.ion.Timestamp;
 
     private void updateLength(long length)
     {
-        if (containers.isEmpty())
+        if (containerCount == 0)
         {
             return;
         }
 
-        containers.getLast().length += length;
+        containers[containerCount - 1].length += length;
     }
 
     private void pushContainer(final ContainerType type)
     {
+        if (containerCount == containers.length)
+        {
+            containers = Arrays.copyOf(containers, containerCount * 2);
+        }
+        ContainerInfo info = containers[containerCount];
+        if (info == null)
+        {
+            info = new ContainerInfo();
+            containers[containerCount] = info;
+        }
+        containerCount++;
+
         // XXX we push before writing the type of container
-        containers.add(new ContainerInfo(type, buffer.position() + 1));
+        info.initialize(type, buffer.position() + 1);
     }
 
     private ContainerInfo currentContainer()
     {
-        return containers.isEmpty() ? null : containers.getLast();
+        return containerCount == 0 ? null : containers[containerCount - 1];
+    }
+
+    private String containersToString()
+    {
+        return Arrays.asList(containers).subList(0, containerCount).toString();
     }
 
     private void addPatchPoint(final long position, final int oldLength, final long value)
@@ -681,7 +741,7 @@ import software.amazon.ion.Timestamp;
         {
             throw new IllegalStateException("Tried to pop container state without said container");
         }
-        containers.removeLast();
+        containerCount--;
 
         // only patch for real containers and annotations -- we use VALUE for tracking only
         final long length = current.length;
@@ -846,7 +906,7 @@ import software.amazon.ion.Timestamp;
 
     public boolean isInStruct()
     {
-        return !containers.isEmpty() && currentContainer().type == ContainerType.STRUCT;
+        return containerCount > 0 && currentContainer().type == ContainerType.STRUCT;
     }
 
     // Write Value Methods
@@ -1053,6 +1113,192 @@ import software.amazon.ion.Timestamp;
         finishValue();
     }
 
+    // Bulk List Writing
+    //
+    // These write a list of primitive values in one pass over the buffer.  The length of the list's content is
+    // computed from the values up front so the list's type descriptor can be written with its final length rather
+    // than preallocated and patched, and the elements are encoded without going through the per-value preparation.
+
+    private static final byte LIST_TYPE = (byte) 0xB0;
+
+    /** Writes the type descriptor of a list with the given content length, accounting for the whole list. */
+    private void startList(final long contentLength)
+    {
+        prepareValue();
+        if (contentLength < 0xE)
+        {
+            updateLength(1 + contentLength);
+            buffer.writeUInt8(LIST_TYPE | contentLength);
+        }
+        else
+        {
+            buffer.writeUInt8(LIST_TYPE | 0xE);
+            final int sizeLength = buffer.writeVarUInt(contentLength);
+            updateLength(1 + sizeLength + contentLength);
+        }
+    }
+
+    /** Returns the number of bytes needed to encode the magnitude of a non-zero int. */
+    private static int magnitudeLength(final long magnitude)
+    {
+        // Long.MIN_VALUE is its own negation, which is the unsigned magnitude 2 ** 63
+        return (71 - Long.numberOfLeadingZeros(magnitude)) >>> 3;
+    }
+
+    private static int intElementLength(final long value)
+    {
+        return value == 0 ? 1 : 1 + magnitudeLength(value < 0 ? -value : value);
+    }
+
+    /** Encodes an int exactly as {@link #writeInt(long)} does, without accounting for its length. */
+    private void writeIntElement(long value)
+    {
+        if (value == 0)
+        {
+            buffer.writeByte(INT_ZERO);
+            return;
+        }
+        int type = POS_INT_TYPE;
+        if (value < 0)
+        {
+            type = NEG_INT_TYPE;
+            value = -value;
+        }
+        final int length = magnitudeLength(value);
+        buffer.writeUInt8(type | length);
+        switch (length)
+        {
+            case 1: buffer.writeUInt8(value);  break;
+            case 2: buffer.writeUInt16(value); break;
+            case 3: buffer.writeUInt24(value); break;
+            case 4: buffer.writeUInt32(value); break;
+            case 5: buffer.writeUInt40(value); break;
+            case 6: buffer.writeUInt48(value); break;
+            case 7: buffer.writeUInt56(value); break;
+            default: buffer.writeUInt64(value); break;
+        }
+    }
+
+    private int floatElementLength(final double value)
+    {
+        return isFloatBinary32Enabled && value == ((double) ((float) value)) ? 5 : 9;
+    }
+
+    /** Encodes a float exactly as {@link #writeFloat(double)} does, without accounting for its length. */
+    private void writeFloatElement(final double value)
+    {
+        if (isFloatBinary32Enabled && value == ((double) ((float) value)))
+        {
+            buffer.writeUInt8(FLOAT_TYPE | 4);
+            buffer.writeUInt32(floatToRawIntBits((float) value));
+        }
+        else
+        {
+            buffer.writeUInt8(FLOAT_TYPE | 8);
+            buffer.writeUInt64(doubleToRawLongBits(value));
+        }
+    }
+
+    /*package*/ void writeBoolList(final boolean[] values) throws IOException
+    {
+        startList(values.length);
+        for (final boolean value : values)
+        {
+            buffer.writeByte(value ? BOOL_TRUE : BOOL_FALSE);
+        }
+        finishValue();
+    }
+
+    /*package*/ void writeIntList(final byte[] values) throws IOException
+    {
+        long length = 0;
+        for (final byte value : values)
+        {
+            length += intElementLength(value);
+        }
+        startList(length);
+        for (final byte value : values)
+        {
+            writeIntElement(value);
+        }
+        finishValue();
+    }
+
+    /*package*/ void writeIntList(final short[] values) throws IOException
+    {
+        long length = 0;
+        for (final short value : values)
+        {
+            length += intElementLength(value);
+        }
+        startList(length);
+        for (final short value : values)
+        {
+            writeIntElement(value);
+        }
+        finishValue();
+    }
+
+    /*package*/ void writeIntList(final int[] values) throws IOException
+    {
+        long length = 0;
+        for (final int value : values)
+        {
+            length += intElementLength(value);
+        }
+        startList(length);
+        for (final int value : values)
+        {
+            writeIntElement(value);
+        }
+        finishValue();
+    }
+
+    /*package*/ void writeIntList(final long[] values) throws IOException
+    {
+        long length = 0;
+        for (final long value : values)
+        {
+            length += intElementLength(value);
+        }
+        startList(length);
+        for (final long value : values)
+        {
+            writeIntElement(value);
+        }
+        finishValue();
+    }
+
+    /*package*/ void writeFloatList(final float[] values) throws IOException
+    {
+        long length = 0;
+        for (final float value : values)
+        {
+            length += floatElementLength(value);
+        }
+        startList(length);
+        for (final float value : values)
+        {
+            writeFloatElement(value);
+        }
+        finishValue();
+    }
+
+    /*package*/ void writeFloatList(final double[] values) throws IOException
+    {
+        long length = 0;
+        for (final double value : values)
+        {
+            length += floatElementLength(value);
+        }
+        startList(length);
+        for (final double value : values)
+        {
+            writeFloatElement(value);
+        }
+        finishValue();
+    }
+
     /** Encodes a decimal, updating the current container length context (which is probably a Decimal/Timestamp). */
     private void writeDecimalValue(final BigDecimal value)
     {
@@ -1412,6 +1658,19 @@ import software.amazon.ion.Timestamp;
 
     // Stream Manipulation/Terminators
 
+    /**
+     * Moves buffered data to memory-mapped regions of a temporary file once more than the given number of bytes
+     * are held in memory, so that a very large value doesn't have to be buffered on the heap until its length
+     * is known.
+     *
+     * @param directory the directory in which to create the file, or {@code null} for the default.
+     */
+    /*package*/ void spillTo(final File directory, final long threshold)
+    {
+        spillAllocator = new SpillBlockAllocator(directory, allocator.getBlockSize());
+        buffer.spillTo(spillAllocator, threshold);
+    }
+
     /*package*/ long position()
     {
         return buffer.position();
@@ -1432,9 +1691,18 @@ import software.amazon.ion.Timestamp;
 
     public void finish() throws IOException
     {
-        if (!containers.isEmpty())
+        if (channel != null)
         {
-            throw new IllegalStateException("Cannot finish within container: " + containers);
+            final List<ByteBuffer> segments = new ArrayList<ByteBuffer>();
+            final long length = collectFinished(segments);
+            WriteBuffer.writeFully(channel, segments.toArray(new ByteBuffer[segments.size()]), length);
+            resetFinished();
+            return;
+        }
+
+        if (containerCount > 0)
+        {
+            throw new IllegalStateException("Cannot finish within container: " + containersToString());
         }
 
         if (patchPoints.isEmpty())
@@ -1460,14 +1728,77 @@ import software.amazon.ion.Timestamp;
             }
             buffer.writeTo(out, bufferPosition, buffer.position() - bufferPosition);
         }
-        patchPoints.clear();
-        patchBuffer.reset();
-        buffer.reset();
+        resetFinished();
 
         if (streamFlushMode == StreamFlushMode.FLUSH)
         {
             out.flush();
         }
+    }
+
+    /**
+     * Appends views of all of the finished data, with the length patches interleaved, to a list.
+     * The caller must write them out before calling {@link #resetFinished()}.
+     *
+     * @return the total number of bytes collected.
+     */
+    /*package*/ long collectFinished(final List<ByteBuffer> segments)
+    {
+        if (containerCount > 0)
+        {
+            throw new IllegalStateException("Cannot finish within container: " + containersToString());
+        }
+
+        long bufferPosition = 0;
+        for (final PatchPoint patch : patchPoints)
+        {
+            buffer.collect(segments, bufferPosition, patch.oldPosition - bufferPosition);
+            patchBuffer.collect(segments, patch.patchPosition, patch.patchLength);
+            bufferPosition = patch.oldPosition + patch.oldLength;
+        }
+        buffer.collect(segments, bufferPosition, buffer.position() - bufferPosition);
+
+        long length = buffer.position();
+        for (final PatchPoint patch : patchPoints)
+        {
+            length += patch.patchLength - patch.oldLength;
+        }
+        return length;
+    }
+
+    /**
+     * Directs the output of this writer to a different stream, keeping its blocks and container stack for reuse.
+     * Any data that hasn't been finished is discarded, so that the writer is in the same state as a newly
+     * constructed one.  The previous stream is neither flushed nor closed.
+     */
+    /*package*/ void rebind(final OutputStream out)
+    {
+        if (out == null) { throw new NullPointerException(); }
+        if (closed)
+        {
+            throw new IllegalStateException("Cannot rebind a closed writer");
+        }
+        if (channel != null)
+        {
+            throw new IllegalStateException("Cannot rebind a channel writer to a stream");
+        }
+        this.out = out;
+
+        resetFinished();
+        containerCount = 0;
+        depth = 0;
+        hasWrittenValuesSinceConstructed = false;
+        currentFieldName = null;
+        currentAnnotations.clear();
+        hasTopLevelSymbolTableAnnotation = false;
+    }
+
+    /** Discards all of the finished data once it has been written out. */
+    /*package*/ void resetFinished()
+    {
+        patchPoints.clear();
+        patchBuffer.reset();
+        buffer.reset();
 
         hasWrittenValuesSinceFinished = false;
     }
@@ -1494,13 +1825,24 @@ import software.amazon.ion.Timestamp;
             buffer.close();
             patchBuffer.close();
             allocator.close();
+            if (spillAllocator != null)
+            {
+                spillAllocator.close();
+            }
         }
         finally
         {
             if (streamCloseMode == StreamCloseMode.CLOSE)
             {
                 // release the stream
-                out.close();
+                if (channel != null)
+                {
+                    channel.close();
+                }
+                else
+                {
+                    out.close();
+                }
             }
         }
     }
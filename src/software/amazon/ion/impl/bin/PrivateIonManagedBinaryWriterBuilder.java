@@ -16,10 +16,15 @@ package software.amazon.ion.impl.bin;
 
 import static software.amazon.ion.impl.bin.IonManagedBinaryWriter.ONLY_SYSTEM_IMPORTS;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.channels.IllegalBlockingModeException;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.WritableByteChannel;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import software.amazon.ion.IonCatalog;
 import software.amazon.ion.IonWriter;
 import software.amazon.ion.SubstituteSymbolTableException;
@@ -60,6 +65,29 @@ public final class PrivateIonManagedBinaryWriterBuilder
             {
                 return BlockAllocatorProviders.basicProvider();
             }
+        },
+        /** Pools blocks backed by direct buffers, keeping buffered data off of the Java heap. */
+        DIRECT
+        {
+            @Override
+            BlockAllocatorProvider createAllocatorProvider()
+            {
+                return new DirectBlockAllocatorProvider();
+            }
+        },
+        /**
+         * Pools blocks in per-thread stripes backed by a global pool, with a bounded total size and idle eviction,
+         * using the default limits.
+         *
+         * @see PrivateIonManagedBinaryWriterBuilder#createStriped(long, long)
+         */
+        STRIPED
+        {
+            @Override
+            BlockAllocatorProvider createAllocatorProvider()
+            {
+                return new StripedBlockAllocatorProvider();
+            }
         };
 
         /*package*/ abstract BlockAllocatorProvider createAllocatorProvider();
@@ -76,6 +104,8 @@ public final class PrivateIonManagedBinaryWriterBuilder
     /*package*/ volatile WriteValueOptimization optimization;
     /*package*/ volatile SymbolTable            initialSymbolTable;
     /*package*/ volatile boolean                isFloatBinary32Enabled;
+    /*package*/ volatile long                   spillThreshold;
+    /*package*/ volatile File                   spillDirectory;
 
     private PrivateIonManagedBinaryWriterBuilder(final BlockAllocatorProvider provider)
     {
@@ -87,6 +117,8 @@ public final class PrivateIonManagedBinaryWriterBuilder
         this.catalog = new SimpleCatalog();
         this.optimization = WriteValueOptimization.NONE;
         this.isFloatBinary32Enabled = false;
+        this.spillThreshold = -1;
+        this.spillDirectory = null;
     }
 
     private PrivateIonManagedBinaryWriterBuilder(final PrivateIonManagedBinaryWriterBuilder other)
@@ -100,6 +132,8 @@ public final class PrivateIonManagedBinaryWriterBuilder
         this.optimization       = other.optimization;
         this.initialSymbolTable = other.initialSymbolTable;
         this.isFloatBinary32Enabled = other.isFloatBinary32Enabled;
+        this.spillThreshold     = other.spillThreshold;
+        this.spillDirectory     = other.spillDirectory;
     }
 
     public PrivateIonManagedBinaryWriterBuilder copy()
@@ -179,6 +213,30 @@ public final class PrivateIonManagedBinaryWriterBuilder
         return this;
     }
 
+    /**
+     * Bounds the amount of user data buffered on the heap.  Lengths are written before the values they describe,
+     * so a top-level container is buffered until it is stepped out of; once more than {@code threshold} bytes are
+     * buffered, the oldest blocks are moved to memory-mapped regions of a temporary file, which is deleted when the
+     * writer is closed.
+     *
+     * @param threshold the number of bytes to buffer before spilling, or a negative value to never spill.
+     */
+    public PrivateIonManagedBinaryWriterBuilder withSpillThreshold(final long threshold)
+    {
+        this.spillThreshold = threshold;
+        return this;
+    }
+
+    /**
+     * Sets the directory in which the temporary files for {@link #withSpillThreshold(long)} are created,
+     * or {@code null} for the default temporary-file directory.
+     */
+    public PrivateIonManagedBinaryWriterBuilder withSpillDirectory(final File directory)
+    {
+        this.spillDirectory = directory;
+        return this;
+    }
+
     public PrivateIonManagedBinaryWriterBuilder withCatalog(final IonCatalog catalog)
     {
         this.catalog = catalog;
@@ -243,6 +301,37 @@ public final class PrivateIonManagedBinaryWriterBuilder
         return new IonManagedBinaryWriter(this, out);
     }
 
+    /**
+     * Constructs a writer that emits the data of each {@link IonWriter#finish()} (and top-level
+     * {@link IonWriter#flush()}) with a single gathering write to the channel.  The channel must be in blocking
+     * mode, since the writer has no way to wait for a non-blocking channel to be ready.
+     *
+     * @throws IllegalBlockingModeException if the channel is a {@link SelectableChannel} in non-blocking mode.
+     */
+    public IonWriter newWriter(final WritableByteChannel channel) throws IOException
+    {
+        WriteBuffer.checkBlocking(channel);
+        return new IonManagedBinaryWriter(this, channel);
+    }
+
+    /**
+     * Directs a writer constructed by a builder of this kind to a different stream, reusing its buffers and
+     * state instead of constructing a new writer.  The writer is left in the same state as a new writer from
+     * the builder that constructed it.  The previous stream is neither flushed nor closed.
+     *
+     * @throws IllegalArgumentException if the writer wasn't constructed by a builder of this kind.
+     * @throws IllegalStateException if the writer is closed, writes to a channel, or has values that haven't
+     *                               been finished.
+     */
+    public static void rebind(final IonWriter writer, final OutputStream out) throws IOException
+    {
+        if (!(writer instanceof IonManagedBinaryWriter))
+        {
+            throw new IllegalArgumentException("Writer can't be rebound: " + writer.getClass().getName());
+        }
+        ((IonManagedBinaryWriter) writer).rebind(out);
+    }
+
     // Static Factories
 
     /**
@@ -255,4 +344,17 @@ public final class PrivateIonManagedBinaryWriterBuilder
     {
         return new PrivateIonManagedBinaryWriterBuilder(allocatorMode.createAllocatorProvider());
     }
+
+    /**
+     * Constructs a new builder bound to a {@link AllocatorMode#STRIPED} pool with the given limits.
+     *
+     * @param maxRetainedBytes the bound on the total size of the free blocks kept for reuse across all threads.
+     * @param idleTimeoutMillis how long a free block may go unused before it is released.
+     */
+    public static PrivateIonManagedBinaryWriterBuilder createStriped(final long maxRetainedBytes,
+                                                                     final long idleTimeoutMillis)
+    {
+        return new PrivateIonManagedBinaryWriterBuilder(
+            new StripedBlockAllocatorProvider(maxRetainedBytes, idleTimeoutMillis, TimeUnit.MILLISECONDS));
+    }
 }
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion.impl.bin;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.util.ArrayList;
+import java.util.List;
+import software.amazon.ion.IonException;
+
+/**
+ * A {@link BlockAllocator} whose {@link Block}s are slices of memory-mapped regions of a temporary file, used by
+ * {@link WriteBuffer} to move data out of the heap when a single value grows too large to buffer in memory.
+ * <p>
+ * The file is mapped a large region at a time, so that spilling gigabytes takes only a few dozen mappings rather
+ * than one per block; operating systems limit the number of mappings a process may have.  The file is created on
+ * the first allocation and deleted when the allocator is closed.  Closed blocks are kept for reuse so the file only
+ * grows to the largest amount of data spilled at once, rounded up to a whole region.
+ * <p>
+ * Spilled blocks are never written to directly, so unlike other off-heap blocks they have no staging array; their
+ * content is copied in by {@link WriteBuffer} and only accessed through the random access methods of {@link Block}.
+ * <p>
+ * This implementation is <b>not</b> thread-safe.
+ */
+/*package*/ final class SpillBlockAllocator extends BlockAllocator
+{
+    /** The default size of the regions of the file that are mapped at once. */
+    /*package*/ static final int DEFAULT_REGION_SIZE = 64 * 1024 * 1024;
+
+    private final File directory;
+    private final int blockSize;
+    private final int regionSize;
+    private final List<Block> freeBlocks;
+    private File file;
+    private FileChannel channel;
+    private long mappedLength;
+    /** The mapped region from which new blocks are sliced, or {@code null} before the first allocation. */
+    private ByteBuffer region;
+
+    /**
+     * @param directory the directory in which to create the temporary file, or {@code null} for the default
+     *                  temporary-file directory.
+     * @param blockSize the size of the blocks, which should match the size of the blocks being spilled.
+     */
+    public SpillBlockAllocator(final File directory, final int blockSize)
+    {
+        this(directory, blockSize, DEFAULT_REGION_SIZE);
+    }
+
+    /**
+     * @param regionSize the size of the regions of the file to map at once, which is rounded down to a whole
+     *                   number of blocks, but no fewer than one.
+     */
+    /*package*/ SpillBlockAllocator(final File directory, final int blockSize, final int regionSize)
+    {
+        if (blockSize <= 0)
+        {
+            throw new IllegalArgumentException("Invalid block size: " + blockSize);
+        }
+        if (regionSize <= 0)
+        {
+            throw new IllegalArgumentException("Invalid region size: " + regionSize);
+        }
+        this.directory = directory;
+        this.blockSize = blockSize;
+        this.regionSize = Math.max(1, regionSize / blockSize) * blockSize;
+        this.freeBlocks = new ArrayList<Block>();
+    }
+
+    @Override
+    public Block allocateBlock()
+    {
+        final int size = freeBlocks.size();
+        if (size > 0)
+        {
+            return freeBlocks.remove(size - 1);
+        }
+
+        if (region == null || !region.hasRemaining())
+        {
+            mapRegion();
+        }
+        region.limit(region.position() + blockSize);
+        final ByteBuffer slice = region.slice();
+        region.position(region.limit());
+        region.limit(region.capacity());
+
+        return new Block(slice)
+        {
+            @Override
+            public void close()
+            {
+                reset();
+                freeBlocks.add(this);
+            }
+        };
+    }
+
+    private void mapRegion()
+    {
+        try
+        {
+            if (channel == null)
+            {
+                file = File.createTempFile("ion", ".spill", directory);
+                channel = new RandomAccessFile(file, "rw").getChannel();
+            }
+            region = channel.map(MapMode.READ_WRITE, mappedLength, regionSize);
+        }
+        catch (final IOException e)
+        {
+            throw new IonException("Unable to spill to temporary file", e);
+        }
+        mappedLength += regionSize;
+    }
+
+    @Override
+    public int getBlockSize()
+    {
+        return blockSize;
+    }
+
+    @Override
+    public void close()
+    {
+        freeBlocks.clear();
+        if (channel == null)
+        {
+            return;
+        }
+        try
+        {
+            channel.close();
+        }
+        catch (final IOException e)
+        {
+            throw new IonException(e);
+        }
+        finally
+        {
+            // the mapped regions stay valid until they are collected, but the file doesn't need to
+            file.delete();
+            channel = null;
+            file = null;
+            region = null;
+            mappedLength = 0;
+        }
+    }
+}
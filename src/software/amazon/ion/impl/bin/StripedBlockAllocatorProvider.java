@@ -0,0 +1,279 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion.impl.bin;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A pooling implementation of {@link BlockAllocatorProvider} that keeps its free blocks in two tiers: small caches
+ * spread over a number of independently locked stripes, chosen by the calling thread, so that many threads creating
+ * and closing writers don't contend on a single free list; and a global pool, shared by all threads, that takes the
+ * blocks a stripe has no room for and supplies the threads whose stripes run dry.
+ * <p>
+ * The total size of the free blocks across both tiers and all block sizes is bounded; blocks closed beyond that
+ * bound are left to the garbage collector.  Free blocks that haven't been reused within the idle timeout are evicted.
+ * Each stripe is trimmed as blocks are returned to it, and every stripe and the global pool are swept at most twice
+ * per idle timeout by whichever thread next allocates or returns a block, so memory retained after a spike in load
+ * is released even when the threads that caused it have gone quiet.
+ * <p>
+ * This implementation is thread-safe.
+ */
+/*package*/ final class StripedBlockAllocatorProvider extends BlockAllocatorProvider
+{
+    /** The default bound on the total size of the free blocks. */
+    public static final long DEFAULT_MAX_RETAINED_BYTES = 64L * 1024 * 1024;
+    /** The default time after which an unused free block is evicted. */
+    public static final long DEFAULT_IDLE_TIMEOUT_MILLIS = 60 * 1000;
+
+    private static final int MAX_STRIPES = 64;
+    /** The number of free blocks of each size a stripe holds before returning them to the global pool. */
+    /*package*/ static final int STRIPE_CAPACITY = 8;
+
+    private static final class PooledBlock extends Block
+    {
+        private final StripedBlockAllocator allocator;
+        private long releasedAt;
+
+        PooledBlock(final StripedBlockAllocator allocator)
+        {
+            super(new byte[allocator.blockSize]);
+            this.allocator = allocator;
+        }
+
+        @Override
+        public void close()
+        {
+            reset();
+            allocator.release(this);
+        }
+    }
+
+    /**
+     * A {@link BlockAllocator} for a particular size whose free blocks are spread over a fixed set of stripes backed by
+     * a global pool.  Each stripe is a LIFO stack so that its least recently used blocks are at the bottom; those are
+     * the ones that move to the global pool, which is a LIFO stack too.
+     * <p>
+     * This implementation is thread-safe.
+     */
+    private final class StripedBlockAllocator extends BlockAllocator
+    {
+        private final int blockSize;
+        private final ArrayDeque<PooledBlock>[] stripes;
+        private final ArrayDeque<PooledBlock> global;
+
+        public StripedBlockAllocator(final int blockSize)
+        {
+            this.blockSize = blockSize;
+            @SuppressWarnings({"rawtypes", "unchecked"})
+            final ArrayDeque<PooledBlock>[] stripes = new ArrayDeque[stripeCount];
+            for (int i = 0; i < stripeCount; i++)
+            {
+                stripes[i] = new ArrayDeque<PooledBlock>();
+            }
+            this.stripes = stripes;
+            this.global = new ArrayDeque<PooledBlock>();
+        }
+
+        private ArrayDeque<PooledBlock> stripe()
+        {
+            return stripes[(int) Thread.currentThread().getId() & (stripeCount - 1)];
+        }
+
+        @Override
+        public Block allocateBlock()
+        {
+            final ArrayDeque<PooledBlock> stripe = stripe();
+            PooledBlock block;
+            synchronized (stripe)
+            {
+                block = stripe.pollFirst();
+            }
+            if (block == null)
+            {
+                synchronized (global)
+                {
+                    block = global.pollFirst();
+                }
+            }
+            if (block != null)
+            {
+                retainedBytes.addAndGet(-blockSize);
+            }
+            sweepIfDue(System.nanoTime());
+            return block != null ? block : new PooledBlock(this);
+        }
+
+        void release(final PooledBlock block)
+        {
+            final long now = System.nanoTime();
+            sweepIfDue(now);
+
+            if (retainedBytes.addAndGet(blockSize) > maxRetainedBytes)
+            {
+                // over budget--let the block go
+                retainedBytes.addAndGet(-blockSize);
+                return;
+            }
+
+            block.releasedAt = now;
+            final ArrayDeque<PooledBlock> stripe = stripe();
+            final PooledBlock overflow;
+            synchronized (stripe)
+            {
+                stripe.addFirst(block);
+                evictIdle(stripe, now);
+                overflow = stripe.size() > STRIPE_CAPACITY ? stripe.pollLast() : null;
+            }
+            if (overflow != null)
+            {
+                synchronized (global)
+                {
+                    global.addFirst(overflow);
+                }
+            }
+        }
+
+        /** Evicts the idle blocks of every stripe and of the global pool. */
+        void sweep(final long now)
+        {
+            for (final ArrayDeque<PooledBlock> stripe : stripes)
+            {
+                synchronized (stripe)
+                {
+                    evictIdle(stripe, now);
+                }
+            }
+            synchronized (global)
+            {
+                // stripes overflow in no particular order, so the global pool isn't sorted by release time
+                final Iterator<PooledBlock> iter = global.iterator();
+                while (iter.hasNext())
+                {
+                    if (now - iter.next().releasedAt > idleTimeoutNanos)
+                    {
+                        iter.remove();
+                        retainedBytes.addAndGet(-blockSize);
+                    }
+                }
+            }
+        }
+
+        private void evictIdle(final ArrayDeque<PooledBlock> stripe, final long now)
+        {
+            PooledBlock oldest;
+            while ((oldest = stripe.peekLast()) != null && now - oldest.releasedAt > idleTimeoutNanos)
+            {
+                stripe.pollLast();
+                retainedBytes.addAndGet(-blockSize);
+            }
+        }
+
+        @Override
+        public int getBlockSize()
+        {
+            return blockSize;
+        }
+
+        @Override
+        public void close() {}
+    }
+
+    private final ConcurrentMap<Integer, BlockAllocator> allocators;
+    private final AtomicLong retainedBytes;
+    private final long maxRetainedBytes;
+    private final long idleTimeoutNanos;
+    private final int stripeCount;
+    /** The {@link System#nanoTime()} after which the next full sweep for idle blocks is due. */
+    private final AtomicLong nextSweep;
+
+    public StripedBlockAllocatorProvider()
+    {
+        this(DEFAULT_MAX_RETAINED_BYTES, DEFAULT_IDLE_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @param maxRetainedBytes the bound on the total size of free blocks kept for reuse.
+     * @param idleTimeout how long a free block may go unused before it is evicted.
+     * @param unit the unit of {@code idleTimeout}.
+     */
+    public StripedBlockAllocatorProvider(final long maxRetainedBytes, final long idleTimeout, final TimeUnit unit)
+    {
+        if (maxRetainedBytes < 0)
+        {
+            throw new IllegalArgumentException("Invalid maximum retained bytes: " + maxRetainedBytes);
+        }
+        if (idleTimeout < 0)
+        {
+            throw new IllegalArgumentException("Invalid idle timeout: " + idleTimeout);
+        }
+        this.allocators = new ConcurrentHashMap<Integer, BlockAllocator>();
+        this.retainedBytes = new AtomicLong();
+        this.maxRetainedBytes = maxRetainedBytes;
+        this.idleTimeoutNanos = unit.toNanos(idleTimeout);
+        this.nextSweep = new AtomicLong(System.nanoTime() + idleTimeoutNanos / 2);
+
+        final int processors = Runtime.getRuntime().availableProcessors();
+        this.stripeCount = Math.min(MAX_STRIPES, Integer.highestOneBit(Math.max(1, processors * 2 - 1)) << 1);
+    }
+
+    /** Returns the total size of the free blocks currently held for reuse. */
+    /*package*/ long retainedBytes()
+    {
+        return retainedBytes.get();
+    }
+
+    /**
+     * Sweeps every allocator for idle blocks if half the idle timeout has passed since the last sweep.  Only the
+     * thread that claims the sweep performs it; the others carry on.
+     */
+    private void sweepIfDue(final long now)
+    {
+        final long due = nextSweep.get();
+        if (now - due < 0 || !nextSweep.compareAndSet(due, now + idleTimeoutNanos / 2))
+        {
+            return;
+        }
+        for (final BlockAllocator allocator : allocators.values())
+        {
+            ((StripedBlockAllocator) allocator).sweep(now);
+        }
+    }
+
+    @Override
+    public BlockAllocator vendAllocator(final int blockSize)
+    {
+        if (blockSize <= 0)
+        {
+            throw new IllegalArgumentException("Invalid block size: " + blockSize);
+        }
+
+        BlockAllocator allocator = allocators.get(blockSize);
+        if (allocator == null)
+        {
+            allocator = new StripedBlockAllocator(blockSize);
+            final BlockAllocator existingAllocator = allocators.putIfAbsent(blockSize, allocator);
+            if (existingAllocator != null)
+            {
+                allocator = existingAllocator;
+            }
+        }
+        return allocator;
+    }
+}
@@ -17,6 +17,11 @@ package software.amazon.ion.impl.bin;
 import java.io.Closeable;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.IllegalBlockingModeException;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.WritableByteChannel;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -29,6 +34,10 @@ import java.util.List;
     private final List<Block> blocks;
     private Block current;
     private int index;
+    private BlockAllocator spillAllocator;
+    private long spillThreshold;
+    /** The number of leading blocks that have been moved to the spill allocator. */
+    private int spilled;
 
     public WriteBuffer(final BlockAllocator allocator)
     {
@@ -40,6 +49,7 @@ import java.util.List;
 
         this.index = 0;
         this.current = blocks.get(0);
+        this.current.activate();
     }
 
     private void allocateNewBlock()
@@ -47,6 +57,81 @@ import java.util.List;
         blocks.add(allocator.allocateBlock());
     }
 
+    /** Moves on to the next block, allocating it if necessary. */
+    private void nextBlock()
+    {
+        if (index == blocks.size() - 1)
+        {
+            allocateNewBlock();
+        }
+        index++;
+        setCurrent(blocks.get(index));
+
+        if (spillAllocator != null && ((long) (index - spilled)) * allocator.getBlockSize() > spillThreshold)
+        {
+            spill();
+        }
+    }
+
+    /**
+     * Moves blocks out of memory to the given allocator, other than the current one, once more than the given
+     * number of bytes are held in memory.  The spilled blocks are still readable and patchable as usual.
+     */
+    public void spillTo(final BlockAllocator spillAllocator, final long threshold)
+    {
+        if (spillAllocator.getBlockSize() != allocator.getBlockSize())
+        {
+            throw new IllegalArgumentException("Spill block size must match: " + spillAllocator.getBlockSize());
+        }
+        if (threshold < 0)
+        {
+            throw new IllegalArgumentException("Invalid spill threshold: " + threshold);
+        }
+        this.spillAllocator = spillAllocator;
+        this.spillThreshold = threshold;
+    }
+
+    /** Moves all of the blocks before the current one to the spill allocator. */
+    private void spill()
+    {
+        for (; spilled < index; spilled++)
+        {
+            final Block block = blocks.get(spilled);
+            final Block spill = spillAllocator.allocateBlock();
+            spill.copyFrom(block);
+            block.close();
+            blocks.set(spilled, spill);
+        }
+    }
+
+    /** Brings spilled blocks back into memory, from the given index on, so they can be written to again. */
+    private void unspill(final int from)
+    {
+        for (int i = from; i < spilled; i++)
+        {
+            final Block spill = blocks.get(i);
+            final Block block = allocator.allocateBlock();
+            if (i == from)
+            {
+                // the blocks after the first are being truncated away anyway
+                block.copyFrom(spill);
+            }
+            spill.close();
+            blocks.set(i, block);
+        }
+        spilled = from;
+    }
+
+    private void setCurrent(final Block block)
+    {
+        if (block != current)
+        {
+            current.deactivate();
+            block.activate();
+            current = block;
+        }
+    }
+
     /** Returns the block index for the given position. */
     private int index(final long position)
     {
@@ -64,8 +149,10 @@ import java.util.List;
     {
         close();
         allocateNewBlock();
+        spilled = 0;
         index = 0;
         current = blocks.get(index);
+        current.activate();
     }
 
     public void close()
@@ -85,10 +172,14 @@ import java.util.List;
     {
         final int index = index(position);
         final int offset = offset(position);
+        if (index < spilled)
+        {
+            unspill(index);
+        }
         final Block block = blocks.get(index);
         this.index = index;
+        setCurrent(block);
         block.limit = offset;
-        current = block;
     }
 
     /** Returns the amount of capacity left in the current block. */
@@ -111,7 +202,7 @@ import java.util.List;
         final int index = index(position);
         final int offset = offset(position);
         final Block block = blocks.get(index);
-        return block.data[offset] & OCTET_MASK;
+        return block.getUInt8(offset);
     }
 
     /** Writes a single octet to the buffer, expanding if necessary. */
@@ -119,12 +210,7 @@ import java.util.List;
     {
         if (remaining() < 1)
         {
-            if (index == blocks.size() - 1)
-            {
-                allocateNewBlock();
-            }
-            index++;
-            current = blocks.get(index);
+            nextBlock();
         }
         final Block block = current;
         block.data[block.limit] = octet;
@@ -144,12 +230,7 @@ import java.util.List;
             len -= amount;
             if (block.remaining() == 0)
             {
-                if (index == blocks.size() - 1)
-                {
-                    allocateNewBlock();
-                }
-                index++;
-                current = blocks.get(index);
+                nextBlock();
             }
         }
 
@@ -1037,9 +1118,9 @@ import java.util.List;
     {
         // XXX we're stradling a block
         final Block block1 = blocks.get(index);
-        block1.data[offset] = (byte) ((value >> VAR_UINT_2_OCTET_SHIFT) & VAR_INT_MASK);
+        block1.putUInt8(offset, (byte) ((value >> VAR_UINT_2_OCTET_SHIFT) & VAR_INT_MASK));
         final Block block2 = blocks.get(index + 1);
-        block2.data[0]      = (byte) ((value                            & VAR_INT_MASK) | VAR_INT_FINAL_OCTET_SIGNAL_MASK);
+        block2.putUInt8(0,      (byte) ((value                            & VAR_INT_MASK) | VAR_INT_FINAL_OCTET_SIGNAL_MASK));
     }
 
     public void writeVarUIntDirect2At(long position, long value)
@@ -1054,8 +1135,8 @@ import java.util.List;
         }
 
         final Block block = blocks.get(index);
-        block.data[offset    ] = (byte) ((value >> VAR_UINT_2_OCTET_SHIFT) & VAR_INT_MASK);
-        block.data[offset + 1] = (byte) ((value                            & VAR_INT_MASK) | VAR_INT_FINAL_OCTET_SIGNAL_MASK);
+        block.putUInt8(offset,     (byte) ((value >> VAR_UINT_2_OCTET_SHIFT) & VAR_INT_MASK));
+        block.putUInt8(offset + 1, (byte) ((value                            & VAR_INT_MASK) | VAR_INT_FINAL_OCTET_SIGNAL_MASK));
     }
 
     public void writeUInt8At(final long position, final long value)
@@ -1065,15 +1146,107 @@ import java.util.List;
 
         // XXX we'll never overrun a block unless we're given a position past our block array
         final Block block = blocks.get(index);
-        block.data[offset] = (byte) value;
+        block.putUInt8(offset, (byte) value);
     }
 
     /** Write the entire buffer to output stream. */
     public void writeTo(final OutputStream out) throws IOException
     {
-        for (final Block block : blocks)
+        for (int i = 0; i <= index; i++)
+        {
+            final Block block = blocks.get(i);
+            block.writeTo(out, 0, block.limit);
+        }
+    }
+
+    /**
+     * Write the entire buffer to a channel.  When the channel is a {@link GatheringByteChannel} all of the blocks
+     * are handed to it at once, so off-heap blocks can be written without being copied onto the heap.
+     */
+    public void writeTo(final WritableByteChannel channel) throws IOException
+    {
+        final ByteBuffer[] buffers = new ByteBuffer[index + 1];
+        long length = 0;
+        for (int i = 0; i <= index; i++)
+        {
+            final Block block = blocks.get(i);
+            buffers[i] = block.toByteBuffer(0, block.limit);
+            length += block.limit;
+        }
+        writeFully(channel, buffers, length);
+    }
+
+    /**
+     * Appends views of a specific segment of data from the buffer to a list, one per block spanned.
+     * The views are only valid until the buffer is next modified.
+     */
+    public void collect(final List<ByteBuffer> segments, long position, long length)
+    {
+        while (length > 0)
+        {
+            final int index = index(position);
+            final int offset = offset(position);
+            final Block block = blocks.get(index);
+            final int amount = (int) Math.min(block.capacity() - offset, length);
+            segments.add(block.toByteBuffer(offset, amount));
+
+            position += amount;
+            length -= amount;
+        }
+    }
+
+    /**
+     * Writes all of the remaining content of the given buffers to a channel.
+     *
+     * @throws IllegalBlockingModeException if the channel is in non-blocking mode and can't take all of the data
+     *                                      at once; rather than spinning until it can, the data is abandoned.
+     */
+    /*package*/ static void writeFully(final WritableByteChannel channel,
+                                       final ByteBuffer[] buffers,
+                                       long length) throws IOException
+    {
+        if (channel instanceof GatheringByteChannel)
+        {
+            final GatheringByteChannel gathering = (GatheringByteChannel) channel;
+            int first = 0;
+            while (length > 0)
+            {
+                final long written = gathering.write(buffers, first, buffers.length - first);
+                if (written == 0)
+                {
+                    checkBlocking(channel);
+                }
+                length -= written;
+                while (first < buffers.length && !buffers[first].hasRemaining())
+                {
+                    first++;
+                }
+            }
+        }
+        else
+        {
+            for (final ByteBuffer buffer : buffers)
+            {
+                while (buffer.hasRemaining())
+                {
+                    if (channel.write(buffer) == 0)
+                    {
+                        checkBlocking(channel);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Throws if a channel is a {@link SelectableChannel} in non-blocking mode, which writers can't use since they
+     * have no way to wait for it to be ready.
+     */
+    /*package*/ static void checkBlocking(final WritableByteChannel channel)
+    {
+        if (channel instanceof SelectableChannel && !((SelectableChannel) channel).isBlocking())
         {
-            out.write(block.data, 0, block.limit);
+            throw new IllegalBlockingModeException();
         }
     }
 
@@ -1085,8 +1258,8 @@ import java.util.List;
             final int index = index(position);
             final int offset = offset(position);
             final Block block = blocks.get(index);
-            final int amount = (int) Math.min(block.data.length - offset, length);
-            out.write(block.data, offset, amount);
+            final int amount = (int) Math.min(block.capacity() - offset, length);
+            block.writeTo(out, offset, amount);
 
             position += amount;
             length -= amount;
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion.impl.lite;
+
+import software.amazon.ion.IonReader;
+import software.amazon.ion.SeekableReader;
+import software.amazon.ion.Span;
+
+/**
+ * The Ion binary data from which values were lazily loaded, shared by the
+ * containers whose children haven't been loaded yet.  Each such container
+ * holds the {@link Span} of its own value within the data.
+ * <p>
+ * The data is referenced, not copied, so it must not be modified while any
+ * of those containers remain.
+ * <p>
+ * This class is not thread-safe; neither are the mutable values that use it.
+ * Copies of a container are given their own instance.
+ */
+final class BinaryBacking
+{
+    private final IonSystemLite mySystem;
+    private final byte[]        myBytes;
+    private final int           myOffset;
+    private final int           myLength;
+
+    /** Created on first use, then repositioned for each container. */
+    private IonReader      myReader;
+    private SeekableReader mySeekableReader;
+
+    BinaryBacking(IonSystemLite system, byte[] bytes, int offset, int length)
+    {
+        mySystem = system;
+        myBytes  = bytes;
+        myOffset = offset;
+        myLength = length;
+    }
+
+    /**
+     * @return a new instance over the same data, which doesn't share this
+     * one's reader.
+     */
+    BinaryBacking copy()
+    {
+        return new BinaryBacking(mySystem, myBytes, myOffset, myLength);
+    }
+
+    /**
+     * Positions a reader on the value of the given span.
+     *
+     * @param span must have been taken from a reader over the same data.
+     *
+     * @return a reader whose current value is the span's; it remains valid
+     * until this method is called again.
+     */
+    IonReader hoist(Span span)
+    {
+        if (myReader == null)
+        {
+            myReader = mySystem.newLazyReader(myBytes, myOffset, myLength);
+            mySeekableReader = myReader.asFacet(SeekableReader.class);
+        }
+        mySeekableReader.hoist(span);
+        myReader.next();
+        return myReader;
+    }
+
+    /**
+     * Loads the children of a container from the data.
+     *
+     * @param span the span of the container's value.
+     */
+    void loadChildren(IonContainerLite container, Span span)
+    {
+        IonReader reader = hoist(span);
+        mySystem.load_children(container, reader, this);
+    }
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion.impl.lite;
+
+import java.util.Arrays;
+
+/**
+ * Maps the field names of an {@link IonStructLite} to the index of a child
+ * with that name.
+ * <p>
+ * This is an open-addressing hash table with linear probing, holding the
+ * names and indexes in parallel arrays, so unlike a
+ * {@code HashMap<String, Integer>} it allocates no entry or {@link Integer}
+ * objects.  Removal shifts the following entries back rather than leaving
+ * tombstones.  The null name (of a field whose text is unknown) is held
+ * apart from the table.
+ * <p>
+ * Field names are usually the same {@link String} instances (the readers
+ * cache them), so names are compared by identity before
+ * {@link String#equals(Object)}, and their cached hash codes are used.
+ */
+final class FieldIndex
+{
+    /** The table is grown when it would be more than this many 16ths full. */
+    private static final int MAX_LOAD_16THS = 11;
+
+    private String[] myNames;
+    private int[]    myIndexes;
+    private int      mySize;
+    /** The index of the field with the null name, or -1 if there is none. */
+    private int      myNullIndex = -1;
+
+    /**
+     * @param expectedSize the number of names the index should hold without
+     * growing.
+     */
+    FieldIndex(int expectedSize)
+    {
+        int capacity = 8;
+        while (capacity * MAX_LOAD_16THS < expectedSize * 16) {
+            capacity <<= 1;
+        }
+        myNames = new String[capacity];
+        myIndexes = new int[capacity];
+    }
+
+    private FieldIndex(FieldIndex that)
+    {
+        // Strings are immutable, so the names can be shared
+        myNames = that.myNames.clone();
+        myIndexes = that.myIndexes.clone();
+        mySize = that.mySize;
+        myNullIndex = that.myNullIndex;
+    }
+
+    FieldIndex copy()
+    {
+        return new FieldIndex(this);
+    }
+
+    /** @return the number of distinct names, including the null name. */
+    int size()
+    {
+        return mySize + (myNullIndex < 0 ? 0 : 1);
+    }
+
+    private static int slot(int hash, int mask)
+    {
+        // names that differ only in their last characters, like "f1" and
+        // "f2", have adjacent hashes; scatter them so that they don't form
+        // runs that lengthen the probes of other names
+        int h = hash * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    /**
+     * @param name may be null.
+     *
+     * @return the index mapped to the name, or -1 if there is none.
+     */
+    int get(String name)
+    {
+        if (name == null) return myNullIndex;
+
+        final String[] names = myNames;
+        final int mask = names.length - 1;
+        int i = slot(name.hashCode(), mask);
+        for (;;) {
+            String n = names[i];
+            if (n == null) return -1;
+            if (n == name || (n.hashCode() == name.hashCode() && n.equals(name))) {
+                return myIndexes[i];
+            }
+            i = (i + 1) & mask;
+        }
+    }
+
+    /**
+     * Maps the name to the index, replacing any index it had.
+     *
+     * @param name may be null.
+     * @param index must not be negative.
+     */
+    void put(String name, int index)
+    {
+        assert index >= 0;
+        if (name == null) {
+            myNullIndex = index;
+            return;
+        }
+        if ((mySize + 1) * 16 > myNames.length * MAX_LOAD_16THS) {
+            grow();
+        }
+
+        final String[] names = myNames;
+        final int mask = names.length - 1;
+        int i = slot(name.hashCode(), mask);
+        for (;;) {
+            String n = names[i];
+            if (n == null) {
+                names[i] = name;
+                mySize++;
+                break;
+            }
+            if (n == name || (n.hashCode() == name.hashCode() && n.equals(name))) {
+                break;
+            }
+            i = (i + 1) & mask;
+        }
+        myIndexes[i] = index;
+    }
+
+    /**
+     * Removes the name, if it's mapped.
+     *
+     * @param name may be null.
+     */
+    void remove(String name)
+    {
+        if (name == null) {
+            myNullIndex = -1;
+            return;
+        }
+
+        final String[] names = myNames;
+        final int[] indexes = myIndexes;
+        final int mask = names.length - 1;
+        int i = slot(name.hashCode(), mask);
+        for (;;) {
+            String n = names[i];
+            if (n == null) return;
+            if (n == name || (n.hashCode() == name.hashCode() && n.equals(name))) {
+                break;
+            }
+            i = (i + 1) & mask;
+        }
+
+        // move back any following entries that could have used this slot
+        int hole = i;
+        for (;;) {
+            i = (i + 1) & mask;
+            String n = names[i];
+            if (n == null) break;
+            int home = slot(n.hashCode(), mask);
+            // the entry can fill the hole unless its home slot lies
+            // (cyclically) after the hole and at or before the entry
+            if (((i - home) & mask) >= ((i - hole) & mask)) {
+                names[hole] = n;
+                indexes[hole] = indexes[i];
+                hole = i;
+            }
+        }
+        names[hole] = null;
+        mySize--;
+    }
+
+    private void grow()
+    {
+        String[] oldNames = myNames;
+        int[] oldIndexes = myIndexes;
+
+        final int capacity = oldNames.length * 2;
+        final String[] names = new String[capacity];
+        final int[] indexes = new int[capacity];
+        final int mask = capacity - 1;
+        for (int j = 0; j < oldNames.length; j++) {
+            String n = oldNames[j];
+            if (n == null) continue;
+            int i = slot(n.hashCode(), mask);
+            while (names[i] != null) {
+                i = (i + 1) & mask;
+            }
+            names[i] = n;
+            indexes[i] = oldIndexes[j];
+        }
+        myNames = names;
+        myIndexes = indexes;
+    }
+
+    /**
+     * @return the names that are mapped, in no particular order; the null
+     * name is included if it's mapped.
+     */
+    String[] names()
+    {
+        String[] result = new String[size()];
+        int count = 0;
+        for (String n : myNames) {
+            if (n != null) result[count++] = n;
+        }
+        // if the null name is mapped, it's left at the end
+        assert count == mySize;
+        return result;
+    }
+
+    @Override
+    public String toString()
+    {
+        StringBuilder out = new StringBuilder("[");
+        String[] names = names();
+        Arrays.sort(names, 0, mySize);
+        for (int i = 0; i < names.length; i++) {
+            if (i > 0) out.append(',');
+            out.append(names[i]).append(':').append(get(names[i]));
+        }
+        return out.append(']').toString();
+    }
+}
@@ -0,0 +1,1368 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion.impl.lite;
+
+import static software.amazon.ion.SymbolTable.UNKNOWN_SYMBOL_ID;
+import static software.amazon.ion.SystemSymbols.IMPORTS_SID;
+import static software.amazon.ion.SystemSymbols.ION_SYMBOL_TABLE_SID;
+import static software.amazon.ion.SystemSymbols.MAX_ID_SID;
+import static software.amazon.ion.SystemSymbols.NAME_SID;
+import static software.amazon.ion.SystemSymbols.SYMBOLS_SID;
+import static software.amazon.ion.SystemSymbols.VERSION_SID;
+import static software.amazon.ion.impl.PrivateIonConstants.BINARY_VERSION_MARKER_1_0;
+import static software.amazon.ion.impl.PrivateIonConstants.lnBooleanFalse;
+import static software.amazon.ion.impl.PrivateIonConstants.lnBooleanTrue;
+import static software.amazon.ion.impl.PrivateIonConstants.lnIsNull;
+import static software.amazon.ion.impl.PrivateIonConstants.lnIsVarLen;
+import static software.amazon.ion.impl.PrivateIonConstants.tidBlob;
+import static software.amazon.ion.impl.PrivateIonConstants.tidBoolean;
+import static software.amazon.ion.impl.PrivateIonConstants.tidClob;
+import static software.amazon.ion.impl.PrivateIonConstants.tidDecimal;
+import static software.amazon.ion.impl.PrivateIonConstants.tidFloat;
+import static software.amazon.ion.impl.PrivateIonConstants.tidList;
+import static software.amazon.ion.impl.PrivateIonConstants.tidNegInt;
+import static software.amazon.ion.impl.PrivateIonConstants.tidNull;
+import static software.amazon.ion.impl.PrivateIonConstants.tidPosInt;
+import static software.amazon.ion.impl.PrivateIonConstants.tidSexp;
+import static software.amazon.ion.impl.PrivateIonConstants.tidString;
+import static software.amazon.ion.impl.PrivateIonConstants.tidStruct;
+import static software.amazon.ion.impl.PrivateIonConstants.tidSymbol;
+import static software.amazon.ion.impl.PrivateIonConstants.tidTimestamp;
+import static software.amazon.ion.impl.PrivateIonConstants.tidTypedecl;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import software.amazon.ion.Decimal;
+import software.amazon.ion.IntegerSize;
+import software.amazon.ion.IonBool;
+import software.amazon.ion.IonDecimal;
+import software.amazon.ion.IonException;
+import software.amazon.ion.IonFloat;
+import software.amazon.ion.IonInt;
+import software.amazon.ion.IonString;
+import software.amazon.ion.IonSymbol;
+import software.amazon.ion.IonTimestamp;
+import software.amazon.ion.IonType;
+import software.amazon.ion.SymbolTable;
+import software.amazon.ion.SymbolToken;
+import software.amazon.ion.Timestamp;
+import software.amazon.ion.impl.PrivateIonValue.SymbolTableProvider;
+
+
+/**
+ * Encoder implementation that encodes an IonDatagram into binary format
+ * front to back, so that the data can be streamed as it's encoded.
+ * <p>
+ * Encoding takes two passes over the DOM.  The first assigns symbol IDs and
+ * computes the length of every container, which prefixes its encoding; the
+ * lengths are cached on the containers, so that the second pass, which
+ * writes the data, doesn't recompute them.  The cached lengths are kept
+ * until the containers are modified, so encoding an unmodified value again
+ * with the same symbol table only recomputes the lengths of its scalars.
+ * Read-only containers may be encoded by several threads at once, so their
+ * lengths are kept by the encoder instead.
+ * <p>
+ * Unlike the {@link ReverseBinaryEncoder}, this holds no more of the
+ * encoding in memory than the output requires: {@link #toNewByteArray()}
+ * writes straight into an array of the exact size, and
+ * {@link #writeBytes(OutputStream)} through a fixed-size buffer.
+ */
+final class ForwardBinaryEncoder
+{
+    private static final int NULL_LENGTH_MASK   = lnIsNull;
+
+    private static final int TYPE_NULL          = tidNull       << 4;
+    private static final int TYPE_BOOL          = tidBoolean    << 4;
+    private static final int TYPE_POS_INT       = tidPosInt     << 4;
+    private static final int TYPE_NEG_INT       = tidNegInt     << 4;
+    private static final int TYPE_FLOAT         = tidFloat      << 4;
+    private static final int TYPE_DECIMAL       = tidDecimal    << 4;
+    private static final int TYPE_TIMESTAMP     = tidTimestamp  << 4;
+    private static final int TYPE_SYMBOL        = tidSymbol     << 4;
+    private static final int TYPE_STRING        = tidString     << 4;
+    private static final int TYPE_CLOB          = tidClob       << 4;
+    private static final int TYPE_BLOB          = tidBlob       << 4;
+    private static final int TYPE_LIST          = tidList       << 4;
+    private static final int TYPE_SEXP          = tidSexp       << 4;
+    private static final int TYPE_STRUCT        = tidStruct     << 4;
+    private static final int TYPE_ANNOTATIONS   = tidTypedecl   << 4;
+
+    /** The size of the buffer through which data is streamed. */
+    private static final int STREAM_BUFFER_SIZE = 4096 * 8;
+
+    /** The largest number of bytes written by one call to {@link #ensure}. */
+    private static final int MAX_ENSURED = 10;
+
+    private static final byte[] NEGATIVE_ZERO_MANTISSA = { (byte) 0x80 };
+    private static final byte[] POSITIVE_ZERO_MANTISSA = new byte[0];
+
+    /**
+     * A run of top-level values encoded with the same symbol table.
+     */
+    private static final class Group
+    {
+        /** The index after the last value of the run. */
+        final int         end;
+        final SymbolTable symtab;
+        /**
+         * The max ID of {@link #symtab} once the run was encoded; a later run
+         * may add symbols to the same table.
+         */
+        final int         maxId;
+
+        Group(int end, SymbolTable symtab)
+        {
+            this.end = end;
+            this.symtab = symtab;
+            this.maxId = symtab.getMaxId();
+        }
+    }
+
+    private final IonDatagramLite  myDatagram;
+    private final ArrayList<Group> myGroups = new ArrayList<Group>();
+    private final int              mySize;
+
+    /**
+     * The symbol table of the values being encoded.
+     */
+    private SymbolTable mySymbolTable;
+
+    /**
+     * Resolves field names against {@link #mySymbolTable}, sparing each field
+     * the walk up to its top-level value.
+     */
+    private final SymbolTableProvider mySymbolTableProvider =
+        new SymbolTableProvider()
+        {
+            public SymbolTable getSymbolTable()
+            {
+                return mySymbolTable;
+            }
+        };
+
+    /**
+     * The index at which the last search for the local symbol table used by
+     * a run of values with system symbol tables stopped.
+     */
+    private int myScanEnd;
+
+    /**
+     * The lengths of the read-only containers' bodies, which aren't cached on
+     * the containers since several threads may encode them at once.  They're
+     * recorded in the order the containers are visited while sizing, and
+     * read back in the same order while writing.
+     */
+    private int[] myLengths = new int[16];
+    private int   myLengthCount;
+    private int   myLengthIndex;
+
+    /**
+     * Whether the lengths cached on the containers are being recomputed
+     * rather than used.
+     */
+    private boolean myIgnoreCache;
+
+    private byte[]       myBuffer;
+    private int          myPosition;
+    private OutputStream myOut;
+
+    /**
+     * Assigns symbol IDs to the datagram's symbols, and computes the length
+     * of its encoding.  The datagram must not be modified while the encoder
+     * is in use.
+     *
+     * @throws IonException
+     */
+    ForwardBinaryEncoder(IonDatagramLite dg)
+        throws IonException
+    {
+        myDatagram = dg;
+        try
+        {
+            mySize = sizeDatagram();
+        }
+        catch (RuntimeException e)
+        {
+            // The values whose symbols were interned may be removed before
+            // the next try, so don't keep the datagram's symbol table.
+            if (! dg.isReadOnly())
+            {
+                dg.clearEncodedLength();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * @return the number of bytes of the Ion binary encoding
+     */
+    int byteSize()
+    {
+        return mySize;
+    }
+
+    /**
+     * Encodes the datagram into a new byte array of the exact size needed.
+     *
+     * @return the newly allocated byte array
+     */
+    byte[] toNewByteArray()
+    {
+        myBuffer = new byte[mySize];
+        myPosition = 0;
+        writeDatagram();
+        assert myPosition == mySize;
+        return myBuffer;
+    }
+
+    /**
+     * Encodes the datagram to a specified stream.
+     *
+     * @return the number of bytes written into {@code out}
+     *
+     * @throws IOException
+     */
+    int writeBytes(OutputStream out)
+        throws IOException
+    {
+        myBuffer = new byte[Math.min(mySize, STREAM_BUFFER_SIZE)];
+        myPosition = 0;
+        myOut = out;
+        try
+        {
+            writeDatagram();
+            flush();
+        }
+        catch (IonException e)
+        {
+            if (e.getCause() instanceof IOException)
+            {
+                throw (IOException) e.getCause();
+            }
+            throw e;
+        }
+        return mySize;
+    }
+
+
+    // =========================================================================
+    // Top-level values and symbol tables
+    // =========================================================================
+
+    private SymbolTable symbolTable(int index)
+    {
+        SymbolTable symtab = myDatagram.get_child(index).getSymbolTable();
+        if (symtab == null) {
+            throw new IllegalStateException(
+                      "Binary forward encoder isn't using LiteImpl");
+        }
+        return symtab;
+    }
+
+    /**
+     * Determines the symbol table with which a top-level value is encoded.
+     * Local symbol tables and IVMs can be interspersed within an IonDatagram;
+     * a value with a local symbol table is encoded with that table, and a
+     * value with a system symbol table is encoded with the local symbol table
+     * of the values that follow it, if there's no IVM between them.
+     * <p>
+     * This must be called for increasing indexes.
+     */
+    private SymbolTable groupSymbolTable(int index)
+    {
+        SymbolTable symtab = symbolTable(index);
+        if (symtab.isLocalTable()) {
+            return symtab;
+        }
+
+        int count = myDatagram.get_child_count();
+        if (myScanEnd <= index)
+        {
+            // Find the end of the run of system symbol tables.
+            SymbolTable prev = symtab;
+            int end = index + 1;
+            while (end < count)
+            {
+                SymbolTable next = symbolTable(end);
+                if (next.isLocalTable()
+                    || ! next.getIonVersionId().equals(prev.getIonVersionId()))
+                {
+                    break;
+                }
+                prev = next;
+                end++;
+            }
+            myScanEnd = end;
+        }
+
+        if (myScanEnd < count)
+        {
+            SymbolTable next = symbolTable(myScanEnd);
+            if (next.isLocalTable()) {
+                return next;
+            }
+        }
+        return symtab;
+    }
+
+    private static boolean isSameGroup(SymbolTable a, SymbolTable b)
+    {
+        return a == b
+            || (a.isSystemTable() && b.isSystemTable()
+                && a.getIonVersionId().equals(b.getIonVersionId()));
+    }
+
+    /**
+     * Divides the datagram into runs of values encoded with the same
+     * symbol table, and computes the encoded length of each.
+     */
+    private int sizeDatagram()
+    {
+        int size = BINARY_VERSION_MARKER_1_0.length;
+        int count = myDatagram.get_child_count();
+
+        int start = 0;
+        while (start < count)
+        {
+            SymbolTable symtab = groupSymbolTable(start);
+            int end = start + 1;
+            while (end < count && isSameGroup(symtab, groupSymbolTable(end)))
+            {
+                end++;
+            }
+
+            mySymbolTable = symtab;
+            int lengthCount = myLengthCount;
+            int groupSize = sizeValues(start, end);
+            if (mySymbolTable != symtab)
+            {
+                // A local symbol table replaced the system table, so cache
+                // the lengths for the table the values will be written with.
+                // Containers sized before the replacement were cached for the
+                // system table, possibly within ones cached for the new table,
+                // so none of the cached lengths can be trusted.
+                myLengthCount = lengthCount;
+                myIgnoreCache = true;
+                groupSize = sizeValues(start, end);
+                myIgnoreCache = false;
+            }
+
+            Group group = new Group(end, mySymbolTable);
+            if (group.symtab.isLocalTable()) {
+                size += sizeLocalSymbolTable(group.symtab, group.maxId);
+            }
+            else if (start > 0) {
+                size += BINARY_VERSION_MARKER_1_0.length;
+            }
+            size += groupSize;
+            myGroups.add(group);
+            start = end;
+        }
+        return size;
+    }
+
+    private int sizeValues(int start, int end)
+    {
+        int size = 0;
+        for (int i = start; i < end; i++)
+        {
+            size += sizeValue(myDatagram.get_child(i));
+        }
+        return size;
+    }
+
+    private void writeDatagram()
+    {
+        writeBytes(BINARY_VERSION_MARKER_1_0);
+
+        int start = 0;
+        for (Group group : myGroups)
+        {
+            mySymbolTable = group.symtab;
+            if (group.symtab.isLocalTable()) {
+                writeLocalSymbolTable(group.symtab, group.maxId);
+            }
+            else if (start > 0) {
+                writeBytes(BINARY_VERSION_MARKER_1_0);
+            }
+            for (int i = start; i < group.end; i++)
+            {
+                writeValue(myDatagram.get_child(i));
+            }
+            start = group.end;
+        }
+    }
+
+    private int findSid(SymbolToken symToken)
+    {
+        int sid = symToken.getSid();
+        String text = symToken.getText();
+
+        if (sid != UNKNOWN_SYMBOL_ID)   // sid is assigned
+        {
+            assert text == null ||
+                   text.equals(mySymbolTable.findKnownSymbol(sid));
+        }
+        else                            // sid is not assigned
+        {
+            if (mySymbolTable.isSystemTable())
+            {
+                // Replace current symtab with a local symbol table
+                // using the default system symtab
+                mySymbolTable = myDatagram.encodingSymbolTable();
+            }
+
+            // Intern the new symbol and get its assigned sid
+            sid = mySymbolTable.intern(text).getSid();
+        }
+
+        return sid;
+    }
+
+    /**
+     * Computes the length of a local symbol table, as a struct with the
+     * $ion_symbol_table annotation, import declarations that refer to shared
+     * symbol tables, and declared symbols.
+     *
+     * @param symTab the local symbol table, not shared, not system
+     * @param maxId the largest symbol ID to declare
+     */
+    private static int sizeLocalSymbolTable(SymbolTable symTab, int maxId)
+    {
+        int length = lengthOfLocalSymbolTableBody(symTab, maxId);
+        // annot-length and annot, then the struct
+        int annotatedLength = 2 + sizeOfPrefix(length) + length;
+        return sizeOfPrefix(annotatedLength) + annotatedLength;
+    }
+
+    private static int lengthOfLocalSymbolTableBody(SymbolTable symTab,
+                                                    int maxId)
+    {
+        int length = 0;
+
+        SymbolTable[] sharedSymTabs = symTab.getImportedTables();
+        if (sharedSymTabs.length != 0)
+        {
+            int importsLength = 0;
+            for (SymbolTable sharedSymTab : sharedSymTabs)
+            {
+                int importLength = lengthOfImport(sharedSymTab);
+                importsLength += sizeOfPrefix(importLength) + importLength;
+            }
+            length += 1 + sizeOfPrefix(importsLength) + importsLength;
+        }
+
+        int importedMaxId = symTab.getImportedMaxId();
+        if (importedMaxId != maxId)
+        {
+            int symbolsLength = 0;
+            for (int i = importedMaxId + 1; i <= maxId; i++)
+            {
+                String str = symTab.findKnownSymbol(i);
+                if (str == null) {
+                    symbolsLength += 1;
+                }
+                else {
+                    int strLength = lengthOfString(str);
+                    symbolsLength += sizeOfPrefix(strLength) + strLength;
+                }
+            }
+            length += 1 + sizeOfPrefix(symbolsLength) + symbolsLength;
+        }
+
+        return length;
+    }
+
+    private static int lengthOfImport(SymbolTable symTab)
+    {
+        String name = symTab.getName();
+        int nameLength = lengthOfString(name);
+        int maxId = symTab.getMaxId();
+        return 1 + sizeOfPrefix(nameLength) + nameLength
+             + 1 + 1 + lengthOfUInt(symTab.getVersion())
+             + 1 + 1 + (maxId == 0 ? 0 : lengthOfUInt(maxId));
+    }
+
+    private void writeLocalSymbolTable(SymbolTable symTab, int maxId)
+    {
+        assert symTab.isLocalTable();
+
+        int length = lengthOfLocalSymbolTableBody(symTab, maxId);
+
+        writePrefix(TYPE_ANNOTATIONS, 2 + sizeOfPrefix(length) + length);
+        ensure(2);
+        writeByteUnchecked(0x80 | 1);                      /* annot-length */
+        writeByteUnchecked(0x80 | ION_SYMBOL_TABLE_SID);   /* annot */
+        writePrefix(TYPE_STRUCT, length);
+
+        SymbolTable[] sharedSymTabs = symTab.getImportedTables();
+        if (sharedSymTabs.length != 0)
+        {
+            int importsLength = 0;
+            for (SymbolTable sharedSymTab : sharedSymTabs)
+            {
+                int importLength = lengthOfImport(sharedSymTab);
+                importsLength += sizeOfPrefix(importLength) + importLength;
+            }
+            writeByte(0x80 | IMPORTS_SID);
+            writePrefix(TYPE_LIST, importsLength);
+            for (SymbolTable sharedSymTab : sharedSymTabs)
+            {
+                writeImport(sharedSymTab);
+            }
+        }
+
+        int importedMaxId = symTab.getImportedMaxId();
+        if (importedMaxId != maxId)
+        {
+            int symbolsLength = 0;
+            for (int i = importedMaxId + 1; i <= maxId; i++)
+            {
+                String str = symTab.findKnownSymbol(i);
+                if (str == null) {
+                    symbolsLength += 1;
+                }
+                else {
+                    int strLength = lengthOfString(str);
+                    symbolsLength += sizeOfPrefix(strLength) + strLength;
+                }
+            }
+            writeByte(0x80 | SYMBOLS_SID);
+            writePrefix(TYPE_LIST, symbolsLength);
+            for (int i = importedMaxId + 1; i <= maxId; i++)
+            {
+                String str = symTab.findKnownSymbol(i);
+                if (str == null) {
+                    writeByte(TYPE_STRING | NULL_LENGTH_MASK);
+                }
+                else {
+                    writeString(str);
+                }
+            }
+        }
+    }
+
+    /**
+     * Write a single import declaration (which refers to a shared SymbolTable).
+     *
+     * @param symTab the shared symbol table, not local, not system
+     */
+    private void writeImport(SymbolTable symTab)
+    {
+        assert symTab.isSharedTable();
+
+        writePrefix(TYPE_STRUCT, lengthOfImport(symTab));
+
+        writeByte(0x80 | NAME_SID);
+        writeString(symTab.getName());
+
+        int version = symTab.getVersion();
+        writeByte(0x80 | VERSION_SID);
+        writePrefix(TYPE_POS_INT, lengthOfUInt(version));
+        writeUInt(version);
+
+        int maxId = symTab.getMaxId();
+        writeByte(0x80 | MAX_ID_SID);
+        if (maxId == 0) {
+            writeByte(TYPE_POS_INT);
+        }
+        else {
+            writePrefix(TYPE_POS_INT, lengthOfUInt(maxId));
+            writeUInt(maxId);
+        }
+    }
+
+
+    // =========================================================================
+    // Sizing
+    // =========================================================================
+
+    private static int lengthOfUInt(long v)
+    {
+        // Writes at least one byte, even for zero values.
+        int bits = 64 - Long.numberOfLeadingZeros(v | 1);
+        return (bits + 7) >>> 3;
+    }
+
+    private static int lengthOfVarUInt(int v)
+    {
+        int bits = 32 - Integer.numberOfLeadingZeros(v | 1);
+        return (bits + 6) / 7;
+    }
+
+    private static int lengthOfVarInt(int v)
+    {
+        // The magnitude plus a sign bit; Integer.MIN_VALUE has the same bit
+        // pattern as its magnitude.
+        int magnitude = (v < 0 ? -v : v);
+        int bits = 33 - Integer.numberOfLeadingZeros(magnitude);
+        return (bits + 6) / 7;
+    }
+
+    /**
+     * @return the size of the type descriptor, and any length field, of a
+     * value whose body has the given length.
+     */
+    private static int sizeOfPrefix(int length)
+    {
+        return (length < lnIsVarLen ? 1 : 1 + lengthOfVarUInt(length));
+    }
+
+    private static int lengthOfString(String str)
+    {
+        int strlen = str.length();
+        int length = strlen;
+        for (int i = 0; i < strlen; i++)
+        {
+            int c = str.charAt(i);
+            if (c <= 0x7f) {
+                continue;
+            }
+            else if (c <= 0x7ff) {
+                length += 1;
+            }
+            else if (c >= 0xd800 && c <= 0xdfff) {
+                // low surrogate not preceded by high surrogate
+                if (c > 0xdbff)
+                {
+                    throw new IonException("invalid string, unpaired low surrogate character");
+                }
+
+                // high surrogate not followed by low surrogate
+                if (++i == strlen
+                    || !(str.charAt(i) >= 0xdc00 && str.charAt(i) <= 0xdfff))
+                {
+                    throw new IonException("invalid string, unpaired high surrogate character");
+                }
+
+                // a surrogate pair is written as four bytes
+                length += 2;
+            }
+            else {
+                length += 2;
+            }
+        }
+        return length;
+    }
+
+    private static byte[] mantissaBytes(BigDecimal bd)
+    {
+        BigInteger mantissa = bd.unscaledValue();
+        switch (mantissa.signum())
+        {
+            case 0:
+                return (Decimal.isNegativeZero(bd)
+                        ? NEGATIVE_ZERO_MANTISSA
+                        : POSITIVE_ZERO_MANTISSA);
+            case -1:
+                // Obtain the unsigned value of the BigInteger
+                // We cannot use the twos complement representation of a
+                // negative BigInteger as this is different from the encoding
+                // of basic field Int.
+                byte[] bits = mantissa.negate().toByteArray();
+                // Set the sign on the highest order bit of the first octet
+                bits[0] |= 0x80;
+                return bits;
+            case 1:
+                return mantissa.toByteArray();
+            default:
+                throw new IllegalStateException("mantissa signum out of range");
+        }
+    }
+
+    private static int lengthOfDecimal(BigDecimal bd)
+    {
+        BigInteger mantissa = bd.unscaledValue();
+        int mantissaLength;
+        if (mantissa.signum() == 0)
+        {
+            mantissaLength = (Decimal.isNegativeZero(bd) ? 1 : 0);
+        }
+        else
+        {
+            // the magnitude, plus a sign bit
+            mantissaLength = (mantissa.abs().bitLength() >>> 3) + 1;
+        }
+        return lengthOfVarInt(-bd.scale()) + mantissaLength;
+    }
+
+    private static BigInteger magnitude(IonInt val)
+    {
+        return val.bigIntegerValue().abs();
+    }
+
+    private static int lengthOfInt(IonInt val)
+    {
+        if (val.getIntegerSize() != IntegerSize.BIG_INTEGER)
+        {
+            long v = val.longValue();
+            // the magnitude of Long.MIN_VALUE is its bit pattern, unsigned
+            return (v == 0 ? 0 : lengthOfUInt(v < 0 ? -v : v));
+        }
+        return (magnitude(val).bitLength() + 7) >>> 3;
+    }
+
+    private static int lengthOfTimestamp(Timestamp t)
+    {
+        Integer offset = t.getLocalOffset();
+        int length = (offset == null ? 1 : lengthOfVarInt(offset.intValue()));
+        Timestamp.Precision precision = t.getPrecision();
+        length += lengthOfVarUInt(t.getZYear());
+        if (precision.includes(Timestamp.Precision.MONTH))
+        {
+            length += lengthOfVarUInt(t.getZMonth());
+        }
+        if (precision.includes(Timestamp.Precision.DAY))
+        {
+            length += lengthOfVarUInt(t.getZDay());
+        }
+        if (precision.includes(Timestamp.Precision.MINUTE))
+        {
+            length += lengthOfVarUInt(t.getZHour());
+            length += lengthOfVarUInt(t.getZMinute());
+        }
+        if (precision.includes(Timestamp.Precision.SECOND))
+        {
+            length += lengthOfVarUInt(t.getZSecond());
+            BigDecimal fraction = t.getZFractionalSecond();
+            if (fraction != null)
+            {
+                length += lengthOfDecimal(fraction);
+            }
+        }
+        return length;
+    }
+
+    /**
+     * @return the length of the value's body, or -1 if it's null.
+     */
+    private int lengthOfScalar(IonValueLite value)
+    {
+        if (value.isNullValue())
+        {
+            return -1;
+        }
+        switch (value.getType())
+        {
+            case NULL:      return -1;
+            case BOOL:      return 0;
+            case INT:       return lengthOfInt((IonInt) value);
+            case FLOAT:     return 8; // 64-bit IEE-754
+            case DECIMAL:
+                return lengthOfDecimal(((IonDecimal) value).decimalValue());
+            case TIMESTAMP:
+                return lengthOfTimestamp(
+                           ((IonTimestamp) value).timestampValue());
+            case SYMBOL:
+                return lengthOfUInt(
+                           findSid(((IonSymbol) value).symbolValue()));
+            case STRING:
+                return lengthOfString(((IonString) value).stringValue());
+            case CLOB:
+            case BLOB:
+                return ((IonLobLite) value).byteSize();
+            default:
+                throw new IonException("IonType is unknown: " + value.getType());
+        }
+    }
+
+    /**
+     * Computes the length of a container's body, caching those of it and
+     * its nested containers.
+     */
+    private int lengthOfContainer(IonContainerLite container)
+    {
+        int length = (myIgnoreCache
+                      ? -1
+                      : container.getEncodedLength(mySymbolTable));
+        if (length >= 0) {
+            return length;
+        }
+
+        // Lengths are recorded in the order the containers are written.
+        boolean isReadOnly = container.isReadOnly();
+        int slot = -1;
+        if (isReadOnly)
+        {
+            if (myLengthCount == myLengths.length) {
+                myLengths = Arrays.copyOf(myLengths, myLengthCount * 2);
+            }
+            slot = myLengthCount++;
+        }
+
+        // Interning symbols may replace the table, so the lengths are cached
+        // for the table in use afterwards.
+        length = 0;
+        boolean isStruct = (container.getType() == IonType.STRUCT);
+        int count = container.get_child_count();
+        for (int i = 0; i < count; i++)
+        {
+            IonValueLite child = container.get_child(i);
+            if (isStruct) {
+                length += lengthOfVarUInt(findSid(child.getFieldNameSymbol(mySymbolTableProvider)));
+            }
+            length += sizeValue(child);
+        }
+        if (isReadOnly) {
+            myLengths[slot] = length;
+        }
+        else {
+            container.setEncodedLength(length, mySymbolTable);
+        }
+        return length;
+    }
+
+    /**
+     * @return the length of a container's body, as cached or recorded while
+     * sizing.
+     */
+    private int encodedLengthOfContainer(IonContainerLite container)
+    {
+        int length = container.getEncodedLength(mySymbolTable);
+        if (length < 0)
+        {
+            if (! container.isReadOnly())
+            {
+                throw new IllegalStateException(
+                          "container length wasn't cached while sizing");
+            }
+            length = myLengths[myLengthIndex++];
+        }
+        return length;
+    }
+
+    /**
+     * @return the length of the value's body, or -1 if it's null.
+     */
+    private int lengthOfContent(IonValueLite value)
+    {
+        if (value instanceof IonContainerLite)
+        {
+            if (value.isNullValue()) {
+                return -1;
+            }
+            return lengthOfContainer((IonContainerLite) value);
+        }
+        return lengthOfScalar(value);
+    }
+
+    private static int sizeOfContent(int length)
+    {
+        return (length < 0 ? 1 : sizeOfPrefix(length) + length);
+    }
+
+    private int lengthOfAnnotations(SymbolToken[] annotationSymTokens)
+    {
+        int length = 0;
+        for (SymbolToken symToken : annotationSymTokens)
+        {
+            length += lengthOfVarUInt(findSid(symToken));
+        }
+        return length;
+    }
+
+    /**
+     * Computes the size of a value's encoding, including its annotations.
+     */
+    private int sizeValue(IonValueLite value)
+    {
+        int size = sizeOfContent(lengthOfContent(value));
+
+        SymbolToken[] annotationSymTokens = value.getTypeAnnotationSymbols();
+        if (annotationSymTokens.length > 0)
+        {
+            int annotationsLength = lengthOfAnnotations(annotationSymTokens);
+            int length = lengthOfVarUInt(annotationsLength)
+                       + annotationsLength + size;
+            size = sizeOfPrefix(length) + length;
+        }
+        return size;
+    }
+
+
+    // =========================================================================
+    // Basic Field Formats (Primitive Fields)
+    // =========================================================================
+
+    private void flush()
+    {
+        if (myOut == null) {
+            throw new IllegalStateException("encoding exceeds its length");
+        }
+        try
+        {
+            myOut.write(myBuffer, 0, myPosition);
+        }
+        catch (IOException e)
+        {
+            throw new IonException(e);
+        }
+        myPosition = 0;
+    }
+
+    /**
+     * Makes room in the buffer to write the given number of bytes, which
+     * must be at most {@link #MAX_ENSURED}.
+     */
+    private void ensure(int length)
+    {
+        assert length <= MAX_ENSURED;
+        if (myBuffer.length - myPosition < length) {
+            flush();
+        }
+    }
+
+    private void writeByteUnchecked(int b)
+    {
+        // Using narrowing primitive conversion from int to byte
+        myBuffer[myPosition++] = (byte) b;
+    }
+
+    private void writeByte(int b)
+    {
+        ensure(1);
+        writeByteUnchecked(b);
+    }
+
+    private void writeBytes(byte[] bytes)
+    {
+        writeBytes(bytes, 0, bytes.length);
+    }
+
+    private void writeBytes(byte[] bytes, int offset, int length)
+    {
+        while (length > 0)
+        {
+            if (myPosition == myBuffer.length) {
+                flush();
+            }
+            int chunk = Math.min(length, myBuffer.length - myPosition);
+            System.arraycopy(bytes, offset, myBuffer, myPosition, chunk);
+            myPosition += chunk;
+            offset += chunk;
+            length -= chunk;
+        }
+    }
+
+    private void writeUInt(long v)
+    {
+        int length = lengthOfUInt(v);
+        ensure(length);
+        for (int shift = (length - 1) * 8; shift >= 0; shift -= 8)
+        {
+            writeByteUnchecked((int) (v >>> shift));
+        }
+    }
+
+    /**
+     * Write a VarUInt field. VarUInts are sequence of bytes. The high-order
+     * bit of the last octet is one, indicating the end of the sequence. All
+     * other high-order bits must be zero.
+     */
+    private void writeVarUInt(int v)
+    {
+        int length = lengthOfVarUInt(v);
+        ensure(length);
+        for (int shift = (length - 1) * 7; shift > 0; shift -= 7)
+        {
+            writeByteUnchecked((v >>> shift) & 0x7f);
+        }
+        writeByteUnchecked((v & 0x7f) | 0x80);
+    }
+
+    /**
+     * Write a VarInt field, whose first octet holds the sign bit.
+     */
+    private void writeVarInt(int v)
+    {
+        int length = lengthOfVarInt(v);
+        ensure(length);
+        // Integer.MIN_VALUE has the same bit pattern as its magnitude.
+        long magnitude = (v < 0 ? -(long) v : v);
+        int shift = (length - 1) * 7;
+        int first = (int) (magnitude >>> shift) & 0x3f;
+        if (v < 0) {
+            first |= 0x40;
+        }
+        if (length == 1) {
+            writeByteUnchecked(first | 0x80);
+            return;
+        }
+        writeByteUnchecked(first);
+        for (shift -= 7; shift > 0; shift -= 7)
+        {
+            writeByteUnchecked((int) (magnitude >>> shift) & 0x7f);
+        }
+        writeByteUnchecked(((int) magnitude & 0x7f) | 0x80);
+    }
+
+    /**
+     * Writes the type descriptor, and any length field, of a value.
+     *
+     * @param type
+     *        the value's type, a four-bit high-nibble mask
+     * @param length
+     *        the number of bytes (octets) in the body, excluding the prefix
+     *        itself
+     */
+    private void writePrefix(int type, int length)
+    {
+        if (length >= lnIsVarLen)
+        {
+            writeByte(type | lnIsVarLen);
+            writeVarUInt(length);
+        }
+        else
+        {
+            writeByte(type | length);
+        }
+    }
+
+
+    // =========================================================================
+    // Values
+    // =========================================================================
+
+    private void writeValue(IonValueLite value)
+    {
+        SymbolToken[] annotationSymTokens = value.getTypeAnnotationSymbols();
+        if (annotationSymTokens.length > 0)
+        {
+            int annotationsLength = lengthOfAnnotations(annotationSymTokens);
+            int size = sizeOfContent(lengthOfContent(value));
+            writePrefix(TYPE_ANNOTATIONS,
+                        lengthOfVarUInt(annotationsLength)
+                        + annotationsLength + size);
+            writeVarUInt(annotationsLength);
+            for (SymbolToken symToken : annotationSymTokens)
+            {
+                writeVarUInt(findSid(symToken));
+            }
+        }
+
+        switch (value.getType())
+        {
+            // scalars
+            case BLOB:      writeLob(TYPE_BLOB, (IonLobLite) value);         break;
+            case BOOL:      writeBool((IonBool) value);                     break;
+            case CLOB:      writeLob(TYPE_CLOB, (IonLobLite) value);         break;
+            case DECIMAL:   writeDecimal((IonDecimal) value);               break;
+            case FLOAT:     writeFloat((IonFloat) value);                   break;
+            case INT:       writeInt((IonInt) value);                       break;
+            case NULL:      writeByte(TYPE_NULL | NULL_LENGTH_MASK);        break;
+            case STRING:    writeString((IonString) value);                 break;
+            case SYMBOL:    writeSymbol((IonSymbol) value);                 break;
+            case TIMESTAMP: writeTimestamp((IonTimestamp) value);           break;
+            // containers
+            case LIST:      writeContainer(TYPE_LIST,   (IonContainerLite) value); break;
+            case SEXP:      writeContainer(TYPE_SEXP,   (IonContainerLite) value); break;
+            case STRUCT:    writeContainer(TYPE_STRUCT, (IonContainerLite) value); break;
+            default:
+                throw new IonException("IonType is unknown: " + value.getType());
+        }
+    }
+
+    private void writeBool(IonBool val)
+    {
+        int encoded;
+        if (val.isNullValue())
+        {
+            encoded = TYPE_BOOL | NULL_LENGTH_MASK;
+        }
+        else
+        {
+            boolean b = val.booleanValue();
+            encoded = b ? (TYPE_BOOL | lnBooleanTrue) :
+                          (TYPE_BOOL | lnBooleanFalse);
+        }
+        writeByte(encoded);
+    }
+
+    private void writeInt(IonInt val)
+    {
+        if (val.isNullValue())
+        {
+            // NOTE: We are only writing the positive binary representation of
+            // null value here.
+            writeByte(TYPE_POS_INT | NULL_LENGTH_MASK);
+        }
+        else if (val.getIntegerSize() != IntegerSize.BIG_INTEGER)
+        {
+            long v = val.longValue();
+            if (v == 0)
+            {
+                // Zero has no bytes of data at all
+                writeByte(TYPE_POS_INT);
+            }
+            else
+            {
+                // the magnitude of Long.MIN_VALUE is its bit pattern, unsigned
+                long magnitude = (v < 0 ? -v : v);
+                writePrefix(v < 0 ? TYPE_NEG_INT : TYPE_POS_INT,
+                            lengthOfUInt(magnitude));
+                writeUInt(magnitude);
+            }
+        }
+        else
+        {
+            BigInteger magnitude = magnitude(val);
+            int length = (magnitude.bitLength() + 7) >>> 3;
+            writePrefix(val.bigIntegerValue().signum() < 0
+                        ? TYPE_NEG_INT
+                        : TYPE_POS_INT,
+                        length);
+
+            // BigInteger.toByteArray() returns a two's complement
+            // representation byte array, which for the magnitude may be
+            // padded with a leading zero byte.
+            byte[] bits = magnitude.toByteArray();
+            writeBytes(bits, bits.length - length, length);
+        }
+    }
+
+    private void writeFloat(IonFloat val)
+    {
+        if (val.isNullValue())
+        {
+            writeByte(TYPE_FLOAT | NULL_LENGTH_MASK);
+        }
+        else
+        {
+            // Write a 64-bit value in IEE-754 standard. This format happens to
+            // match the 8-byte UInt encoding.
+            long bits = Double.doubleToRawLongBits(val.doubleValue());
+            writePrefix(TYPE_FLOAT, 8); // 64-bit IEE-754
+            ensure(8);
+            for (int shift = 8 * 7; shift >= 0; shift -= 8)
+            {
+                writeByteUnchecked((int) (bits >>> shift));
+            }
+        }
+    }
+
+    /**
+     * @see software.amazon.ion.impl.IonBinary.Writer#writeDecimalContent
+     */
+    private void writeDecimalBody(BigDecimal bd)
+    {
+        // Ion stores exponent, BigDecimal uses the negation 'scale' instead
+        writeVarInt(-bd.scale());
+        writeBytes(mantissaBytes(bd));
+    }
+
+    private void writeDecimal(IonDecimal val)
+    {
+        if (val.isNullValue())
+        {
+            writeByte(TYPE_DECIMAL | NULL_LENGTH_MASK);
+        }
+        else
+        {
+            Decimal dec = val.decimalValue();
+            writePrefix(TYPE_DECIMAL, lengthOfDecimal(dec));
+            writeDecimalBody(dec);
+        }
+    }
+
+    private void writeTimestamp(IonTimestamp val)
+    {
+        if (val.isNullValue())
+        {
+            writeByte(TYPE_TIMESTAMP | NULL_LENGTH_MASK);
+            return;
+        }
+
+        Timestamp t = val.timestampValue();
+        writePrefix(TYPE_TIMESTAMP, lengthOfTimestamp(t));
+
+        // Offset portion
+        Integer offset = t.getLocalOffset();
+        if (offset == null)
+        {
+            writeByte(0x80 | 0x40); // Negative 0 (no timezone)
+        }
+        else
+        {
+            writeVarInt(offset.intValue());
+        }
+
+        // Time and date portion
+        Timestamp.Precision precision = t.getPrecision();
+        writeVarUInt(t.getZYear());
+        if (precision.includes(Timestamp.Precision.MONTH))
+        {
+            writeVarUInt(t.getZMonth());
+        }
+        if (precision.includes(Timestamp.Precision.DAY))
+        {
+            writeVarUInt(t.getZDay());
+        }
+        if (precision.includes(Timestamp.Precision.MINUTE))
+        {
+            writeVarUInt(t.getZHour());
+            writeVarUInt(t.getZMinute());
+        }
+        if (precision.includes(Timestamp.Precision.SECOND))
+        {
+            writeVarUInt(t.getZSecond());
+            BigDecimal fraction = t.getZFractionalSecond();
+            if (fraction != null)
+            {
+                assert (fraction.signum() >= 0
+                        && ! fraction.equals(BigDecimal.ZERO))
+                    : "Bad timestamp fraction: " + fraction;
+                writeDecimalBody(fraction);
+            }
+        }
+    }
+
+    private void writeSymbol(IonSymbol val)
+    {
+        if (val.isNullValue())
+        {
+            writeByte(TYPE_SYMBOL | NULL_LENGTH_MASK);
+        }
+        else
+        {
+            int sid = findSid(val.symbolValue());
+            writePrefix(TYPE_SYMBOL, lengthOfUInt(sid));
+            writeUInt(sid);
+        }
+    }
+
+    private void writeString(IonString val)
+    {
+        if (val.isNullValue())
+        {
+            writeByte(TYPE_STRING | NULL_LENGTH_MASK);
+        }
+        else
+        {
+            writeString(val.stringValue());
+        }
+    }
+
+    private void writeString(String str)
+    {
+        int length = lengthOfString(str);
+        writePrefix(TYPE_STRING, length);
+
+        int strlen = str.length();
+        int i = 0;
+
+        // Optimize for ASCII, under the assumption that it happens a lot.
+        // Each run that fits in the buffer is written without checking for
+        // room byte by byte.
+        while (i < strlen)
+        {
+            if (myPosition == myBuffer.length) {
+                flush();
+            }
+            byte[] buffer = myBuffer;
+            int position = myPosition;
+            int end = Math.min(strlen, i + buffer.length - position);
+            for (; i < end; i++)
+            {
+                int c = str.charAt(i);
+                if (c > 0x7f)
+                    break;
+                buffer[position++] = (byte) c;
+            }
+            myPosition = position;
+            if (i < end)
+                break;
+        }
+
+        for (; i < strlen; i++)
+        {
+            int c = str.charAt(i);
+
+            if (c <= 0x7f)              // U+0000 to U+007f codepoints
+            {
+                writeByte(c);
+            }
+            else if (c <= 0x7ff)        // U+0080 to U+07ff codepoints
+            {
+                ensure(2);
+                writeByteUnchecked(0xc0 | ((c >> 6) & 0x1f));
+                writeByteUnchecked(0x80 | (c & 0x3f));
+            }
+            else if (c >= 0xd800 && c <= 0xdfff) // Surrogate!
+            {
+                // The pair was validated by lengthOfString().
+                int c2 = str.charAt(++i);
+
+                // valid surrogate pair: (c, c2)
+                int codepoint = 0x10000 + (((c & 0x3ff) << 10) | (c2 & 0x3ff));
+
+                ensure(4);
+                writeByteUnchecked(0xF0 | ((codepoint >> 18) & 0x07));
+                writeByteUnchecked(0x80 | ((codepoint >> 12) & 0x3F));
+                writeByteUnchecked(0x80 | ((codepoint >> 6)  & 0x3F));
+                writeByteUnchecked(0x80 | ((codepoint >> 0)  & 0x3F));
+            }
+            else // U+0800 to U+D7FF and U+E000 to U+FFFF codepoints
+            {
+                ensure(3);
+                writeByteUnchecked(0xE0 | ((c >> 12) & 0x0F));
+                writeByteUnchecked(0x80 | ((c >> 6) & 0x3F));
+                writeByteUnchecked(0x80 | (c & 0x3F));
+            }
+        }
+    }
+
+    private void writeLob(int type, IonLobLite val)
+    {
+        if (val.isNullValue())
+        {
+            writeByte(type | NULL_LENGTH_MASK);
+        }
+        else
+        {
+            byte[] lob = val.getBytesNoCopy();
+            writePrefix(type, lob.length);
+            writeBytes(lob);
+        }
+    }
+
+    private void writeContainer(int type, IonContainerLite container)
+    {
+        if (container.isNullValue())
+        {
+            writeByte(type | NULL_LENGTH_MASK);
+            return;
+        }
+
+        writePrefix(type, encodedLengthOfContainer(container));
+
+        // TODO amzn/ion-java#41 Detect if the struct fields are sorted in
+        // ascending order of Sids. If so, 1 should be written into 'length'
+        // field.
+        boolean isStruct = (type == TYPE_STRUCT);
+        int count = container.get_child_count();
+        for (int i = 0; i < count; i++)
+        {
+            IonValueLite child = container.get_child(i);
+            if (isStruct) {
+                writeVarUInt(findSid(child.getFieldNameSymbol(mySymbolTableProvider)));
+            }
+            writeValue(child);
+        }
+    }
+}
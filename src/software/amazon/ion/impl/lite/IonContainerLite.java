@@ -14,6 +14,7 @@
 
 package software.amazon.ion.impl.lite;
 
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.ListIterator;
@@ -22,9 +23,12 @@ import software.amazon.ion.ContainedValueException;
 import software.amazon.ion.IonContainer;
 import software.amazon.ion.IonDatagram;
 import software.amazon.ion.IonException;
+import software.amazon.ion.IonReader;
 import software.amazon.ion.IonValue;
+import software.amazon.ion.IonWriter;
 import software.amazon.ion.NullValueException;
 import software.amazon.ion.ReadOnlyValueException;
+import software.amazon.ion.Span;
 import software.amazon.ion.SymbolTable;
 import software.amazon.ion.ValueVisitor;
 import software.amazon.ion.impl.PrivateIonConstants;
@@ -39,6 +43,30 @@ abstract class IonContainerLite
     protected int            _child_count;
     protected IonValueLite[] _children;
 
+    /**
+     * The data holding this container's children when they haven't been
+     * loaded yet, in which case there are none in {@link #_children}.
+     * Otherwise null.
+     */
+    private BinaryBacking    _backing;
+    /** The span of this container's value within {@link #_backing}. */
+    private Span             _span;
+    /**
+     * The read-only container this one was cloned from when its children
+     * haven't been copied yet, in which case there are none in
+     * {@link #_children}.  Otherwise null.
+     */
+    private IonContainerLite _cloneSource;
+
+    /**
+     * The length of this container's binary-encoded body, cached by the
+     * {@link ForwardBinaryEncoder} until this container or any of its
+     * descendants is modified; -1 if not known.  The length depends on the
+     * symbol IDs assigned by {@link #_encodedSymtab}.
+     */
+    private int              _encodedLength = -1;
+    private SymbolTable      _encodedSymtab;
+
     protected IonContainerLite(ContainerlessContext context, boolean isNull)
     {
         // we'll let IonValueLite handle this work as we always need to know
@@ -48,6 +76,30 @@ abstract class IonContainerLite
 
     IonContainerLite(IonContainerLite existing, IonContext context, boolean isStruct) {
         super(existing, context);
+        if (existing._backing != null) {
+            // the copy loads its own children when needed
+            this._backing = existing._backing.copy();
+            this._span = existing._span;
+        }
+        else if (existing._cloneSource != null) {
+            this._cloneSource = existing._cloneSource;
+        }
+        else if (existing._isLocked() && existing._child_count > 0
+                 && !(this instanceof IonDatagramLite)) {
+            // the existing children can't change, so copy them only when
+            // they're needed; until then the copy is written from them
+            this._cloneSource = existing;
+        }
+        else {
+            copy_children(existing, isStruct);
+        }
+    }
+
+    /**
+     * Sets this container's children to clones of the existing container's.
+     */
+    private void copy_children(IonContainerLite existing, boolean isStruct)
+    {
         int childCount = existing._child_count;
         this._child_count = childCount;
         // when cloning the children we establish 'this' the cloned outer container as the context
@@ -90,7 +142,14 @@ abstract class IonContainerLite
     {
         checkForLock();
 
-        if (_isNullValue())
+        if (_backing != null || _cloneSource != null)
+        {
+            // there's no need to load the children just to drop them
+            _backing = null;
+            _span = null;
+            _cloneSource = null;
+        }
+        else if (_isNullValue())
         {
             assert _children == null;
             assert _child_count == 0;
@@ -176,6 +235,7 @@ abstract class IonContainerLite
             if (_isLocked() && !readOnly) {
                 throw new IllegalStateException("you can't open an updatable iterator on a read only value");
             }
+            materialize();
             if (index < 0 || index > _child_count) {
                 throw new IndexOutOfBoundsException(Integer.toString(index));
             }
@@ -384,6 +444,9 @@ abstract class IonContainerLite
     {
         if (_isLocked()) return;
 
+        // read-only values must be safe to read from multiple threads, so
+        // nothing may be loaded after this
+        materialize();
         if (_children != null) {
             for (int ii=0; ii<_child_count; ii++) {
                 IonValueLite child = _children[ii];
@@ -433,8 +496,9 @@ abstract class IonContainerLite
     void clearSymbolIDValues()
     {
         super.clearSymbolIDValues();
-        for (int ii=0; ii<get_child_count(); ii++) {
-            IonValueLite child = get_child(ii);
+        // children that haven't been loaded have no symbol IDs to clear
+        for (int ii=0; ii<_child_count; ii++) {
+            IonValueLite child = _children[ii];
             child.clearSymbolIDValues();
         }
     }
@@ -605,11 +669,155 @@ abstract class IonContainerLite
         return;
     }
 
+    //////////////////////////////////////////////////////
+    // lazy loading
+
+    /**
+     * Makes this container load its children from the given data on first
+     * access, rather than holding them now.  The container must be empty.
+     *
+     * @param span the span of this container's value within the data.
+     */
+    final void setBacking(BinaryBacking backing, Span span)
+    {
+        assert _child_count == 0;
+        _backing = backing;
+        _span = span;
+    }
+
+    /**
+     * @return true if this container's children haven't been loaded.
+     */
+    final boolean hasBacking()
+    {
+        return _backing != null;
+    }
+
+    /**
+     * @return true if this container's children haven't been copied from
+     * the container it was cloned from.
+     */
+    final boolean hasCloneSource()
+    {
+        return _cloneSource != null;
+    }
+
+    //////////////////////////////////////////////////////
+    // binary encoding
+
+    /**
+     * @return the cached length of this container's encoded body, or -1 if
+     * it isn't known for the given symbol table.
+     */
+    final int getEncodedLength(SymbolTable symtab)
+    {
+        return (_encodedSymtab == symtab ? _encodedLength : -1);
+    }
+
+    /**
+     * Caches the length of this container's encoded body.  The lengths of
+     * any nested containers must already be cached for the same symbol table.
+     * Read-only containers aren't cached, since several threads may encode
+     * them at once.
+     */
+    final void setEncodedLength(int length, SymbolTable symtab)
+    {
+        assert ! _isLocked();
+        _encodedLength = length;
+        _encodedSymtab = symtab;
+    }
+
+    /**
+     * Drops the cached encoded lengths of this container and its ancestors.
+     * Since a container's length is only cached along with its children's,
+     * this stops at the first ancestor without a cached length.  This
+     * container may have none, being null, while its parent does.
+     */
+    final void clearEncodedLength()
+    {
+        _encodedLength = -1;
+        _encodedSymtab = null;
+        IonContainerLite container = getContainer();
+        while (container != null && container._encodedLength >= 0)
+        {
+            container._encodedLength = -1;
+            container._encodedSymtab = null;
+            container = container.getContainer();
+        }
+    }
+
+    /**
+     * Loads or copies this container's children if they haven't been.
+     * Nested containers are themselves left unloaded or uncopied, so this
+     * only costs as much as the immediate children.
+     */
+    final void materialize()
+    {
+        if (_cloneSource != null) {
+            IonContainerLite source = _cloneSource;
+            _cloneSource = null;
+            copy_children(source, this instanceof IonStructLite);
+        }
+        else if (_backing != null) {
+            BinaryBacking backing = _backing;
+            Span span = _span;
+            // clear these first so that adding the children doesn't recurse
+            _backing = null;
+            _span = null;
+            backing.loadChildren(this, span);
+        }
+    }
+
+    /**
+     * Writes the children of this container straight from its data if they
+     * haven't been loaded, which copies their encoding as-is when the
+     * writer allows it, or from the container it was cloned from if they
+     * haven't been copied.
+     *
+     * @return false if the children have been loaded and copied, in which
+     * case nothing was written.
+     */
+    final boolean writeUnloadedBodyTo(IonWriter writer,
+                                      SymbolTableProvider symbolTableProvider)
+        throws IOException
+    {
+        if (_cloneSource != null) {
+            writer.stepIn(getType());
+            writeChildren(writer, _cloneSource, symbolTableProvider);
+            writer.stepOut();
+            return true;
+        }
+        if (_backing == null) return false;
+
+        IonReader reader = _backing.hoist(_span);
+        if (reader.getTypeAnnotationSymbols().length == 0
+            && getTypeAnnotationSymbols(symbolTableProvider).length == 0)
+        {
+            // our field name is already set on the writer
+            writer.writeValue(reader);
+        }
+        else
+        {
+            // the annotations set on the writer are ours, which may have
+            // been changed since the data was read
+            reader.stepIn();
+            writer.stepIn(getType());
+            while (reader.next() != null) {
+                writer.writeValue(reader);
+            }
+            writer.stepOut();
+            reader.stepOut();
+        }
+        return true;
+    }
+
     public final int get_child_count() {
+        materialize();
         return _child_count;
     }
 
     public final IonValueLite get_child(int idx) {
+        materialize();
         if (idx < 0 || idx >= _child_count) {
             throw new IndexOutOfBoundsException(Integer.toString(idx));
         }
@@ -619,6 +827,7 @@ abstract class IonContainerLite
 
     final IonValueLite set_child(int idx, IonValueLite child)
     {
+        materialize();
         if (idx < 0 || idx >= _child_count) {
             throw new IndexOutOfBoundsException(Integer.toString(idx));
         }
@@ -638,6 +847,7 @@ abstract class IonContainerLite
      */
     protected int add_child(int idx, IonValueLite child)
     {
+        materialize();
         _isNullValue(false); // if we add children we're not null anymore
         child.setContext(this.getContextForIndex(child, idx));
         if (_children == null || _child_count >= _children.length) {
@@ -670,6 +880,7 @@ abstract class IonContainerLite
      */
     void remove_child(int idx)
     {
+        materialize();
         assert(idx >=0);
         assert(idx < get_child_count()); // this also asserts child count > 0
         assert get_child(idx) != null : "No child at index " + idx;
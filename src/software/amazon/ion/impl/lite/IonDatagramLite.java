@@ -88,10 +88,13 @@ final class IonDatagramLite
     private       SymbolTable        _pending_symbol_table;
     private       int                _pending_symbol_table_idx;
     private       IonSymbolLite      _ivm;
-
-    // Default buffer size for ReverseBinaryEncoder - SYNC'ed with
-    // BlockedBuffer._defaultBlockSizeMin (4 kb)
-    private static final int REVERSE_BINARY_ENCODER_INITIAL_SIZE = 4096 * 8;
+    /**
+     * The local symbol table with which the {@link ForwardBinaryEncoder}
+     * encodes values that have the system symbol table but symbols outside
+     * it.  It's kept between encodings so that the lengths they cache
+     * remain valid, until the datagram is modified.
+     */
+    private       SymbolTable        _encoding_symbol_table;
 
     IonDatagramLite(IonSystemLite system, IonCatalog catalog) {
         super(ContainerlessContext.wrap(system), false);
@@ -439,29 +442,49 @@ final class IonDatagramLite
 
     public int byteSize() throws IonException
     {
-        // TODO this is horrible, users will end up encoding multiple times!
-        ReverseBinaryEncoder encoder =
-            new ReverseBinaryEncoder(REVERSE_BINARY_ENCODER_INITIAL_SIZE);
-        encoder.serialize(this);
+        // This only computes the lengths of the values, not their encoding.
+        ForwardBinaryEncoder encoder = new ForwardBinaryEncoder(this);
         return encoder.byteSize();
     }
 
     public byte[] getBytes() throws IonException
     {
-        ReverseBinaryEncoder encoder =
-            new ReverseBinaryEncoder(REVERSE_BINARY_ENCODER_INITIAL_SIZE);
-        encoder.serialize(this);
+        ForwardBinaryEncoder encoder = new ForwardBinaryEncoder(this);
         return encoder.toNewByteArray();
     }
 
     public int getBytes(OutputStream out) throws IOException, IonException
     {
-        ReverseBinaryEncoder encoder =
-            new ReverseBinaryEncoder(REVERSE_BINARY_ENCODER_INITIAL_SIZE);
-        encoder.serialize(this);
+        ForwardBinaryEncoder encoder = new ForwardBinaryEncoder(this);
         return encoder.writeBytes(out);
     }
 
+    /**
+     * @return the local symbol table with which to encode values that have
+     * the system symbol table but symbols outside it.  A read-only datagram
+     * may be encoded by several threads at once, so each encoding of it gets
+     * a new table.
+     * <p>
+     * Once the datagram has been modified, a new table is made rather than
+     * keeping the symbols of values that may have been removed or replaced.
+     * Every modification clears the cached lengths up to the datagram, whose
+     * own length is never otherwise cached, so a length cached here with the
+     * table marks that there has been none since the table was made.
+     */
+    final SymbolTable encodingSymbolTable()
+    {
+        if (isReadOnly()) {
+            return _system.newLocalSymbolTable();
+        }
+        if (_encoding_symbol_table == null
+            || getEncodedLength(_encoding_symbol_table) < 0)
+        {
+            _encoding_symbol_table = _system.newLocalSymbolTable();
+            setEncodedLength(0, _encoding_symbol_table);
+        }
+        return _encoding_symbol_table;
+    }
+
     // TODO: optimize this, if there's a real use case
     //       deprecate this is there isn't (which I suspect is actually the case)
     public IonValue systemGet(int index) throws IndexOutOfBoundsException
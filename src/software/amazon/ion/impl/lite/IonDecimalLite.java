@@ -16,6 +16,7 @@ package software.amazon.ion.impl.lite;
 
 import java.io.IOException;
 import java.math.BigDecimal;
+import java.math.BigInteger;
 import software.amazon.ion.Decimal;
 import software.amazon.ion.IonDecimal;
 import software.amazon.ion.IonType;
@@ -50,6 +51,18 @@ final class IonDecimalLite
         return true;
     }
 
+    /**
+     * The unscaled value and scale of a non-null value whose unscaled value
+     * fits in a long, in which case {@link #_decimal_value} is null.  Such
+     * values are inflated to a {@link BigDecimal} only when requested.
+     */
+    private long _unscaled_value;
+    private int  _scale;
+
+    /**
+     * The value, if it's negative zero or its unscaled value doesn't fit in a
+     * long; otherwise null.
+     */
     private BigDecimal _decimal_value;
 
     /**
@@ -64,7 +77,9 @@ final class IonDecimalLite
     {
         super(existing, context);
         // we can shallow copy as BigDecimal is immutable
-        this._decimal_value = existing._decimal_value;
+        this._unscaled_value = existing._unscaled_value;
+        this._scale          = existing._scale;
+        this._decimal_value  = existing._decimal_value;
     }
 
     @Override
@@ -110,7 +125,7 @@ final class IonDecimalLite
         throws NullValueException
     {
         if (_isNullValue()) throw new NullValueException();
-        float f = _decimal_value.floatValue();
+        float f = inflate().floatValue();
         return f;
     }
 
@@ -118,20 +133,30 @@ final class IonDecimalLite
         throws NullValueException
     {
         if (_isNullValue()) throw new NullValueException();
-        double d = _decimal_value.doubleValue();
+        double d = inflate().doubleValue();
         return d;
     }
 
     public BigDecimal bigDecimalValue()
         throws NullValueException
     {
-        return Decimal.bigDecimalValue(_decimal_value); // Works for null.
+        if (_isNullValue()) return null;
+        if (_decimal_value == null)
+        {
+            return BigDecimal.valueOf(_unscaled_value, _scale);
+        }
+        return Decimal.bigDecimalValue(_decimal_value);
     }
 
     public Decimal decimalValue()
         throws NullValueException
     {
-        return Decimal.valueOf(_decimal_value); // Works for null.
+        if (_isNullValue()) return null;
+        if (_decimal_value == null)
+        {
+            return Decimal.valueOf(BigInteger.valueOf(_unscaled_value), _scale);
+        }
+        return Decimal.valueOf(_decimal_value);
     }
 
     public void setValue(long value)
@@ -155,15 +180,50 @@ final class IonDecimalLite
     public void setValue(BigDecimal value)
     {
         checkForLock();
-        _decimal_value = value;
+        BigInteger unscaled = (value == null ? null : value.unscaledValue());
+        if (unscaled != null
+            && unscaled.bitLength() < 64
+            && ! Decimal.isNegativeZero(value))
+        {
+            _unscaled_value = unscaled.longValue();
+            _scale          = value.scale();
+            _decimal_value  = null;
+        }
+        else
+        {
+            _unscaled_value = 0;
+            _scale          = 0;
+            _decimal_value  = value;
+        }
         _isNullValue(value == null);
     }
 
+    /**
+     * @return the value of this non-null decimal, as given or inflated from
+     * its compact form.
+     */
+    private BigDecimal inflate()
+    {
+        if (_decimal_value == null)
+        {
+            return BigDecimal.valueOf(_unscaled_value, _scale);
+        }
+        return _decimal_value;
+    }
+
     @Override
     final void writeBodyTo(IonWriter writer, SymbolTableProvider symbolTableProvider)
         throws IOException
     {
-        writer.writeDecimal(_decimal_value);
+        writer.writeDecimal(_isNullValue() ? null : inflate());
+    }
+
+    /**
+     * @return true if this non-null decimal is held as its unscaled value and scale.
+     */
+    final boolean isCompact()
+    {
+        return ! _isNullValue() && _decimal_value == null;
     }
 
     @Override
@@ -28,6 +28,7 @@ import software.amazon.ion.IonLoader;
 import software.amazon.ion.IonReader;
 import software.amazon.ion.IonSystem;
 import software.amazon.ion.IonWriter;
+import software.amazon.ion.SymbolTable;
 import software.amazon.ion.impl.PrivateIonWriterFactory;
 import software.amazon.ion.impl.PrivateLocalSymbolTableFactory;
 
@@ -80,6 +81,26 @@ final class IonLoaderLite
         return datagram;
     }
 
+    /**
+     * Loads the top-level values one at a time so that their containers
+     * can load their children lazily.
+     *
+     * @param backing the data the reader is reading; not null.
+     *
+     * @return a new datagram; not null.
+     */
+    private IonDatagramLite load_helper(IonReader reader, BinaryBacking backing)
+    {
+        IonDatagramLite datagram = new IonDatagramLite(_system, _catalog);
+        while (reader.next() != null) {
+            SymbolTable symtab = reader.getSymbolTable();
+            IonValueLite value = _system.newValue(reader, backing);
+            datagram.add(value);
+            value.setSymbolTable(symtab);
+        }
+        return datagram;
+    }
+
     public IonDatagram load(File ionFile) throws IonException, IOException
     {
         InputStream ionData = new FileInputStream(ionFile);
@@ -124,6 +145,11 @@ final class IonLoaderLite
     {
         try {
             IonReader reader = makeReader(_catalog, ionData, 0, ionData.length, _lstFactory);
+            BinaryBacking backing =
+                _system.newBinaryBacking(ionData, 0, ionData.length);
+            if (backing != null) {
+                return load_helper(reader, backing);
+            }
             IonDatagramLite datagram = load_helper(reader);
             return datagram;
         }
@@ -391,7 +391,7 @@ abstract class IonSequenceLite
         {
             writer.writeNull(type);
         }
-        else
+        else if (! writeUnloadedBodyTo(writer, symbolTableProvider))
         {
             writer.stepIn(type);
             writeChildren(writer, this, symbolTableProvider);
@@ -17,9 +17,7 @@ package software.amazon.ion.impl.lite;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.ListIterator;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -52,14 +50,14 @@ final class IonStructLite
     private IonStructLite(IonStructLite existing, IonContext context)
     {
         super(existing, context, true);
-        // field map can be shallow cloned due to it dealing with String and Integer
-        // values - both of which are immutable constructs and so safe to retain as references
-        this._field_map = null == existing._field_map ? null : new HashMap<String, Integer>(existing._field_map);
+        // field map can be shallow cloned due to it dealing with String and int
+        // values - strings being immutable and so safe to retain as references
+        this._field_map = null == existing._field_map ? null : existing._field_map.copy();
         this._field_map_duplicate_count = existing._field_map_duplicate_count;
         this.hasNullFieldName = existing.hasNullFieldName;
     }
 
-    private Map<String, Integer> _field_map;
+    private FieldIndex _field_map;
     private boolean hasNullFieldName = false;
 
     public int                      _field_map_duplicate_count;
@@ -88,7 +86,7 @@ final class IonStructLite
     {
         int size = (_children == null) ? 0 : _children.length;
 
-        _field_map = new HashMap<String, Integer>(size);
+        _field_map = new FieldIndex(size);
         _field_map_duplicate_count = 0;
 
         int count = get_child_count();
@@ -96,7 +94,7 @@ final class IonStructLite
             IonValueLite v = get_child(ii);
             SymbolToken fieldNameSymbol = v.getFieldNameSymbol();
             String name = fieldNameSymbol.getText();
-            if (_field_map.get(name) != null) {
+            if (_field_map.get(name) >= 0) {
                 _field_map_duplicate_count++;
             }
             _field_map.put(name, ii); // this causes the map to have the largest index value stored
@@ -105,11 +103,11 @@ final class IonStructLite
     }
     private void add_field(String fieldName, int newFieldIdx)
     {
-        Integer idx = _field_map.get(fieldName);
-        if (idx != null) {
+        int idx = _field_map.get(fieldName);
+        if (idx >= 0) {
             _field_map_duplicate_count++;
-            if (idx.intValue() > newFieldIdx) {
-                newFieldIdx = idx.intValue();
+            if (idx > newFieldIdx) {
+                newFieldIdx = idx;
             }
         }
         _field_map.put(fieldName, newFieldIdx);
@@ -120,18 +118,17 @@ final class IonStructLite
             return;
         }
 
-        Integer field_idx = _field_map.get(fieldName);
-        assert(field_idx != null);
+        assert(_field_map.get(fieldName) >= 0);
         _field_map.remove(fieldName);
         _field_map_duplicate_count -= (copies - 1);
     }
 
     private void remove_field_from_field_map(String fieldName, int idx)
     {
-        Integer field_idx = _field_map.get(fieldName);
-        assert(field_idx != null);
+        int field_idx = _field_map.get(fieldName);
+        assert(field_idx >= 0);
 
-        if (field_idx.intValue() != idx) {
+        if (field_idx != idx) {
             // if the map has a different index, this must
             // be a duplicate, and this copy isn't in the map
             assert(_field_map_duplicate_count > 0);
@@ -177,8 +174,8 @@ final class IonStructLite
         for (int ii=removed_idx; ii<get_child_count(); ii++) {
             IonValueLite value = get_child(ii);
             String  field_name = value.getFieldName();
-            Integer map_idx = _field_map.get(field_name);
-            if (map_idx.intValue() != ii) {
+            int map_idx = _field_map.get(field_name);
+            if (map_idx != ii) {
                 // if this is a field that to the right of
                 // the removed (in process of removing) value
                 // we need to patch the index value
@@ -197,18 +194,7 @@ final class IonStructLite
         }
 
         out.println("   dups: "+_field_map_duplicate_count);
-        Iterator<Entry<String, Integer>> it = _field_map.entrySet().iterator();
-        out.print("   map: [");
-        boolean first = true;
-        while (it.hasNext()) {
-            Entry<String, Integer> e = it.next();
-            if (!first) {
-                out.print(",");
-            }
-            out.print(e.getKey()+":"+e.getValue());
-            first = false;
-        }
-        out.println("]");
+        out.println("   map: "+_field_map);
     }
 
     @Override
@@ -218,13 +204,12 @@ final class IonStructLite
             return null;
         }
         String error = "";
-        Iterator<Entry<String, Integer>> it = _field_map.entrySet().iterator();
-        while (it.hasNext()) {
-            Entry<String, Integer> e = it.next();
-            int idx = e.getValue().intValue();
+        for (String name : _field_map.names()) {
+            int idx = _field_map.get(name);
             IonValueLite v = (idx >= 0 && idx < get_child_count()) ? get_child(idx) : null;
-            if (v == null || idx != v._elementid() || (e.getKey().equals(v.getFieldName()) == false)) {
-                error += "map entry ["+e+"] doesn't match list value ["+v+"]\n";
+            if (v == null || idx != v._elementid()
+                || (name == null ? v.getFieldName() != null : !name.equals(v.getFieldName()))) {
+                error += "map entry ["+name+"="+idx+"] doesn't match list value ["+v+"]\n";
             }
         }
 
@@ -417,10 +402,7 @@ final class IonStructLite
             // nothing to see here, move along
         }
         else if (_field_map != null) {
-            Integer idx = _field_map.get(fieldName);
-            if (idx != null) {
-                return idx.intValue();
-            }
+            return _field_map.get(fieldName);
         }
         else {
             int ii, size = get_child_count();
@@ -572,9 +554,9 @@ final class IonStructLite
             // we have a map and no duplicates so the index
             // (aka map) is all we need to find the only
             // value associated with fieldName, if there is one
-            Integer idx = _field_map.get(fieldName);
-            if (idx != null) {
-                lowestRemovedIndex = idx.intValue();
+            int idx = _field_map.get(fieldName);
+            if (idx >= 0) {
+                lowestRemovedIndex = idx;
                 remove_field_from_field_map(fieldName, lowestRemovedIndex);
                 remove_child(lowestRemovedIndex);
                 any_removed = true;
@@ -801,7 +783,7 @@ final class IonStructLite
         {
             writer.writeNull(IonType.STRUCT);
         }
-        else
+        else if (! writeUnloadedBodyTo(writer, symbolTableProvider))
         {
             writer.stepIn(IonType.STRUCT);
             writeChildren(writer, this, symbolTableProvider);
@@ -22,6 +22,7 @@ import static software.amazon.ion.impl.PrivateIonReaderFactory.makeSystemReader;
 import static software.amazon.ion.impl.PrivateUtils.addAllNonNull;
 import static software.amazon.ion.impl.PrivateUtils.initialSymtab;
 import static software.amazon.ion.impl.PrivateUtils.newSymbolToken;
+import static software.amazon.ion.util.IonStreamUtils.isIonBinary;
 import static software.amazon.ion.util.IonTextUtils.printString;
 
 import java.io.Closeable;
@@ -44,6 +45,8 @@ import software.amazon.ion.IonTimestamp;
 import software.amazon.ion.IonType;
 import software.amazon.ion.IonValue;
 import software.amazon.ion.IonWriter;
+import software.amazon.ion.Span;
+import software.amazon.ion.SpanProvider;
 import software.amazon.ion.SymbolTable;
 import software.amazon.ion.SymbolToken;
 import software.amazon.ion.UnexpectedEofException;
@@ -71,10 +74,23 @@ final class IonSystemLite
     private final PrivateIonBinaryWriterBuilder myBinaryWriterBuilder;
     /** Immutable. **/
     private final IonReaderBuilder myReaderBuilder;
+    private final boolean myLazyLoading;
 
     public IonSystemLite(IonTextWriterBuilder twb,
                          PrivateIonBinaryWriterBuilder bwb,
                          IonReaderBuilder rb)
+    {
+        this(twb, bwb, rb, false);
+    }
+
+    /**
+     * @param lazyLoading whether containers loaded from binary byte arrays
+     * load their children on first access.
+     */
+    public IonSystemLite(IonTextWriterBuilder twb,
+                         PrivateIonBinaryWriterBuilder bwb,
+                         IonReaderBuilder rb,
+                         boolean lazyLoading)
     {
         IonCatalog catalog = twb.getCatalog();
         assert catalog != null;
@@ -94,6 +110,7 @@ final class IonSystemLite
         myBinaryWriterBuilder = bwb.immutable();
 
         myReaderBuilder = rb.immutable();
+        myLazyLoading = lazyLoading;
     }
 
     //==========================================================================
@@ -105,6 +122,28 @@ final class IonSystemLite
         return myBinaryWriterBuilder.isStreamCopyOptimized();
     }
 
+    /**
+     * @return the backing for values lazily loaded from the given data, or
+     * null if they should be loaded eagerly.
+     */
+    BinaryBacking newBinaryBacking(byte[] ionData, int offset, int len)
+    {
+        if (myLazyLoading && isIonBinary(ionData, offset, len))
+        {
+            return new BinaryBacking(this, ionData, offset, len);
+        }
+        return null;
+    }
+
+    /**
+     * @return a reader over the data of a {@link BinaryBacking}, made the
+     * same way as the one the values were loaded from.
+     */
+    IonReader newLazyReader(byte[] ionData, int offset, int len)
+    {
+        return makeReader(_catalog, ionData, offset, len, _lstFactory);
+    }
+
     @SuppressWarnings("unchecked")
     public <T extends IonValue> T clone(T value) throws IonException
     {
@@ -194,7 +233,8 @@ final class IonSystemLite
     public Iterator<IonValue> iterate(byte[] ionData)
     {
         IonReader reader = makeReader(_catalog, ionData, _lstFactory);
-        ReaderIterator iterator = new ReaderIterator(this, reader);
+        BinaryBacking backing = newBinaryBacking(ionData, 0, ionData.length);
+        ReaderIterator iterator = new ReaderIterator(this, reader, backing);
         return iterator;
     }
 
@@ -285,14 +325,26 @@ final class IonSystemLite
 
     public IonValueLite newValue(IonReader reader)
     {
-        IonValueLite value = load_value_helper(reader, /*isTopLevel*/ true);
+        return newValue(reader, null);
+    }
+
+    /**
+     * @param backing the data the reader is reading, if containers are to
+     * load their children lazily; may be null.
+     */
+    IonValueLite newValue(IonReader reader, BinaryBacking backing)
+    {
+        IonValueLite value = load_value_helper(reader, /*isTopLevel*/ true,
+                                               backing);
         if (value == null) {
             throw new IonException("No value available");
         }
         return value;
     }
 
-    private IonValueLite load_value_helper(IonReader reader, boolean isTopLevel)
+    private IonValueLite load_value_helper(IonReader reader,
+                                           boolean isTopLevel,
+                                           BinaryBacking backing)
     {
         boolean symbol_is_present = false;
 
@@ -394,9 +446,16 @@ final class IonSystemLite
             case LIST:
             case SEXP:
             case STRUCT:
+                if (backing != null) {
+                    // the children are loaded from the span on demand;
+                    // assume they have symbols since we can't tell
+                    Span span = reader.asFacet(SpanProvider.class).currentSpan();
+                    ((IonContainerLite)v).setBacking(backing, span);
+                    symbol_is_present = true;
+                }
                 // we have to load the children after we grabbed the
                 // fieldname and annotations off of the parent container
-                if (load_children((IonContainerLite)v, reader)) {
+                else if (load_children((IonContainerLite)v, reader, null)) {
                     symbol_is_present = true;
                 }
                 break;
@@ -413,8 +472,12 @@ final class IonSystemLite
     /**
      * @return true iff any child contains a symbol
      * (including field names and annotations)
+     *
+     * @param backing the data the reader is reading, if nested containers
+     * are to load their children lazily; may be null.
      */
-    private boolean load_children(IonContainerLite container, IonReader reader)
+    boolean load_children(IonContainerLite container, IonReader reader,
+                          BinaryBacking backing)
     {
         boolean symbol_is_present = false;
 
@@ -424,7 +487,8 @@ final class IonSystemLite
             if (t == null) {
                 break;
             }
-            IonValueLite child = load_value_helper(reader, /*isTopLevel*/ false);
+            IonValueLite child = load_value_helper(reader, /*isTopLevel*/ false,
+                                                   backing);
 
             container.add(child);
 
@@ -514,6 +578,8 @@ final class IonSystemLite
     {
         private final IonReader        _reader;
         private final IonSystemLite    _system;
+        /** May be null. */
+        private final BinaryBacking    _backing;
         private       IonType          _next;
 
 
@@ -521,9 +587,20 @@ final class IonSystemLite
         //       we are creating ion values which might want
         //       a local symbol table in some cases.
         protected ReaderIterator(IonSystemLite system, IonReader reader)
+        {
+            this(system, reader, null);
+        }
+
+        /**
+         * @param backing the data the reader is reading, if the values are
+         * to be loaded lazily; may be null.
+         */
+        protected ReaderIterator(IonSystemLite system, IonReader reader,
+                                 BinaryBacking backing)
         {
             _reader = reader;
             _system = system;
+            _backing = backing;
         }
 
         public boolean hasNext()
@@ -549,7 +626,7 @@ final class IonSystemLite
 
             // make an ion value from our reader
             // We called _reader.next() inside hasNext() above
-            IonValueLite value = _system.newValue(_reader);
+            IonValueLite value = _system.newValue(_reader, _backing);
 
             // we've used up the value now, force a _reader._next() the next time through
             _next = null;
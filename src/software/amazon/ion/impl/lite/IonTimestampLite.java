@@ -22,6 +22,7 @@ import software.amazon.ion.IonType;
 import software.amazon.ion.IonWriter;
 import software.amazon.ion.NullValueException;
 import software.amazon.ion.Timestamp;
+import software.amazon.ion.Timestamp.Precision;
 import software.amazon.ion.ValueVisitor;
 
 final class IonTimestampLite
@@ -40,6 +41,46 @@ final class IonTimestampLite
         IonType.TIMESTAMP.toString().hashCode();
 
 
+    // Layout of a compact timestamp, which holds its local fields.  The
+    // offset is stored in quarter hours, biased so that zero means unknown;
+    // the second is stored as the unscaled value of its decimal second.
+    private static final int OFFSET_SHIFT       = 0;
+    private static final int OFFSET_BITS        = 8;
+    private static final int SECOND_SHIFT       = 8;
+    private static final int SECOND_BITS        = 16;
+    private static final int SECOND_SCALE_SHIFT = 24;
+    private static final int SECOND_SCALE_BITS  = 2;
+    private static final int MINUTE_SHIFT       = 26;
+    private static final int MINUTE_BITS        = 6;
+    private static final int HOUR_SHIFT         = 32;
+    private static final int HOUR_BITS          = 5;
+    private static final int DAY_SHIFT          = 37;
+    private static final int DAY_BITS           = 5;
+    private static final int MONTH_SHIFT        = 42;
+    private static final int MONTH_BITS         = 4;
+    private static final int YEAR_SHIFT         = 46;
+    private static final int YEAR_BITS          = 14;
+    private static final int PRECISION_SHIFT    = 60;
+    private static final int PRECISION_BITS     = 3;
+
+    private static final int OFFSET_UNIT = 15;
+    private static final int OFFSET_BIAS = 96;
+    private static final int MAX_SECOND_SCALE = (1 << SECOND_SCALE_BITS) - 1;
+
+    private static final Precision[] PRECISIONS = Precision.values();
+
+
+    /**
+     * The packed fields of a non-null value that has millisecond precision
+     * or coarser, and an offset of whole quarter hours, in which case
+     * {@link #_timestamp_value} is null.  Such values are inflated to a
+     * {@link Timestamp} only when requested.
+     */
+    private long _packed_value;
+
+    /**
+     * The value, if it can't be packed; otherwise null.
+     */
     private Timestamp _timestamp_value;
 
     /**
@@ -54,6 +95,7 @@ final class IonTimestampLite
     {
         super(existing, context);
         // Timestamp contract is immutable; so can simply pass the reference
+        this._packed_value    = existing._packed_value;
         this._timestamp_value = existing._timestamp_value;
     }
 
@@ -91,7 +133,7 @@ final class IonTimestampLite
         if (isNullValue()) {
             return null;
         }
-        return _timestamp_value;
+        return inflate();
     }
 
     public Date dateValue()
@@ -99,7 +141,7 @@ final class IonTimestampLite
         if (_isNullValue()) {
             return null;
         }
-        return _timestamp_value.dateValue();
+        return inflate().dateValue();
     }
 
 
@@ -108,7 +150,7 @@ final class IonTimestampLite
         if (_isNullValue()) {
             throw new NullValueException();
         }
-        return _timestamp_value.getLocalOffset();
+        return localOffset();
     }
 
 
@@ -120,13 +162,23 @@ final class IonTimestampLite
         if (_isNullValue()) {
             return null;
         }
-        return _timestamp_value.getLocalOffset();
+        return localOffset();
     }
 
     public void setValue(Timestamp timestamp)
     {
         checkForLock();
-        _timestamp_value = timestamp;
+        long packed = (timestamp == null ? -1 : pack(timestamp));
+        if (packed < 0)
+        {
+            _packed_value    = 0;
+            _timestamp_value = timestamp;
+        }
+        else
+        {
+            _packed_value    = packed;
+            _timestamp_value = null;
+        }
         _isNullValue(timestamp == null);
     }
 
@@ -159,7 +211,7 @@ final class IonTimestampLite
         if (_isNullValue()) {
             return null;
         }
-        return _timestamp_value.getDecimalMillis();
+        return inflate().getDecimalMillis();
     }
 
     public void setDecimalMillis(BigDecimal millis)
@@ -175,7 +227,7 @@ final class IonTimestampLite
         if (_isNullValue()) {
             throw new NullValueException();
         }
-        return _timestamp_value.getMillis();
+        return inflate().getMillis();
     }
 
 
@@ -218,14 +270,14 @@ final class IonTimestampLite
         throws NullValueException
     {
         validateThisNotNull();
-        assert (_timestamp_value != null);
 
-        setValue(_timestamp_value.getDecimalMillis(), minutes);
+        setValue(inflate().getDecimalMillis(), minutes);
     }
 
     public void makeNull()
     {
         checkForLock();
+        _packed_value    = 0;
         _timestamp_value = null;
         _isNullValue(true);
     }
@@ -234,7 +286,126 @@ final class IonTimestampLite
     final void writeBodyTo(IonWriter writer, SymbolTableProvider symbolTableProvider)
         throws IOException
     {
-        writer.writeTimestamp(_timestamp_value);
+        writer.writeTimestamp(_isNullValue() ? null : inflate());
+    }
+
+
+    /**
+     * @return the packed fields of the timestamp, or -1 if it can't be
+     * packed.
+     */
+    private static long pack(Timestamp timestamp)
+    {
+        long packed = 0;
+
+        Integer offset = timestamp.getLocalOffset();
+        if (offset != null)
+        {
+            int minutes = offset.intValue();
+            int quarters = minutes / OFFSET_UNIT;
+            if (minutes % OFFSET_UNIT != 0
+                || quarters <= -OFFSET_BIAS || quarters >= OFFSET_BIAS)
+            {
+                return -1;
+            }
+            packed |= (long) (quarters + OFFSET_BIAS) << OFFSET_SHIFT;
+        }
+
+        Precision precision = timestamp.getPrecision();
+        if (precision == Precision.SECOND)
+        {
+            BigDecimal second = timestamp.getDecimalSecond();
+            int scale = second.scale();
+            if (scale < 0 || scale > MAX_SECOND_SCALE) return -1;
+            packed |= second.unscaledValue().longValue() << SECOND_SHIFT;
+            packed |= (long) scale << SECOND_SCALE_SHIFT;
+        }
+
+        if (precision.includes(Precision.MINUTE))
+        {
+            packed |= (long) timestamp.getMinute() << MINUTE_SHIFT;
+            packed |= (long) timestamp.getHour()   << HOUR_SHIFT;
+        }
+        packed |= (long) timestamp.getDay()       << DAY_SHIFT;
+        packed |= (long) timestamp.getMonth()     << MONTH_SHIFT;
+        packed |= (long) timestamp.getYear()      << YEAR_SHIFT;
+        packed |= (long) precision.ordinal()      << PRECISION_SHIFT;
+        return packed;
+    }
+
+    private static int unpack(long packed, int shift, int bits)
+    {
+        return (int) (packed >>> shift) & ((1 << bits) - 1);
+    }
+
+    /**
+     * Returns the offset of this non-null value, without inflating it.
+     */
+    private Integer localOffset()
+    {
+        if (_timestamp_value != null)
+        {
+            return _timestamp_value.getLocalOffset();
+        }
+        int offset = unpack(_packed_value, OFFSET_SHIFT, OFFSET_BITS);
+        if (offset == 0) return null;
+        return Integer.valueOf((offset - OFFSET_BIAS) * OFFSET_UNIT);
+    }
+
+    /**
+     * @return the value of this non-null timestamp, as given or inflated
+     * from its packed fields.
+     */
+    private Timestamp inflate()
+    {
+        if (_timestamp_value != null)
+        {
+            return _timestamp_value;
+        }
+
+        long packed = _packed_value;
+        int year  = unpack(packed, YEAR_SHIFT,  YEAR_BITS);
+        int month = unpack(packed, MONTH_SHIFT, MONTH_BITS);
+        int day   = unpack(packed, DAY_SHIFT,   DAY_BITS);
+        Precision precision =
+            PRECISIONS[unpack(packed, PRECISION_SHIFT, PRECISION_BITS)];
+        switch (precision)
+        {
+            case YEAR:
+                return Timestamp.forYear(year);
+            case MONTH:
+                return Timestamp.forMonth(year, month);
+            case DAY:
+                return Timestamp.forDay(year, month, day);
+            default:
+                break;
+        }
+
+        int hour   = unpack(packed, HOUR_SHIFT,   HOUR_BITS);
+        int minute = unpack(packed, MINUTE_SHIFT, MINUTE_BITS);
+        Integer offset = localOffset();
+        if (precision == Precision.MINUTE)
+        {
+            return Timestamp.forMinute(year, month, day, hour, minute, offset);
+        }
+
+        int second = unpack(packed, SECOND_SHIFT, SECOND_BITS);
+        int scale  = unpack(packed, SECOND_SCALE_SHIFT, SECOND_SCALE_BITS);
+        if (scale == 0)
+        {
+            return Timestamp.forSecond(year, month, day, hour, minute, second,
+                                       offset);
+        }
+        return Timestamp.forSecond(year, month, day, hour, minute,
+                                   BigDecimal.valueOf(second, scale), offset);
+    }
+
+    /**
+     * @return true if this non-null timestamp is held as its packed fields.
+     */
+    final boolean isCompact()
+    {
+        return ! _isNullValue() && _timestamp_value == null;
     }
 
     @Override
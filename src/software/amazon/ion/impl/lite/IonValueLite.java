@@ -773,7 +773,9 @@ abstract class IonValueLite
     }
 
     /**
-     * Verifies that this value is not read-only.
+     * Verifies that this value is not read-only.  Since this precedes every
+     * modification, it also drops the encoded lengths cached for the
+     * containers whose encoding the modification may change.
      *
      * @throws ReadOnlyValueException
      *   if this value {@link #isReadOnly()}.
@@ -784,6 +786,12 @@ abstract class IonValueLite
         if (_isLocked()) {
             throw new ReadOnlyValueException();
         }
+        IonContainerLite container = (this instanceof IonContainerLite
+                                      ? (IonContainerLite) this
+                                      : _context.getContextContainer());
+        if (container != null) {
+            container.clearEncodedLength();
+        }
     }
 
 
@@ -14,12 +14,17 @@
 
 package software.amazon.ion.system;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.WritableByteChannel;
 import software.amazon.ion.IonCatalog;
+import software.amazon.ion.IonException;
 import software.amazon.ion.IonReader;
 import software.amazon.ion.IonWriter;
 import software.amazon.ion.SubstituteSymbolTableException;
 import software.amazon.ion.SymbolTable;
 import software.amazon.ion.impl.PrivateIonBinaryWriterBuilder;
+import software.amazon.ion.impl.bin.PrivateIonManagedBinaryWriterBuilder;
 
 
 /**
@@ -283,4 +288,73 @@ public abstract class IonBinaryWriterBuilder
         b.setStreamCopyOptimized(optimized);
         return b;
     }
+
+
+    //=========================================================================
+
+
+    /**
+     * Creates a new writer that will write binary data to the given channel.
+     * <p>
+     * Data is buffered until {@link IonWriter#finish()} (or a top-level
+     * {@link IonWriter#flush()}), at which point it is passed to the channel
+     * as a sequence of buffers.  When the channel is a
+     * {@link java.nio.channels.GatheringByteChannel}, such as a file or
+     * socket channel, that's done with a single gathering write.
+     * <p>
+     * The channel must be in blocking mode, and stay so while the writer is
+     * in use, since the writer has no way to wait for a non-blocking channel
+     * to be ready for more data.
+     *
+     * @param out the channel that will receive Ion binary data.
+     * Must not be null.
+     *
+     * @return a new {@link IonWriter} instance; not {@code null}.
+     *
+     * @throws java.nio.channels.IllegalBlockingModeException if the channel
+     * is a {@link java.nio.channels.SelectableChannel} in non-blocking mode.
+     */
+    public abstract IonWriter build(WritableByteChannel out);
+
+
+    /**
+     * Directs a binary writer to a different output stream, so that it can
+     * be reused instead of building a new writer.
+     * <p>
+     * The writer keeps its buffers and configuration, and is left in the
+     * same state as a new writer from the builder that built it: the next
+     * data it writes starts with an Ion version marker.  Applications that
+     * write many small messages can save the cost of building a writer for
+     * each one by {@linkplain IonWriter#finish() finishing} each message and
+     * rebinding the writer to the next destination.
+     * <p>
+     * The previous stream is neither flushed nor closed.
+     *
+     * @param writer a writer built by {@link #build(OutputStream)}, which
+     * must be at top-level with all of its values finished.
+     * Must not be null.
+     * @param out the stream that will receive the writer's subsequent
+     * output. Must not be null.
+     *
+     * @return the given writer.
+     *
+     * @throws IllegalArgumentException if the writer wasn't built by a
+     * binary writer builder.
+     * @throws IllegalStateException if the writer is closed, was built to
+     * write to a channel, or has values that haven't been finished.
+     */
+    @SuppressWarnings("deprecation")
+    public static IonWriter rebind(IonWriter writer, OutputStream out)
+    {
+        out.getClass(); // Force NPE
+        try
+        {
+            PrivateIonManagedBinaryWriterBuilder.rebind(writer, out);
+        }
+        catch (IOException e)
+        {
+            throw new IonException("I/O Error", e);
+        }
+        return writer;
+    }
 }
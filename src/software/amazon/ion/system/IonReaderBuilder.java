@@ -14,17 +14,27 @@
 
 package software.amazon.ion.system;
 
+import static software.amazon.ion.impl.PrivateIonReaderFactory.makeIncrementalReader;
+import static software.amazon.ion.impl.PrivateIonReaderFactory.makeIndexedReader;
 import static software.amazon.ion.impl.PrivateIonReaderFactory.makeReader;
+import static software.amazon.ion.impl.PrivateIonReaderFactory.useLenientSkip;
+import static software.amazon.ion.impl.PrivateIonReaderFactory.useSymbolCache;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import software.amazon.ion.IonCatalog;
 import software.amazon.ion.IonException;
+import software.amazon.ion.IonIncrementalReader;
 import software.amazon.ion.IonReader;
 import software.amazon.ion.IonStruct;
 import software.amazon.ion.IonSystem;
 import software.amazon.ion.IonValue;
+import software.amazon.ion.impl.PrivateTextSymbolCache;
 
 /**
  * Build a new {@link IonReader} from the given {@link IonCatalog} and data
@@ -39,7 +49,13 @@ import software.amazon.ion.IonValue;
 public class IonReaderBuilder
 {
 
+    /** The number of names held by caches shared by built readers. */
+    private static final int SHARED_SYMBOL_CACHE_CAPACITY = 1024;
+
     private IonCatalog catalog = null;
+    private boolean structuralIndexEnabled = false;
+    private boolean lenientSkipEnabled = false;
+    private PrivateTextSymbolCache sharedSymbolCache = null;
 
     private IonReaderBuilder()
     {
@@ -48,6 +64,9 @@ public class IonReaderBuilder
     private IonReaderBuilder(IonReaderBuilder that)
     {
         this.catalog = that.catalog;
+        this.structuralIndexEnabled = that.structuralIndexEnabled;
+        this.lenientSkipEnabled = that.lenientSkipEnabled;
+        this.sharedSymbolCache = that.sharedSymbolCache;
     }
 
     /**
@@ -149,6 +168,205 @@ public class IonReaderBuilder
         return catalog;
     }
 
+    /**
+     * Declares whether readers built over byte arrays of Ion text index the
+     * containers of the data before reading it, returning a new mutable
+     * builder if this is immutable.
+     *
+     * @param enabled whether to index containers.
+     *
+     * @return this builder instance, if mutable;
+     * otherwise a mutable copy of this builder.
+     *
+     * @see #setStructuralIndexEnabled(boolean)
+     * @see #isStructuralIndexEnabled()
+     */
+    public IonReaderBuilder withStructuralIndexEnabled(boolean enabled)
+    {
+        IonReaderBuilder b = mutable();
+        b.setStructuralIndexEnabled(enabled);
+        return b;
+    }
+
+    /**
+     * Declares whether readers built over byte arrays of Ion text index the
+     * containers of the data before reading it.
+     * <p>
+     * Indexing takes one fast pass over the data when the reader is built,
+     * after which skipping a container (by calling {@link IonReader#next()}
+     * without stepping in, or by stepping out early) jumps directly to its
+     * end instead of parsing its contents.  This pays off for large
+     * documents from which only a few values are read.
+     * <p>
+     * Skipped containers aren't checked for errors other than unbalanced
+     * delimiters and unterminated strings, comments, or lobs.
+     * By default, this property is false.
+     *
+     * @param enabled whether to index containers.
+     *
+     * @throws UnsupportedOperationException if this builder is immutable.
+     *
+     * @see #isStructuralIndexEnabled()
+     * @see #withStructuralIndexEnabled(boolean)
+     */
+    public void setStructuralIndexEnabled(boolean enabled)
+    {
+        mutationCheck();
+        this.structuralIndexEnabled = enabled;
+    }
+
+    /**
+     * Indicates whether readers built over byte arrays of Ion text index the
+     * containers of the data before reading it.
+     * By default, this property is false.
+     *
+     * @see #setStructuralIndexEnabled(boolean)
+     * @see #withStructuralIndexEnabled(boolean)
+     */
+    public boolean isStructuralIndexEnabled()
+    {
+        return structuralIndexEnabled;
+    }
+
+    /**
+     * Declares whether text readers skip containers leniently, returning a
+     * new mutable builder if this is immutable.
+     *
+     * @param enabled whether to skip containers leniently.
+     *
+     * @return this builder instance, if mutable;
+     * otherwise a mutable copy of this builder.
+     *
+     * @see #setLenientSkipEnabled(boolean)
+     * @see #isLenientSkipEnabled()
+     */
+    public IonReaderBuilder withLenientSkipEnabled(boolean enabled)
+    {
+        IonReaderBuilder b = mutable();
+        b.setLenientSkipEnabled(enabled);
+        return b;
+    }
+
+    /**
+     * Declares whether text readers skip containers leniently.
+     * <p>
+     * When a reader skips a container (by calling {@link IonReader#next()}
+     * without stepping in, or by stepping out early), it normally parses
+     * every value within it.  A lenient reader instead scans for the
+     * brackets that open and close containers, looking only at the
+     * characters that start and end strings, comments, and lobs, so that
+     * brackets within them aren't counted.  This is much faster for data
+     * with large containers that are mostly skipped.
+     * <p>
+     * Syntax errors within skipped containers aren't detected, and a
+     * closing bracket needn't match the kind of its container, so invalid
+     * data may be read as if it were valid.  Values that are read are
+     * parsed as usual.  Only use this with data from a trusted source.
+     * By default, this property is false.
+     *
+     * @param enabled whether to skip containers leniently.
+     *
+     * @throws UnsupportedOperationException if this builder is immutable.
+     *
+     * @see #isLenientSkipEnabled()
+     * @see #withLenientSkipEnabled(boolean)
+     */
+    public void setLenientSkipEnabled(boolean enabled)
+    {
+        mutationCheck();
+        this.lenientSkipEnabled = enabled;
+    }
+
+    /**
+     * Indicates whether text readers skip containers leniently.
+     * By default, this property is false.
+     *
+     * @see #setLenientSkipEnabled(boolean)
+     * @see #withLenientSkipEnabled(boolean)
+     */
+    public boolean isLenientSkipEnabled()
+    {
+        return lenientSkipEnabled;
+    }
+
+    /**
+     * Declares whether readers built by this builder share one cache of
+     * the text of field names and annotations, returning a new mutable
+     * builder if this is immutable.
+     *
+     * @param shared whether built readers share a symbol cache.
+     *
+     * @return this builder instance, if mutable;
+     * otherwise a mutable copy of this builder.
+     *
+     * @see #setSymbolCacheShared(boolean)
+     * @see #isSymbolCacheShared()
+     */
+    public IonReaderBuilder withSymbolCacheShared(boolean shared)
+    {
+        IonReaderBuilder b = mutable();
+        b.setSymbolCacheShared(shared);
+        return b;
+    }
+
+    /**
+     * Declares whether readers built by this builder share one cache of
+     * the text of field names and annotations.
+     * <p>
+     * Text readers return the same {@link String} instance each time they
+     * read a given short field name or annotation, using a small cache of
+     * recently read names.  By default, each reader has its own cache.
+     * Sharing a cache lets readers of many small documents with the same
+     * field names, including readers on different threads, reuse each
+     * other's Strings.  Copies of this builder share the same cache.
+     * By default, this property is false.
+     *
+     * @param shared whether built readers share a symbol cache.
+     *
+     * @throws UnsupportedOperationException if this builder is immutable.
+     *
+     * @see #isSymbolCacheShared()
+     * @see #withSymbolCacheShared(boolean)
+     */
+    public void setSymbolCacheShared(boolean shared)
+    {
+        mutationCheck();
+        if (! shared)
+        {
+            sharedSymbolCache = null;
+        }
+        else if (sharedSymbolCache == null)
+        {
+            sharedSymbolCache = new PrivateTextSymbolCache(SHARED_SYMBOL_CACHE_CAPACITY);
+        }
+    }
+
+    /**
+     * Indicates whether readers built by this builder share one cache of
+     * the text of field names and annotations.
+     * By default, this property is false.
+     *
+     * @see #setSymbolCacheShared(boolean)
+     * @see #withSymbolCacheShared(boolean)
+     */
+    public boolean isSymbolCacheShared()
+    {
+        return sharedSymbolCache != null;
+    }
+
+    private IonReader configure(IonReader reader)
+    {
+        if (sharedSymbolCache != null)
+        {
+            useSymbolCache(reader, sharedSymbolCache);
+        }
+        if (lenientSkipEnabled)
+        {
+            useLenientSkip(reader);
+        }
+        return reader;
+    }
+
     private IonCatalog validateCatalog()
     {
         // matches behavior in IonSystemBuilder when no catalog provided
@@ -173,7 +391,7 @@ public class IonReaderBuilder
      */
     public IonReader build(byte[] ionData)
     {
-        return makeReader(validateCatalog(), ionData);
+        return build(ionData, 0, ionData.length);
     }
 
     /**
@@ -196,7 +414,11 @@ public class IonReaderBuilder
      */
     public IonReader build(byte[] ionData, int offset, int length)
     {
-        return makeReader(validateCatalog(), ionData, offset, length);
+        if (structuralIndexEnabled)
+        {
+            return configure(makeIndexedReader(validateCatalog(), ionData, offset, length));
+        }
+        return configure(makeReader(validateCatalog(), ionData, offset, length));
     }
 
     /**
@@ -221,7 +443,111 @@ public class IonReaderBuilder
      */
     public IonReader build(InputStream ionData)
     {
-        return makeReader(validateCatalog(), ionData);
+        return configure(makeReader(validateCatalog(), ionData));
+    }
+
+    /**
+     * Based on the builder's configuration properties, creates a new IonReader
+     * instance over the given buffer of Ion data, detecting whether it's text
+     * or binary data.
+     * <p>
+     * The data is read from the buffer's position to its limit. Neither is
+     * modified, by this method or by the reader. Heap buffers are read in
+     * place, as by {@link #build(byte[], int, int)}; direct buffers are read
+     * without first copying their content into a {@code byte[]}.
+     * <p>
+     * This method will auto-detect and uncompress GZIPped Ion data.
+     *
+     * @param ionData the source of the Ion data, which may be either Ion binary
+     * data or UTF-8 Ion text. The reader retains a reference to the buffer, so
+     * its data must not be modified while the reader is active. Must not be
+     * null.
+     *
+     * @return a new {@link IonReader} instance; not {@code null}.
+     */
+    public IonReader build(ByteBuffer ionData)
+    {
+        return configure(makeReader(validateCatalog(), ionData));
+    }
+
+    /**
+     * Based on the builder's configuration properties, creates a new IonReader
+     * instance over the content of a file, detecting whether it's text or
+     * binary data.
+     * <p>
+     * The file is memory-mapped rather than read through a stream, which
+     * avoids copying its content through {@link InputStream} buffers. Files
+     * larger than 2GB are mapped in chunks. The channel's position is ignored
+     * and left unchanged; the entire file is read.
+     * <p>
+     * This method will auto-detect and uncompress GZIPped Ion data.
+     *
+     * @param ionData the file containing the Ion data, which may be either
+     * Ion binary data or UTF-8 Ion text. Must not be null. The channel is not
+     * used after this method returns, so the caller may close it at any time.
+     * The file must not be truncated while the reader is active.
+     *
+     * @return a new reader instance.
+     *
+     * @throws IonException if the channel throws {@link IOException}.
+     *
+     * @see #build(Path)
+     */
+    public IonReader build(FileChannel ionData)
+    {
+        return configure(makeReader(validateCatalog(), ionData));
+    }
+
+    /**
+     * Based on the builder's configuration properties, creates a new IonReader
+     * instance over the content of a file, detecting whether it's text or
+     * binary data.
+     * <p>
+     * The file is memory-mapped as described by {@link #build(FileChannel)}.
+     * <p>
+     * This method will auto-detect and uncompress GZIPped Ion data.
+     *
+     * @param ionData the path of the file containing the Ion data, which may
+     * be either Ion binary data or UTF-8 Ion text. Must not be null.
+     * The file must not be truncated while the reader is active.
+     *
+     * @return a new reader instance.
+     *
+     * @throws IonException if the file cannot be opened or mapped.
+     */
+    public IonReader build(Path ionData)
+    {
+        try
+        {
+            FileChannel channel = FileChannel.open(ionData, StandardOpenOption.READ);
+            try
+            {
+                return configure(makeReader(validateCatalog(), channel));
+            }
+            finally
+            {
+                channel.close();
+            }
+        }
+        catch (IOException e)
+        {
+            throw new IonException(e);
+        }
+    }
+
+    /**
+     * Based on the builder's configuration properties, creates a new
+     * {@link IonIncrementalReader} to which Ion binary data will be fed as it
+     * becomes available, for example by a non-blocking network handler.
+     * <p>
+     * Unlike the other {@code build} methods, GZIPped data and Ion text are
+     * not supported.
+     *
+     * @return a new reader instance, with no data.
+     */
+    public IonIncrementalReader buildIncremental()
+    {
+        return makeIncrementalReader(validateCatalog());
     }
 
     /**
@@ -243,7 +569,7 @@ public class IonReaderBuilder
      */
     public IonReader build(Reader ionText)
     {
-        return makeReader(validateCatalog(), ionText);
+        return configure(makeReader(validateCatalog(), ionText));
     }
 
     /**
@@ -270,7 +596,7 @@ public class IonReaderBuilder
      */
     public IonReader build(String ionText)
     {
-        return makeReader(validateCatalog(), ionText);
+        return configure(makeReader(validateCatalog(), ionText));
     }
 
     private static class Mutable extends IonReaderBuilder
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion.system;
+
+import static software.amazon.ion.impl.PrivateIonReaderFactory.isBinaryReader;
+import static software.amazon.ion.util.IonStreamUtils.isGzip;
+import static software.amazon.ion.util.IonStreamUtils.isIonBinary;
+
+import software.amazon.ion.IonReader;
+import software.amazon.ion.ResettableReader;
+
+/**
+ * A pool of {@link IonReader}s over byte arrays, which are
+ * {@linkplain ResettableReader#reset reset} onto new data instead of being
+ * built anew.  This saves the cost of allocating a reader's buffers and
+ * internal state for each of many small messages.
+ * <p>
+ * Readers are acquired for a block of data, used, and then released back to
+ * the pool.  A reader must not be used after it's released.  Text and binary
+ * readers are pooled separately; when no reader of the data's format is
+ * available, a new one is built.  Readers of GZIPped data aren't pooled.
+ * <p>
+ * A pooled reader retains a reference to the last data it read, so that
+ * data should not be modified while the pool is reachable.
+ * <p>
+ * This class is thread-safe.
+ */
+public final class IonReaderPool
+{
+    private final IonReaderBuilder myBuilder;
+    private final IonReader[] myTextReaders;
+    private final IonReader[] myBinaryReaders;
+    private int myTextCount;
+    private int myBinaryCount;
+
+    /**
+     * @param builder configures the readers built by this pool.  Later
+     * changes to the builder don't affect the pool.  Must not be null.
+     * @param capacity the number of idle readers of each format, text and
+     * binary, that are kept for reuse.
+     */
+    public IonReaderPool(IonReaderBuilder builder, int capacity)
+    {
+        if (capacity < 0)
+        {
+            throw new IllegalArgumentException("Invalid capacity: " + capacity);
+        }
+        myBuilder = builder.immutable();
+        myTextReaders = new IonReader[capacity];
+        myBinaryReaders = new IonReader[capacity];
+    }
+
+    /**
+     * Provides a reader over the given data, reusing an idle reader if
+     * possible.
+     *
+     * @see IonReaderBuilder#build(byte[])
+     */
+    public IonReader acquire(byte[] ionData)
+    {
+        return acquire(ionData, 0, ionData.length);
+    }
+
+    /**
+     * Provides a reader over the given range of data, reusing an idle reader
+     * if possible.  The reader is configured as if by
+     * {@link IonReaderBuilder#build(byte[], int, int)} on this pool's
+     * builder.
+     *
+     * @see IonReaderBuilder#build(byte[], int, int)
+     */
+    public IonReader acquire(byte[] ionData, int offset, int length)
+    {
+        if (! isGzip(ionData, offset, length))
+        {
+            IonReader reader = take(isIonBinary(ionData, offset, length));
+            if (reader != null)
+            {
+                reader.asFacet(ResettableReader.class).reset(ionData, offset, length);
+                return reader;
+            }
+        }
+        return myBuilder.build(ionData, offset, length);
+    }
+
+    /**
+     * Returns a reader acquired from this pool, so that it may be reused.
+     * If the pool is full, or the reader can't be reset, it's discarded.
+     *
+     * @param reader must have been acquired from this pool, and must not be
+     * used afterwards.
+     */
+    public void release(IonReader reader)
+    {
+        if (reader.asFacet(ResettableReader.class) == null)
+        {
+            return;
+        }
+        synchronized (this)
+        {
+            if (isBinaryReader(reader))
+            {
+                if (myBinaryCount < myBinaryReaders.length)
+                {
+                    myBinaryReaders[myBinaryCount++] = reader;
+                }
+            }
+            else if (myTextCount < myTextReaders.length)
+            {
+                myTextReaders[myTextCount++] = reader;
+            }
+        }
+    }
+
+    private synchronized IonReader take(boolean binary)
+    {
+        IonReader reader = null;
+        if (binary)
+        {
+            if (myBinaryCount > 0)
+            {
+                reader = myBinaryReaders[--myBinaryCount];
+                myBinaryReaders[myBinaryCount] = null;
+            }
+        }
+        else if (myTextCount > 0)
+        {
+            reader = myTextReaders[--myTextCount];
+            myTextReaders[myTextCount] = null;
+        }
+        return reader;
+    }
+}
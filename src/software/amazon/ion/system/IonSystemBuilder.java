@@ -17,6 +17,7 @@ package software.amazon.ion.system;
 import static software.amazon.ion.impl.lite.PrivateLiteDomTrampoline.newLiteSystem;
 
 import software.amazon.ion.IonCatalog;
+import software.amazon.ion.IonLoader;
 import software.amazon.ion.IonReader;
 import software.amazon.ion.IonSystem;
 import software.amazon.ion.IonWriter;
@@ -78,6 +79,13 @@ import software.amazon.ion.impl.PrivateUtils;
  *     conditions are met. <b>This feature is experimental! Please test
  *     thoroughly and report any issues.</b>
  *   </li>
+ *   <li>
+ *     <b>lazyLoading</b>: When true, containers loaded from Ion binary
+ *     byte arrays keep a reference to the array and load their children only
+ *     when first accessed, and unchanged containers are written by copying
+ *     from the array.  This makes loading cheap when only part of the data is
+ *     used. The array must not be modified while such values are in use.
+ *   </li>
  * </ul>
  */
 public class IonSystemBuilder
@@ -100,6 +108,7 @@ public class IonSystemBuilder
 
     IonCatalog myCatalog;
     boolean myStreamCopyOptimized = false;
+    boolean myLazyLoading = false;
 
 
     /** You no touchy. */
@@ -109,6 +118,7 @@ public class IonSystemBuilder
     {
         this.myCatalog      = that.myCatalog;
         this.myStreamCopyOptimized = that.myStreamCopyOptimized;
+        this.myLazyLoading = that.myLazyLoading;
     }
 
     //=========================================================================
@@ -257,6 +267,60 @@ public class IonSystemBuilder
     }
 
 
+    /**
+     * Indicates whether built systems load the children of containers from
+     * Ion binary byte arrays lazily.
+     * By default, this property is false.
+     *
+     * @see #setLazyLoading(boolean)
+     * @see #withLazyLoading(boolean)
+     */
+    public final boolean isLazyLoading()
+    {
+        return myLazyLoading;
+    }
+
+    /**
+     * Declares whether built systems load the children of containers from
+     * Ion binary byte arrays lazily, when they're first accessed, rather than
+     * when the data is loaded.  This applies to
+     * {@link IonLoader#load(byte[])}, {@link IonSystem#iterate(byte[])}, and
+     * {@link IonSystem#singleValue(byte[])}.
+     * By default, this property is false.
+     * <p>
+     * Values loaded this way reference the given array rather than copying
+     * it, so the array must not be modified while they are in use.
+     * Unchanged containers are written by copying from the array, as-is when
+     * the writer is {@linkplain #setStreamCopyOptimized(boolean) stream-copy
+     * optimized}.
+     *
+     * @throws UnsupportedOperationException if this is immutable.
+     *
+     * @see #isLazyLoading()
+     * @see #withLazyLoading(boolean)
+     */
+    public final void setLazyLoading(boolean lazy)
+    {
+        mutationCheck();
+        myLazyLoading = lazy;
+    }
+
+    /**
+     * Declares whether built systems load the children of containers from
+     * Ion binary byte arrays lazily, returning a new mutable builder if this
+     * is immutable.
+     *
+     * @see #isLazyLoading()
+     * @see #setLazyLoading(boolean)
+     */
+    public final IonSystemBuilder withLazyLoading(boolean lazy)
+    {
+        IonSystemBuilder b = mutable();
+        b.setLazyLoading(lazy);
+        return b;
+    }
+
+
 
     //=========================================================================
 
@@ -287,7 +351,7 @@ public class IonSystemBuilder
 //        bwb = bwb.fillDefaults();
 
         IonReaderBuilder rb = IonReaderBuilder.standard().withCatalog(catalog);
-        return newLiteSystem(twb, bwb, rb);
+        return newLiteSystem(twb, bwb, rb, myLazyLoading);
     }
 
     //=========================================================================
@@ -19,9 +19,12 @@ import static software.amazon.ion.util.GzipOrRawInputStream.GZIP_HEADER;
 
 import java.io.IOException;
 import java.io.InputStream;
+import software.amazon.ion.IntegerSize;
+import software.amazon.ion.IonException;
 import software.amazon.ion.IonReader;
 import software.amazon.ion.IonType;
 import software.amazon.ion.IonWriter;
+import software.amazon.ion.impl.PrivateListReader;
 import software.amazon.ion.impl.PrivateListWriter;
 
 /**
@@ -311,4 +314,133 @@ public class IonStreamUtils
         }
         writer.stepOut();
     }
+
+
+    //=========================================================================
+
+
+    /**
+     * reads the IonList that the reader is positioned on into an
+     * array of int values.  This steps into the list, reads its
+     * values (ignoring any annotations) and steps out, so that
+     * the reader's next value is the one after the list.  For the
+     * text and tree readers this is just a convenience, but the
+     * binary reader decodes the list in a single pass.
+     * @param values the array to populate with the list's values,
+     * which must be long enough to hold all of them
+     * @return the number of values read
+     * @throws IllegalStateException if the reader isn't positioned
+     * on a list
+     * @throws IonException if the list has more than values.length
+     * values, or has a value that isn't a non-null int or that
+     * doesn't fit in an int
+     */
+    public static int readIntList(IonReader reader, int[] values)
+    {
+        if (reader instanceof PrivateListReader) {
+            return ((PrivateListReader)reader).readIntList(values);
+        }
+
+        stepIntoList(reader);
+        int count = 0;
+        while (nextListValue(reader, IonType.INT, count, values.length)) {
+            if (reader.getIntegerSize() != IntegerSize.INT) {
+                throw new IonException("list element is too large to fit in an int");
+            }
+            values[count++] = reader.intValue();
+        }
+        reader.stepOut();
+        return count;
+    }
+
+    /**
+     * reads the IonList that the reader is positioned on into an
+     * array of long values.  This steps into the list, reads its
+     * values (ignoring any annotations) and steps out, so that
+     * the reader's next value is the one after the list.  For the
+     * text and tree readers this is just a convenience, but the
+     * binary reader decodes the list in a single pass.
+     * @param values the array to populate with the list's values,
+     * which must be long enough to hold all of them
+     * @return the number of values read
+     * @throws IllegalStateException if the reader isn't positioned
+     * on a list
+     * @throws IonException if the list has more than values.length
+     * values, or has a value that isn't a non-null int or that
+     * doesn't fit in a long
+     */
+    public static int readLongList(IonReader reader, long[] values)
+    {
+        if (reader instanceof PrivateListReader) {
+            return ((PrivateListReader)reader).readLongList(values);
+        }
+
+        stepIntoList(reader);
+        int count = 0;
+        while (nextListValue(reader, IonType.INT, count, values.length)) {
+            if (reader.getIntegerSize() == IntegerSize.BIG_INTEGER) {
+                throw new IonException("list element is too large to fit in a long");
+            }
+            values[count++] = reader.longValue();
+        }
+        reader.stepOut();
+        return count;
+    }
+
+    /**
+     * reads the IonList that the reader is positioned on into an
+     * array of double values.  This steps into the list, reads its
+     * values (ignoring any annotations) and steps out, so that
+     * the reader's next value is the one after the list.  For the
+     * text and tree readers this is just a convenience, but the
+     * binary reader decodes the list in a single pass.
+     * @param values the array to populate with the list's values,
+     * which must be long enough to hold all of them
+     * @return the number of values read
+     * @throws IllegalStateException if the reader isn't positioned
+     * on a list
+     * @throws IonException if the list has more than values.length
+     * values, or has a value that isn't a non-null float
+     */
+    public static int readDoubleList(IonReader reader, double[] values)
+    {
+        if (reader instanceof PrivateListReader) {
+            return ((PrivateListReader)reader).readDoubleList(values);
+        }
+
+        stepIntoList(reader);
+        int count = 0;
+        while (nextListValue(reader, IonType.FLOAT, count, values.length)) {
+            values[count++] = reader.doubleValue();
+        }
+        reader.stepOut();
+        return count;
+    }
+
+    private static void stepIntoList(IonReader reader)
+    {
+        if (reader.getType() != IonType.LIST) {
+            throw new IllegalStateException("the reader must be positioned on a list");
+        }
+        reader.stepIn();
+    }
+
+    private static boolean nextListValue(IonReader reader, IonType expected,
+                                         int count, int capacity)
+    {
+        IonType type = reader.next();
+        if (type == null) {
+            return false;
+        }
+        if (count == capacity) {
+            throw new IonException("list has more than " + capacity + " elements");
+        }
+        if (reader.isNullValue()) {
+            throw new IonException("list element is null");
+        }
+        if (type != expected) {
+            throw new IonException("list element is not a " + expected + ": " + type);
+        }
+        return true;
+    }
 }
@@ -0,0 +1,268 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion.util;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import software.amazon.ion.IonException;
+import software.amazon.ion.IonReader;
+import software.amazon.ion.IonSystem;
+import software.amazon.ion.IonValue;
+import software.amazon.ion.impl.PrivateIonChunk;
+
+/**
+ * Decodes the top-level values of Ion data on multiple threads.
+ * <p>
+ * Ion binary top-level values are length-prefixed, so the data is first
+ * split into chunks of consecutive values by a single pass that skips over
+ * value bodies, keeping track of the local symbol table in effect at the
+ * start of each chunk.  The chunks are then decoded as independent tasks
+ * of a {@link ForkJoinPool}, each with its own reader, and the results are
+ * returned in the order of the values in the data.
+ * <p>
+ * Ion text can't be split without parsing it, so it's decoded by a single
+ * task.
+ * <p>
+ * Instances of this class are immutable and safe for use by multiple
+ * threads.  The data must not be modified while it's being decoded.
+ */
+public final class ParallelIonDecoder
+{
+    /**
+     * The default target number of bytes handled by a single task.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 1024 * 1024;
+
+
+    /**
+     * Converts a top-level value into an application object.
+     * Implementations are called concurrently from multiple threads.
+     *
+     * @param <T> the type of the decoded values.
+     */
+    public interface ValueDecoder<T>
+    {
+        /**
+         * Decodes the value on which the reader is positioned.
+         * The decoder may step into the value, but must leave the reader
+         * at the same depth.
+         *
+         * @param reader is positioned on a top-level value; not null.
+         */
+        public T decode(IonReader reader);
+    }
+
+
+    private final IonSystem    mySystem;
+    private final ForkJoinPool myPool;
+    private final int          myChunkSize;
+
+    /**
+     * Creates a decoder that uses the {@linkplain ForkJoinPool#commonPool()
+     * common pool} and the {@linkplain #DEFAULT_CHUNK_SIZE default chunk
+     * size}.
+     *
+     * @param system provides the catalog and creates loaded values;
+     *  must not be null.
+     */
+    public ParallelIonDecoder(IonSystem system)
+    {
+        this(system, ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * @param system provides the catalog and creates loaded values;
+     *  must not be null.
+     * @param pool runs the decoding tasks; must not be null.
+     * @param chunkSize the target number of bytes handled by a single task;
+     *  must be positive.
+     */
+    public ParallelIonDecoder(IonSystem system, ForkJoinPool pool, int chunkSize)
+    {
+        system.getClass(); // Force NPE
+        pool.getClass();   // Force NPE
+        if (chunkSize < 1)
+        {
+            throw new IllegalArgumentException("chunkSize must be positive");
+        }
+        mySystem = system;
+        myPool = pool;
+        myChunkSize = chunkSize;
+    }
+
+
+    /**
+     * Loads all top-level values, in order.  Local symbol tables are
+     * processed but not returned.
+     *
+     * @throws IonException if there's a syntax error in the data.
+     */
+    public List<IonValue> load(byte[] data)
+    {
+        return decode(data, new Loader(mySystem));
+    }
+
+    /**
+     * Loads all top-level values from the remaining content of a buffer,
+     * in order.  The buffer's position and limit aren't changed.
+     * This is suitable for memory-mapped files.
+     *
+     * @throws IonException if there's a syntax error in the data.
+     */
+    public List<IonValue> load(ByteBuffer data)
+    {
+        return decode(data, new Loader(mySystem));
+    }
+
+    /**
+     * Decodes all top-level values, in order.
+     *
+     * @throws IonException if there's a syntax error in the data.
+     */
+    public <T> List<T> decode(byte[] data, ValueDecoder<T> decoder)
+    {
+        List<PrivateIonChunk> chunks =
+            PrivateIonChunk.split(mySystem.getCatalog(), data, 0, data.length,
+                                  myChunkSize);
+        return decode(chunks, decoder);
+    }
+
+    /**
+     * Decodes all top-level values from the remaining content of a buffer,
+     * in order.  The buffer's position and limit aren't changed.
+     *
+     * @throws IonException if there's a syntax error in the data.
+     */
+    public <T> List<T> decode(ByteBuffer data, ValueDecoder<T> decoder)
+    {
+        List<PrivateIonChunk> chunks =
+            PrivateIonChunk.split(mySystem.getCatalog(), data, myChunkSize);
+        return decode(chunks, decoder);
+    }
+
+
+    private <T> List<T> decode(List<PrivateIonChunk> chunks,
+                               ValueDecoder<T> decoder)
+    {
+        if (chunks.size() == 1)
+        {
+            // Don't bother handing off to the pool.
+            return new ChunkTask<T>(chunks.get(0), decoder).compute();
+        }
+        return myPool.invoke(new AllChunksTask<T>(chunks, decoder));
+    }
+
+
+    private final class AllChunksTask<T>
+        extends RecursiveTask<List<T>>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final List<PrivateIonChunk> myChunks;
+        private final ValueDecoder<T>       myDecoder;
+
+        AllChunksTask(List<PrivateIonChunk> chunks, ValueDecoder<T> decoder)
+        {
+            myChunks = chunks;
+            myDecoder = decoder;
+        }
+
+        @Override
+        protected List<T> compute()
+        {
+            List<ChunkTask<T>> tasks = new ArrayList<ChunkTask<T>>(myChunks.size());
+            for (PrivateIonChunk chunk : myChunks)
+            {
+                tasks.add(new ChunkTask<T>(chunk, myDecoder));
+            }
+            invokeAll(tasks);
+
+            int count = 0;
+            for (ChunkTask<T> task : tasks)
+            {
+                count += task.join().size();
+            }
+            List<T> results = new ArrayList<T>(count);
+            for (ChunkTask<T> task : tasks)
+            {
+                results.addAll(task.join());
+            }
+            return results;
+        }
+    }
+
+
+    private final class ChunkTask<T>
+        extends RecursiveTask<List<T>>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final PrivateIonChunk myChunk;
+        private final ValueDecoder<T> myDecoder;
+
+        ChunkTask(PrivateIonChunk chunk, ValueDecoder<T> decoder)
+        {
+            myChunk = chunk;
+            myDecoder = decoder;
+        }
+
+        @Override
+        protected List<T> compute()
+        {
+            List<T> results = new ArrayList<T>();
+            IonReader reader = myChunk.newReader(mySystem.getCatalog());
+            try
+            {
+                while (reader.next() != null)
+                {
+                    results.add(myDecoder.decode(reader));
+                }
+            }
+            finally
+            {
+                try
+                {
+                    reader.close();
+                }
+                catch (IOException e)
+                {
+                    throw new IonException(e);
+                }
+            }
+            return results;
+        }
+    }
+
+
+    private static final class Loader
+        implements ValueDecoder<IonValue>
+    {
+        private final IonSystem mySystem;
+
+        Loader(IonSystem system)
+        {
+            mySystem = system;
+        }
+
+        public IonValue decode(IonReader reader)
+        {
+            return mySystem.newValue(reader);
+        }
+    }
+}
@@ -29,6 +29,7 @@ import software.amazon.ion.IonDatagram;
 import software.amazon.ion.IonReader;
 import software.amazon.ion.IonSystem;
 import software.amazon.ion.impl.PrivateUtils;
+import software.amazon.ion.system.IonReaderBuilder;
 
 /**
  * Abstracts the various ways that {@link IonReader}s can be created, so test
@@ -167,6 +168,29 @@ public enum ReaderMaker
     },
 
 
+    /**
+     * Feeds Ion binary to {@link IonReaderBuilder#buildIncremental()} in
+     * small chunks.
+     */
+    FROM_INCREMENTAL_BINARY(Feature.BINARY)
+    {
+        @Override
+        public IonReader newReader(IonSystem system, byte[] ionData)
+        {
+            ionData = ensureBinary(system, ionData);
+            IonIncrementalReader reader = IonReaderBuilder.standard()
+                .withCatalog(system.getCatalog())
+                .buildIncremental();
+            for (int i = 0; i < ionData.length; i += 7)
+            {
+                reader.feed(ionData, i, Math.min(7, ionData.length - i));
+            }
+            reader.endOfInput();
+            return reader;
+        }
+    },
+
+
     /**
      * Invokes {@link IonSystem#newReader(Reader)}.
      */
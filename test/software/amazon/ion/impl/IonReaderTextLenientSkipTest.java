@@ -0,0 +1,167 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion.impl;
+
+import static software.amazon.ion.util.Spans.currentSpan;
+
+import java.io.StringReader;
+import org.junit.Test;
+import software.amazon.ion.IonException;
+import software.amazon.ion.IonReader;
+import software.amazon.ion.IonTestCase;
+import software.amazon.ion.IonType;
+import software.amazon.ion.TextSpan;
+import software.amazon.ion.system.IonReaderBuilder;
+
+public class IonReaderTextLenientSkipTest
+    extends IonTestCase
+{
+    private static final String TRICKY =
+        "{a:\"}]) \\\" {\", 'b]':[1, '\\'[', (+ - '''''' ''' ) \\\n ''')],\r\n"
+        + "  c: {{ aGVs//bG8= }}, d: {{ \"a \\\"b\" }}, e: {{\r\n'''x''' }},\n"
+        + "  // a comment with ] and }\n"
+        + "  f: /* a block ) comment\r over lines\n */ [ {}, [], () ],\n"
+        + "  g: (a/b c//d\n), 'h':{i:{j:[\"\u00e9\u4e2d\", \"\\\r\n\"]}}}\n"
+        + "[x, [y, [z]]] (1 2 (3)) {} 'sym' 123";
+
+    private static final IonReaderBuilder LENIENT =
+        IonReaderBuilder.standard().withLenientSkipEnabled(true).immutable();
+
+    private static final IonReaderBuilder STRICT =
+        IonReaderBuilder.standard().immutable();
+
+    /**
+     * Reads values to the given depth, skipping over deeper containers,
+     * and records where each value was found.
+     */
+    private String walk(IonReader reader, int depth)
+    {
+        StringBuilder out = new StringBuilder();
+        walk(reader, depth, out);
+        return out.toString();
+    }
+
+    private void walk(IonReader reader, int depth, StringBuilder out)
+    {
+        IonType type;
+        while ((type = reader.next()) != null)
+        {
+            TextSpan span = currentSpan(TextSpan.class, reader);
+            out.append(reader.getFieldName()).append(' ')
+               .append(type).append('@')
+               .append(span.getStartLine()).append(':')
+               .append(span.getStartColumn()).append(' ');
+            if (IonType.isContainer(type))
+            {
+                if (depth > 0)
+                {
+                    reader.stepIn();
+                    walk(reader, depth - 1, out);
+                    reader.stepOut();
+                }
+            }
+            else if (type == IonType.STRING || type == IonType.SYMBOL)
+            {
+                out.append(reader.stringValue());
+            }
+            out.append('\n');
+        }
+    }
+
+    private void checkWalks(String text)
+    {
+        for (int depth = 0; depth < 6; depth++)
+        {
+            // columns of byte data count bytes, not characters
+            byte[] utf8 = PrivateUtils.utf8(text);
+            assertEquals(walk(STRICT.build(utf8), depth),
+                         walk(LENIENT.build(utf8), depth));
+            assertEquals(walk(STRICT.build(text), depth),
+                         walk(LENIENT.build(text), depth));
+            assertEquals(walk(STRICT.build(new StringReader(text)), depth),
+                         walk(LENIENT.build(new StringReader(text)), depth));
+        }
+    }
+
+    @Test
+    public void testSkippingMatchesScanning()
+    {
+        checkWalks(TRICKY);
+    }
+
+    @Test
+    public void testSkippingFromEveryOffset()
+    {
+        // splits the data so that the eight-byte scans straddle the delimiters
+        for (int padding = 0; padding < 9; padding++)
+        {
+            StringBuilder text = new StringBuilder();
+            for (int i = 0; i < padding; i++)
+            {
+                text.append(' ');
+            }
+            text.append(TRICKY);
+            checkWalks(text.toString());
+        }
+    }
+
+    @Test
+    public void testDeepNesting()
+    {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 1000; i++)
+        {
+            text.append(i % 2 == 0 ? "[" : "{f:");
+        }
+        for (int i = 999; i >= 0; i--)
+        {
+            text.append(i % 2 == 0 ? "]" : "}");
+        }
+        text.append(" done");
+        checkWalks(text.toString());
+    }
+
+    @Test
+    public void testSkippedValuesArentValidated()
+    {
+        IonReader reader = LENIENT.build("[1, 2.3.4, {a b c}, \"\\x0\", (]] 5");
+        assertEquals(IonType.LIST, reader.next());
+        assertEquals(IonType.INT, reader.next());
+        assertEquals(5, reader.intValue());
+    }
+
+    private void checkUnterminated(String text)
+    {
+        IonReader reader = LENIENT.build(text);
+        try
+        {
+            walk(reader, 0);
+            fail("expected an exception reading " + text);
+        }
+        catch (IonException e) { }
+    }
+
+    @Test
+    public void testUnterminatedDataFails()
+    {
+        checkUnterminated("[1, {a:2]");
+        checkUnterminated("[1, \"abc]");
+        checkUnterminated("[1, 'abc]");
+        checkUnterminated("[1, '''abc]");
+        checkUnterminated("[1, /* abc]");
+        checkUnterminated("[1, {{ abc ]");
+        checkUnterminated("[[1] 2");
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+public class PrivateTextSymbolCacheTest
+{
+    private static String repeat(char c, int count)
+    {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < count; i++)
+        {
+            sb.append(c);
+        }
+        return sb.toString();
+    }
+
+    @Test
+    public void testInternReturnsSameInstance()
+    {
+        PrivateTextSymbolCache cache = new PrivateTextSymbolCache(16);
+        String name = cache.intern(new StringBuilder("name"));
+        assertEquals("name", name);
+        assertSame(name, cache.intern(new StringBuilder("name")));
+        assertSame(name, cache.intern("name"));
+        assertEquals("nam", cache.intern(new StringBuilder("nam")));
+        assertSame(cache.intern(""), cache.intern(new StringBuilder()));
+    }
+
+    @Test
+    public void testLongTextIsNotCached()
+    {
+        PrivateTextSymbolCache cache = new PrivateTextSymbolCache(16);
+        String longest = repeat('a', PrivateTextSymbolCache.MAX_LENGTH);
+        assertSame(cache.intern(longest), cache.intern(new StringBuilder(longest)));
+
+        String tooLong = longest + 'a';
+        String first = cache.intern(tooLong);
+        assertEquals(tooLong, first);
+        assertNotSame(first, cache.intern(new StringBuilder(tooLong)));
+    }
+
+    @Test
+    public void testCollisionsReplaceEntries()
+    {
+        // with one slot, every name collides
+        PrivateTextSymbolCache cache = new PrivateTextSymbolCache(1);
+        String a = cache.intern(new StringBuilder("a"));
+        String b = cache.intern(new StringBuilder("b"));
+        assertSame(b, cache.intern(new StringBuilder("b")));
+        String a2 = cache.intern(new StringBuilder("a"));
+        assertEquals(a, a2);
+        assertNotSame(a, a2);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidCapacity()
+    {
+        new PrivateTextSymbolCache(0);
+    }
+}
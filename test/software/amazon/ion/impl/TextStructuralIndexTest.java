@@ -0,0 +1,209 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion.impl;
+
+import static software.amazon.ion.util.Spans.currentSpan;
+
+import org.junit.Test;
+import software.amazon.ion.IonException;
+import software.amazon.ion.IonReader;
+import software.amazon.ion.IonTestCase;
+import software.amazon.ion.IonType;
+import software.amazon.ion.TextSpan;
+import software.amazon.ion.system.IonReaderBuilder;
+
+public class TextStructuralIndexTest
+    extends IonTestCase
+{
+    private static final String TRICKY =
+        "{a:\"}]) \\\" {\", 'b]':[1, '\\'[', (+ - '''''' ''' ) \\\n ''')],\r\n"
+        + "  c: {{ aGVs/+bG8= }}, d: {{ \"a \\\"b\" }}, e: {{\r\n'''x''' }},\n"
+        + "  // a comment with ] and }\n"
+        + "  f: /* a block ) comment\r over lines\n */ [ {}, [], () ],\n"
+        + "  g: (a/b c//d\n), 'h':{i:{j:[\"\u00e9\u4e2d\"]}}}\n"
+        + "[x, [y, [z]]] (1 2 (3)) {} 'sym' 123";
+
+    private IonReader indexed(String text)
+    {
+        return IonReaderBuilder.standard()
+                               .withStructuralIndexEnabled(true)
+                               .build(PrivateUtils.utf8(text));
+    }
+
+    private IonReader plain(String text)
+    {
+        return IonReaderBuilder.standard().build(PrivateUtils.utf8(text));
+    }
+
+    /**
+     * Reads values to the given depth, skipping over deeper containers,
+     * and records where each value was found.
+     */
+    private String walk(IonReader reader, int depth)
+    {
+        StringBuilder out = new StringBuilder();
+        walk(reader, depth, out);
+        return out.toString();
+    }
+
+    private void walk(IonReader reader, int depth, StringBuilder out)
+    {
+        IonType type;
+        while ((type = reader.next()) != null)
+        {
+            TextSpan span = currentSpan(TextSpan.class, reader);
+            out.append(reader.getFieldName()).append(' ')
+               .append(type).append('@')
+               .append(span.getStartLine()).append(':')
+               .append(span.getStartColumn()).append(' ');
+            if (IonType.isContainer(type))
+            {
+                if (depth > 0)
+                {
+                    reader.stepIn();
+                    walk(reader, depth - 1, out);
+                    reader.stepOut();
+                }
+            }
+            else if (type == IonType.STRING || type == IonType.SYMBOL)
+            {
+                out.append(reader.stringValue());
+            }
+            out.append('\n');
+        }
+    }
+
+    private void checkWalks(String text)
+    {
+        for (int depth = 0; depth < 6; depth++)
+        {
+            assertEquals(walk(plain(text), depth), walk(indexed(text), depth));
+        }
+    }
+
+    /** @return the UTF-8 offset of the string within the text. */
+    private static int indexOf(String text, String s)
+    {
+        return PrivateUtils.utf8(text.substring(0, text.indexOf(s))).length;
+    }
+
+    @Test
+    public void testIndexMatchesDelimiters()
+    {
+        byte[] bytes = PrivateUtils.utf8(TRICKY);
+        TextStructuralIndex index = TextStructuralIndex.build(bytes, 0, bytes.length);
+
+        int struct = index.enclosing(1);
+        assertEquals(indexOf(TRICKY, "\n[x"), index.closeEnd(struct));
+        assertEquals(9, index.linesBefore(struct));
+        assertEquals(struct, index.enclosing(indexOf(TRICKY, "}\n[x")));
+        assertEquals(struct, index.enclosing(indexOf(TRICKY, ", 'h'")));
+
+        int list = index.enclosing(indexOf(TRICKY, "x, ["));
+        assertEquals(indexOf(TRICKY, " (1 2"), index.closeEnd(list));
+        assertEquals(10, index.linesBefore(list));
+
+        int sexp = index.enclosing(indexOf(TRICKY, "3)"));
+        assertEquals(indexOf(TRICKY, ") {}"), index.closeEnd(sexp));
+
+        int inner = index.enclosing(indexOf(TRICKY, "\"\u00e9"));
+        assertEquals(indexOf(TRICKY, "}}}\n"), index.closeEnd(inner));
+
+        assertEquals(-1, index.enclosing(0));
+        assertEquals(-1, index.enclosing(indexOf(TRICKY, " 'sym'")));
+    }
+
+    @Test
+    public void testSkippingMatchesScanning()
+    {
+        checkWalks(TRICKY);
+    }
+
+    @Test
+    public void testSteppingOutEarly()
+    {
+        for (IonReader reader : new IonReader[] { indexed(TRICKY), plain(TRICKY) })
+        {
+            assertEquals(IonType.STRUCT, reader.next());
+            reader.stepIn();
+            reader.stepOut();
+            assertEquals(IonType.LIST, reader.next());
+            assertEquals(11, currentSpan(TextSpan.class, reader).getStartLine());
+            reader.stepIn();
+            assertEquals(IonType.SYMBOL, reader.next());
+            assertEquals(IonType.LIST, reader.next());
+            reader.stepOut();
+            assertEquals(IonType.SEXP, reader.next());
+            assertEquals(11, currentSpan(TextSpan.class, reader).getStartLine());
+        }
+    }
+
+    @Test
+    public void testSkippingFromEveryOffset()
+    {
+        // splits the data so that the eight-byte scans straddle the delimiters
+        for (int padding = 0; padding < 9; padding++)
+        {
+            StringBuilder text = new StringBuilder();
+            for (int i = 0; i < padding; i++)
+            {
+                text.append(' ');
+            }
+            text.append(TRICKY);
+            checkWalks(text.toString());
+        }
+    }
+
+    @Test
+    public void testDeepNesting()
+    {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 1000; i++)
+        {
+            text.append(i % 2 == 0 ? "[" : "{f:");
+        }
+        for (int i = 999; i >= 0; i--)
+        {
+            text.append(i % 2 == 0 ? "]" : "}");
+        }
+        text.append(" done");
+        checkWalks(text.toString());
+    }
+
+    private void checkUnbalanced(String text)
+    {
+        for (IonReader reader : new IonReader[] { indexed(text), plain(text) })
+        {
+            try
+            {
+                walk(reader, 0);
+                fail("expected an exception reading " + text);
+            }
+            catch (IonException e) { }
+        }
+    }
+
+    @Test
+    public void testUnbalancedDataIsScanned()
+    {
+        checkUnbalanced("[1, {a:2]");
+        checkUnbalanced("[1, (2 3]");
+        checkUnbalanced("[1, \"abc]");
+        checkUnbalanced("[1, '''abc]");
+        checkUnbalanced("[1, /* abc]");
+        checkUnbalanced("[1, {{ abc ]");
+        checkUnbalanced("[[1] 2");
+    }
+}
@@ -7,9 +7,16 @@ package software.amazon.ion.impl;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
+import software.amazon.ion.IonReader;
+import software.amazon.ion.IonType;
+import software.amazon.ion.IonWriter;
+import software.amazon.ion.system.IonBinaryWriterBuilder;
+import software.amazon.ion.system.SimpleCatalog;
 
 public class UnifiedInputStreamXTest extends Assert {
     @Test
@@ -50,4 +57,74 @@ public class UnifiedInputStreamXTest extends Assert {
 
         assertArrayEquals(expected, actual);
     }
+
+    private static ByteBuffer[] chunk(byte[] data, int chunkSize) {
+        int count = (data.length + chunkSize - 1) / chunkSize;
+        ByteBuffer[] buffers = new ByteBuffer[count];
+        for (int i = 0; i < count; i++) {
+            int offset = i * chunkSize;
+            int len = Math.min(chunkSize, data.length - offset);
+            ByteBuffer buffer = ByteBuffer.allocateDirect(len);
+            buffer.put(data, offset, len);
+            buffer.flip();
+            buffers[i] = buffer;
+        }
+        return buffers;
+    }
+
+    @Test
+    public void testReadAcrossByteBuffers() throws Exception {
+        byte[] data = new byte[3 * UnifiedInputStreamX.DEFAULT_PAGE_SIZE + 17];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) i;
+        }
+        ByteBuffer[] buffers = chunk(data, 1000);
+        UnifiedInputStreamX uix = UnifiedInputStreamX.makeStream(buffers);
+
+        for (int i = 0; i < data.length; i++) {
+            assertEquals(data[i] & 0xFF, uix.read());
+            assertEquals(i + 1, uix.getPosition());
+        }
+        assertEquals(UnifiedInputStreamX.EOF, uix.read());
+
+        // The caller's buffers are left untouched.
+        assertEquals(0, buffers[0].position());
+    }
+
+    @Test
+    public void testEmptyByteBuffers() throws Exception {
+        UnifiedInputStreamX uix = UnifiedInputStreamX.makeStream(new ByteBuffer[0]);
+        assertEquals(UnifiedInputStreamX.EOF, uix.read());
+    }
+
+    @Test
+    public void testBinaryReaderAcrossByteBuffers() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        IonWriter writer = IonBinaryWriterBuilder.standard().build(out);
+        for (int i = 0; i < 1000; i++) {
+            writer.stepIn(IonType.STRUCT);
+            writer.setFieldName("id");
+            writer.writeInt(i);
+            writer.setFieldName("name");
+            writer.addTypeAnnotation("label");
+            writer.writeString("value " + i);
+            writer.stepOut();
+        }
+        writer.close();
+
+        // Small odd-sized chunks put value boundaries everywhere.
+        UnifiedInputStreamX uix = UnifiedInputStreamX.makeStream(chunk(out.toByteArray(), 7));
+        IonReader reader = new IonReaderBinaryUserX(new SimpleCatalog(), LocalSymbolTable.DEFAULT_LST_FACTORY, uix, 0);
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(IonType.STRUCT, reader.next());
+            reader.stepIn();
+            assertEquals(IonType.INT, reader.next());
+            assertEquals(i, reader.intValue());
+            assertEquals(IonType.STRING, reader.next());
+            assertEquals("label", reader.getTypeAnnotations()[0]);
+            assertEquals("value " + i, reader.stringValue());
+            reader.stepOut();
+        }
+        assertNull(reader.next());
+    }
 }
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion.impl.bin;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class DirectBlockAllocatorProviderTest
+{
+    private DirectBlockAllocatorProvider provider;
+
+    @Before
+    public void setup()
+    {
+        provider = new DirectBlockAllocatorProvider();
+    }
+
+    @After
+    public void teardown()
+    {
+        // make sure the provider is not retained
+        provider = null;
+    }
+
+    @Test
+    public void testBlocksAreOffHeap()
+    {
+        final BlockAllocator allocator = provider.vendAllocator(8);
+        final Block block = allocator.allocateBlock();
+        assertTrue(block.storage.isDirect());
+        assertNull(block.data);
+        assertEquals(8, block.capacity());
+        block.close();
+    }
+
+    @Test
+    public void testActivateStagesContent()
+    {
+        final BlockAllocator allocator = provider.vendAllocator(8);
+        final Block block = allocator.allocateBlock();
+        block.activate();
+        block.data[0] = 1;
+        block.data[1] = 2;
+        block.limit = 2;
+        final byte[] staging = block.data;
+        block.deactivate();
+        assertNull(block.data);
+        assertEquals(2, block.getUInt8(1));
+
+        // the staging array is recycled by the allocator
+        final Block other = allocator.allocateBlock();
+        other.activate();
+        assertSame(staging, other.data);
+        other.close();
+
+        block.activate();
+        assertEquals(1, block.data[0]);
+        assertEquals(2, block.data[1]);
+        block.close();
+    }
+
+    @Test
+    public void testReuseBufferAcrossAllocators()
+    {
+        final BlockAllocator allocator1 = provider.vendAllocator(8);
+        final BlockAllocator allocator2 = provider.vendAllocator(8);
+        assertNotSame(allocator1, allocator2);
+
+        final Block block1 = allocator1.allocateBlock();
+        block1.limit = 4;
+        block1.close();
+        allocator1.close();
+
+        final Block block2 = allocator2.allocateBlock();
+        assertSame(block1.storage, block2.storage);
+        assertEquals(0, block2.limit);
+        block2.close();
+    }
+}
@@ -19,15 +19,19 @@ import static java.util.Collections.unmodifiableList;
 import static java.util.Collections.unmodifiableMap;
 
 import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import org.junit.Test;
 import software.amazon.ion.IonContainer;
+import software.amazon.ion.IonList;
 import software.amazon.ion.IonMutableCatalog;
+import software.amazon.ion.IonStruct;
 import software.amazon.ion.IonSymbol;
 import software.amazon.ion.IonType;
 import software.amazon.ion.IonValue;
@@ -135,7 +139,7 @@ public class IonManagedBinaryWriterTest extends IonRawBinaryWriterTest
         }
 
         final IonWriter writer = PrivateIonManagedBinaryWriterBuilder
-            .create(AllocatorMode.POOLED)
+            .create(allocatorMode)
             .withImports(importedSymbolResolverMode, symbolTables)
             .withPreallocationMode(preallocationMode)
             .withFloatBinary32Enabled()
@@ -202,6 +206,144 @@ public class IonManagedBinaryWriterTest extends IonRawBinaryWriterTest
         assertValue("{a:1, b:2, c:3, d:4, e:5}");
     }
 
+    @Test
+    public void testSpillLargeTopLevelList() throws Exception
+    {
+        final File directory = Files.createTempDirectory("spill").toFile();
+        try
+        {
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            final IonWriter spillWriter = PrivateIonManagedBinaryWriterBuilder
+                .create(allocatorMode)
+                .withPreallocationMode(preallocationMode)
+                .withUserBlockSize(64)
+                .withSpillThreshold(256)
+                .withSpillDirectory(directory)
+                .newWriter(out);
+
+            final IonList expected = system().newEmptyList();
+            spillWriter.stepIn(IonType.LIST);
+            for (int i = 0; i < 1000; i++)
+            {
+                spillWriter.stepIn(IonType.STRUCT);
+                spillWriter.setFieldName("id");
+                spillWriter.writeInt(i);
+                spillWriter.setFieldName("name");
+                spillWriter.writeString("value" + i);
+                spillWriter.stepOut();
+
+                final IonStruct struct = expected.add().newEmptyStruct();
+                struct.add("id").newInt(i);
+                struct.add("name").newString("value" + i);
+            }
+            assertEquals(1, directory.list().length);
+            spillWriter.stepOut();
+            spillWriter.close();
+
+            assertEquals(expected, system().singleValue(out.toByteArray()));
+            assertEquals(0, directory.list().length);
+        }
+        finally
+        {
+            directory.delete();
+        }
+    }
+
+    @Test
+    public void testRebind() throws Exception
+    {
+        writer.stepIn(IonType.STRUCT);
+        writer.setFieldName("a");
+        writer.writeSymbol("hello");
+        writer.stepOut();
+        writer.finish();
+        final byte[] first = buffer.toByteArray();
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        PrivateIonManagedBinaryWriterBuilder.rebind(writer, out);
+        writer.stepIn(IonType.STRUCT);
+        writer.setFieldName("d");
+        writer.writeSymbol("world");
+        writer.stepOut();
+        writer.finish();
+
+        assertArrayEquals(first, buffer.toByteArray());
+        assertEquals(system().singleValue("{a:hello}"), system().singleValue(first));
+        final IonValue second = system().singleValue(out.toByteArray());
+        assertEquals(system().singleValue("{d:world}"), second);
+        additionalValueAssertions(second);
+
+        // the output is the same as that of a new writer
+        final ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        final IonWriter fresh = createWriter(expected);
+        fresh.stepIn(IonType.STRUCT);
+        fresh.setFieldName("d");
+        fresh.writeSymbol("world");
+        fresh.stepOut();
+        fresh.close();
+        assertArrayEquals(expected.toByteArray(), out.toByteArray());
+    }
+
+    @Test
+    public void testRebindWithInitialSymbolTable() throws Exception
+    {
+        final SymbolTable lst = system().newLocalSymbolTable(system().getSystemSymbolTable());
+        lst.intern("x");
+        lst.intern("y");
+        final PrivateIonManagedBinaryWriterBuilder builder = PrivateIonManagedBinaryWriterBuilder
+            .create(allocatorMode)
+            .withPreallocationMode(preallocationMode)
+            .withInitialSymbolTable(lst);
+
+        final ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        final IonWriter fresh = builder.newWriter(expected);
+        fresh.writeSymbol("y");
+        fresh.close();
+
+        final IonWriter reused = builder.newWriter(new ByteArrayOutputStream());
+        reused.writeSymbol("z");
+        reused.finish();
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        PrivateIonManagedBinaryWriterBuilder.rebind(reused, out);
+        reused.writeSymbol("y");
+        reused.close();
+
+        assertArrayEquals(expected.toByteArray(), out.toByteArray());
+    }
+
+    @Test
+    public void testRebindRequiresFinishedWriter() throws Exception
+    {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writer.writeInt(1);
+        try
+        {
+            PrivateIonManagedBinaryWriterBuilder.rebind(writer, out);
+            fail("Expected IllegalStateException");
+        }
+        catch (final IllegalStateException e) {}
+        writer.finish();
+
+        writer.stepIn(IonType.LIST);
+        try
+        {
+            PrivateIonManagedBinaryWriterBuilder.rebind(writer, out);
+            fail("Expected IllegalStateException");
+        }
+        catch (final IllegalStateException e) {}
+        writer.stepOut();
+        writer.finish();
+
+        writer.close();
+        try
+        {
+            PrivateIonManagedBinaryWriterBuilder.rebind(writer, out);
+            fail("Expected IllegalStateException");
+        }
+        catch (final IllegalStateException e) {}
+        assertEquals(0, out.size());
+    }
+
     @Test
     public void testSymbolTableExport() throws Exception {
         writer.stepIn(IonType.STRUCT);
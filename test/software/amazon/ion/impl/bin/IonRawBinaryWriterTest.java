@@ -50,16 +50,18 @@ import software.amazon.ion.IonValue;
 import software.amazon.ion.IonWriter;
 import software.amazon.ion.TestUtils;
 import software.amazon.ion.Timestamp;
-import software.amazon.ion.impl.bin.BlockAllocatorProviders;
+import software.amazon.ion.impl.PrivateListWriter;
 import software.amazon.ion.impl.bin.IonRawBinaryWriter;
 import software.amazon.ion.impl.bin.AbstractIonWriter.WriteValueOptimization;
 import software.amazon.ion.impl.bin.IonRawBinaryWriter.PreallocationMode;
 import software.amazon.ion.impl.bin.IonRawBinaryWriter.StreamCloseMode;
 import software.amazon.ion.impl.bin.IonRawBinaryWriter.StreamFlushMode;
+import software.amazon.ion.impl.bin.PrivateIonManagedBinaryWriterBuilder.AllocatorMode;
 import software.amazon.ion.junit.Injected;
 import software.amazon.ion.junit.IonAssert;
 import software.amazon.ion.junit.Injected.Inject;
 import software.amazon.ion.system.IonSystemBuilder;
+import software.amazon.ion.util.IonStreamUtils;
 
 // TODO incorporate this into the main reader/writer tests
 
@@ -81,15 +83,24 @@ public class IonRawBinaryWriterTest extends Assert
     @Inject("preallocationMode")
     public static final PreallocationMode[] PREALLOCATION_DIMENSION = PreallocationMode.values();
 
+    @Inject("allocatorMode")
+    public static final AllocatorMode[] ALLOCATOR_DIMENSION = AllocatorMode.values();
+
     protected ByteArrayOutputStream     buffer;
     protected IonWriter                 writer;
     protected PreallocationMode         preallocationMode;
+    protected AllocatorMode             allocatorMode;
 
     public void setPreallocationMode(final PreallocationMode preallocationMode)
     {
         this.preallocationMode = preallocationMode;
     }
 
+    public void setAllocatorMode(final AllocatorMode allocatorMode)
+    {
+        this.allocatorMode = allocatorMode;
+    }
+
     @Before
     public final void setup() throws Exception
     {
@@ -109,7 +120,7 @@ public class IonRawBinaryWriterTest extends Assert
     protected IonWriter createWriter(final OutputStream out) throws IOException
     {
         return new IonRawBinaryWriter(
-            BlockAllocatorProviders.basicProvider(),
+            allocatorMode.createAllocatorProvider(),
             11,
             out,
             WriteValueOptimization.NONE,
@@ -469,5 +480,197 @@ public class IonRawBinaryWriterTest extends Assert
         assertValue("{name:\"kumo\", version:1, imports:[0, 1, 2]}");
     }
 
-    // TODO test large stuff...
+    @Test
+    public void testNestedSidePatches() throws Exception
+    {
+        // lengths that need 1, 2, and 3 byte VarUInts, nested in every order
+        final StringBuilder expected = new StringBuilder();
+        writer.setTypeAnnotationSymbols(systemSymbol(NAME_SID));
+        writer.stepIn(IonType.LIST);
+        expected.append("name::[");
+        for (final int size : new int[] {10, 200, 20000, 5})
+        {
+            final StringBuilder buf = new StringBuilder();
+            for (int i = 0; i < size; i++)
+            {
+                buf.append('Z');
+            }
+            final String str = buf.toString();
+
+            writer.stepIn(IonType.SEXP);
+            writer.setTypeAnnotationSymbols(systemSymbol(VERSION_SID));
+            writer.writeString(str);
+            writer.writeDecimal(new BigDecimal("1234567890123456789012345678901234567890"));
+            writer.stepIn(IonType.STRUCT);
+            writer.setFieldNameSymbol(systemSymbol(IMPORTS_SID));
+            writer.writeString(str);
+            writer.stepOut();
+            writer.stepOut();
+            expected.append("(version::\"").append(str).append("\" ")
+                    .append("1234567890123456789012345678901234567890d0 ")
+                    .append("{imports:\"").append(str).append("\"}), ");
+        }
+        writer.stepOut();
+        expected.append("]");
+        assertValue(expected.toString());
+    }
+
+    private static final long[] LONGS = {
+        0, 1, -1, 0xFF, -0x100, 0xFFFF, 0x10000, -0xFFFFFF, 0x1000000L, 0xFFFFFFFFL,
+        -0x100000000L, 0xFFFFFFFFFFL, 0xFFFFFFFFFFFFL, -0xFFFFFFFFFFFFFFL, 0x100000000000000L,
+        Long.MAX_VALUE, Long.MIN_VALUE, Integer.MAX_VALUE, Integer.MIN_VALUE
+    };
+
+    private static final double[] DOUBLES = {
+        0, -0.0, 1.5, 0.1, Math.PI, Double.NaN, Double.NEGATIVE_INFINITY, Float.MAX_VALUE, Double.MAX_VALUE
+    };
+
+    @SuppressWarnings("deprecation")
+    private static void writeLists(final IonWriter writer, final int size) throws IOException
+    {
+        final boolean[] bools = new boolean[size];
+        final byte[] bytes = new byte[size];
+        final short[] shorts = new short[size];
+        final int[] ints = new int[size];
+        final long[] longs = new long[size];
+        final float[] floats = new float[size];
+        final double[] doubles = new double[size];
+        for (int i = 0; i < size; i++)
+        {
+            bools[i] = (i % 3) == 0;
+            bytes[i] = (byte) LONGS[i % LONGS.length];
+            shorts[i] = (short) LONGS[i % LONGS.length];
+            ints[i] = (int) LONGS[i % LONGS.length];
+            longs[i] = LONGS[i % LONGS.length];
+            floats[i] = (float) DOUBLES[i % DOUBLES.length];
+            doubles[i] = DOUBLES[i % DOUBLES.length];
+        }
+
+        if (writer instanceof IonRawBinaryWriter)
+        {
+            final IonRawBinaryWriter raw = (IonRawBinaryWriter) writer;
+            raw.writeBoolList(bools);
+            raw.writeIntList(bytes);
+            raw.writeIntList(shorts);
+            raw.writeIntList(ints);
+            raw.writeIntList(longs);
+            raw.writeFloatList(floats);
+            raw.writeFloatList(doubles);
+        }
+        else
+        {
+            assertTrue(writer instanceof PrivateListWriter);
+            IonStreamUtils.writeBoolList(writer, bools);
+            IonStreamUtils.writeIntList(writer, bytes);
+            IonStreamUtils.writeIntList(writer, shorts);
+            IonStreamUtils.writeIntList(writer, ints);
+            IonStreamUtils.writeIntList(writer, longs);
+            IonStreamUtils.writeFloatList(writer, floats);
+            IonStreamUtils.writeFloatList(writer, doubles);
+        }
+    }
+
+    private static void writeListsByValue(final IonWriter writer, final int size) throws IOException
+    {
+        writer.stepIn(IonType.LIST);
+        for (int i = 0; i < size; i++)
+        {
+            writer.writeBool((i % 3) == 0);
+        }
+        writer.stepOut();
+        writer.stepIn(IonType.LIST);
+        for (int i = 0; i < size; i++)
+        {
+            writer.writeInt((byte) LONGS[i % LONGS.length]);
+        }
+        writer.stepOut();
+        writer.stepIn(IonType.LIST);
+        for (int i = 0; i < size; i++)
+        {
+            writer.writeInt((short) LONGS[i % LONGS.length]);
+        }
+        writer.stepOut();
+        writer.stepIn(IonType.LIST);
+        for (int i = 0; i < size; i++)
+        {
+            writer.writeInt((int) LONGS[i % LONGS.length]);
+        }
+        writer.stepOut();
+        writer.stepIn(IonType.LIST);
+        for (int i = 0; i < size; i++)
+        {
+            writer.writeInt(LONGS[i % LONGS.length]);
+        }
+        writer.stepOut();
+        writer.stepIn(IonType.LIST);
+        for (int i = 0; i < size; i++)
+        {
+            writer.writeFloat((float) DOUBLES[i % DOUBLES.length]);
+        }
+        writer.stepOut();
+        writer.stepIn(IonType.LIST);
+        for (int i = 0; i < size; i++)
+        {
+            writer.writeFloat(DOUBLES[i % DOUBLES.length]);
+        }
+        writer.stepOut();
+    }
+
+    @Test
+    public void testPrimitiveLists() throws Exception
+    {
+        final ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        final IonWriter byValue = createWriter(expected);
+        if (byValue instanceof IonRawBinaryWriter)
+        {
+            ((IonRawBinaryWriter) byValue).writeIonVersionMarker();
+        }
+
+        // lists of every length class, at the top level and nested in an annotated struct
+        for (final int size : new int[] {0, 1, 5, 100, 5000})
+        {
+            for (final IonWriter w : new IonWriter[] {writer, byValue})
+            {
+                if (w == writer)
+                {
+                    writeLists(w, size);
+                }
+                else
+                {
+                    writeListsByValue(w, size);
+                }
+                w.setTypeAnnotationSymbols(systemSymbol(NAME_SID));
+                w.stepIn(IonType.STRUCT);
+                w.setFieldNameSymbol(systemSymbol(VERSION_SID));
+                w.stepIn(IonType.LIST);
+                w.setTypeAnnotationSymbols(systemSymbol(IMPORTS_SID));
+                if (w == writer)
+                {
+                    writeLists(w, size);
+                }
+                else
+                {
+                    writeListsByValue(w, size);
+                }
+                w.stepOut();
+                w.stepOut();
+            }
+        }
+        writer.finish();
+        byValue.close();
+
+        if (preallocationMode == PreallocationMode.PREALLOCATE_0)
+        {
+            // neither writer pads lengths, so the encodings are the same
+            assertArrayEquals(expected.toByteArray(), buffer.toByteArray());
+        }
+        else
+        {
+            // the bulk lists are written with their exact length, the others are padded
+            assertTrue(buffer.size() < expected.size());
+        }
+        final IonValue actual = system().getLoader().load(buffer.toByteArray());
+        IonAssert.assertIonEquals(system().getLoader().load(expected.toByteArray()), actual);
+        additionalValueAssertions(actual);
+    }
 }
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion.impl.bin;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.After;
+import org.junit.Test;
+
+public class SpillBlockAllocatorTest
+{
+    private final SpillBlockAllocator allocator = new SpillBlockAllocator(null, 8, 20);
+
+    @After
+    public void close()
+    {
+        allocator.close();
+    }
+
+    @Test
+    public void testBlocksSpanningRegionsAreIndependent()
+    {
+        // the region holds two whole blocks
+        final List<Block> blocks = new ArrayList<Block>();
+        for (int i = 0; i < 7; i++)
+        {
+            final Block block = allocator.allocateBlock();
+            assertEquals(8, block.capacity());
+            for (int j = 0; j < 8; j++)
+            {
+                block.putUInt8(j, (byte) (i * 8 + j));
+            }
+            block.limit = 8;
+            blocks.add(block);
+        }
+        for (int i = 0; i < blocks.size(); i++)
+        {
+            final Block block = blocks.get(i);
+            for (int j = 0; j < 8; j++)
+            {
+                assertEquals(i * 8 + j, block.getUInt8(j));
+            }
+            assertEquals(i * 8, block.toByteBuffer(0, 8).get() & 0xFF);
+        }
+    }
+
+    @Test
+    public void testReuseBlockAfterClose()
+    {
+        final Block block = allocator.allocateBlock();
+        block.limit = 3;
+        block.close();
+
+        final Block again = allocator.allocateBlock();
+        assertSame(block, again);
+        assertEquals(0, again.limit);
+    }
+}
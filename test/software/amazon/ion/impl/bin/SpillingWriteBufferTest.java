@@ -0,0 +1,41 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion.impl.bin;
+
+import org.junit.After;
+
+/**
+ * Runs the {@link WriteBufferTest} suite with every block but the current one spilled to a temporary file, mapped a
+ * few blocks at a time so that the blocks span many regions.
+ */
+public class SpillingWriteBufferTest extends WriteBufferTest
+{
+    private SpillBlockAllocator spill;
+
+    @Override
+    protected WriteBuffer createBuffer()
+    {
+        final WriteBuffer buffer = super.createBuffer();
+        spill = new SpillBlockAllocator(null, allocator().getBlockSize(), allocator().getBlockSize() * 3);
+        buffer.spillTo(spill, 0);
+        return buffer;
+    }
+
+    @After
+    public void closeSpill()
+    {
+        spill.close();
+    }
+}
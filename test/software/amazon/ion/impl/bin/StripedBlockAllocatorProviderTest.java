@@ -0,0 +1,212 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion.impl.bin;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.Test;
+
+public class StripedBlockAllocatorProviderTest
+{
+    @Test
+    public void testReuseBlockAfterClose()
+    {
+        final StripedBlockAllocatorProvider provider = new StripedBlockAllocatorProvider();
+        final BlockAllocator allocator = provider.vendAllocator(8);
+        assertSame(allocator, provider.vendAllocator(8));
+
+        final Block block1 = allocator.allocateBlock();
+        final Block block2 = allocator.allocateBlock();
+        assertNotSame(block1.data, block2.data);
+        assertEquals(8, block1.data.length);
+        block1.limit = 7;
+        block1.close();
+        assertEquals(8, provider.retainedBytes());
+
+        final Block block1Again = allocator.allocateBlock();
+        assertSame(block1, block1Again);
+        assertEquals(0, block1Again.limit);
+        assertEquals(0, provider.retainedBytes());
+    }
+
+    @Test
+    public void testRetentionIsBounded()
+    {
+        final StripedBlockAllocatorProvider provider =
+            new StripedBlockAllocatorProvider(20, 1, TimeUnit.HOURS);
+        final BlockAllocator small = provider.vendAllocator(8);
+        final BlockAllocator large = provider.vendAllocator(16);
+
+        final List<Block> blocks = new ArrayList<Block>();
+        for (int i = 0; i < 4; i++)
+        {
+            blocks.add(small.allocateBlock());
+        }
+        for (final Block block : blocks)
+        {
+            block.close();
+        }
+        assertEquals(16, provider.retainedBytes());
+
+        // the budget is shared across block sizes
+        large.allocateBlock().close();
+        assertEquals(16, provider.retainedBytes());
+
+        assertSame(blocks.get(1), small.allocateBlock());
+        assertSame(blocks.get(0), small.allocateBlock());
+        assertTrue(blocks.indexOf(small.allocateBlock()) < 0);
+    }
+
+    @Test
+    public void testIdleBlocksAreEvicted() throws Exception
+    {
+        final StripedBlockAllocatorProvider provider =
+            new StripedBlockAllocatorProvider(1024, 1, TimeUnit.MILLISECONDS);
+        final BlockAllocator allocator = provider.vendAllocator(8);
+        final Block idle = allocator.allocateBlock();
+        final Block busy = allocator.allocateBlock();
+
+        idle.close();
+        Thread.sleep(10);
+        busy.close();
+        assertEquals(8, provider.retainedBytes());
+
+        assertSame(busy, allocator.allocateBlock());
+        assertNotSame(idle, allocator.allocateBlock());
+    }
+
+    @Test
+    public void testConcurrentUse() throws Exception
+    {
+        final StripedBlockAllocatorProvider provider =
+            new StripedBlockAllocatorProvider(64 * 8, 1, TimeUnit.HOURS);
+        final BlockAllocator allocator = provider.vendAllocator(8);
+        final AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+
+        final Thread[] threads = new Thread[16];
+        for (int t = 0; t < threads.length; t++)
+        {
+            threads[t] = new Thread()
+            {
+                @Override
+                public void run()
+                {
+                    try
+                    {
+                        final List<Block> held = new ArrayList<Block>();
+                        for (int i = 0; i < 10000; i++)
+                        {
+                            final Block block = allocator.allocateBlock();
+                            assertEquals(0, block.limit);
+                            block.limit = 1;
+                            held.add(block);
+                            if (held.size() == 4)
+                            {
+                                for (final Block b : held)
+                                {
+                                    b.close();
+                                }
+                                held.clear();
+                            }
+                        }
+                    }
+                    catch (final Throwable e)
+                    {
+                        failure.compareAndSet(null, e);
+                    }
+                }
+            };
+            threads[t].start();
+        }
+        for (final Thread thread : threads)
+        {
+            thread.join();
+        }
+
+        if (failure.get() != null)
+        {
+            throw new AssertionError(failure.get());
+        }
+        assertTrue(provider.retainedBytes() <= 64 * 8);
+    }
+
+    private static void closeOnOtherThread(final List<Block> blocks) throws Exception
+    {
+        final Thread thread = new Thread()
+        {
+            @Override
+            public void run()
+            {
+                for (final Block block : blocks)
+                {
+                    block.close();
+                }
+            }
+        };
+        thread.start();
+        thread.join();
+    }
+
+    @Test
+    public void testStripeOverflowIsSharedGlobally() throws Exception
+    {
+        final StripedBlockAllocatorProvider provider =
+            new StripedBlockAllocatorProvider(1024, 1, TimeUnit.HOURS);
+        final BlockAllocator allocator = provider.vendAllocator(8);
+
+        // more blocks than a stripe holds, closed by a thread that may not share our stripe
+        final int count = StripedBlockAllocatorProvider.STRIPE_CAPACITY * 2;
+        final List<Block> blocks = new ArrayList<Block>();
+        for (int i = 0; i < count; i++)
+        {
+            blocks.add(allocator.allocateBlock());
+        }
+        closeOnOtherThread(blocks);
+        assertEquals(count * 8, provider.retainedBytes());
+
+        // at least the overflow reaches us through the global pool
+        for (int i = 0; i < StripedBlockAllocatorProvider.STRIPE_CAPACITY; i++)
+        {
+            assertTrue(blocks.contains(allocator.allocateBlock()));
+        }
+    }
+
+    @Test
+    public void testIdleBlocksAreEvictedWithoutReleases() throws Exception
+    {
+        final StripedBlockAllocatorProvider provider =
+            new StripedBlockAllocatorProvider(1024, 1, TimeUnit.MILLISECONDS);
+        final BlockAllocator allocator = provider.vendAllocator(8);
+
+        final List<Block> blocks = new ArrayList<Block>();
+        for (int i = 0; i < StripedBlockAllocatorProvider.STRIPE_CAPACITY * 2; i++)
+        {
+            blocks.add(allocator.allocateBlock());
+        }
+        closeOnOtherThread(blocks);
+        Thread.sleep(10);
+
+        // after the spike, allocating alone releases the idle blocks of every stripe and the global pool
+        provider.vendAllocator(16).allocateBlock();
+        assertEquals(0, provider.retainedBytes());
+    }
+}
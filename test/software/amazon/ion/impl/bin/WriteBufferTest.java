@@ -21,6 +21,9 @@ import static software.amazon.ion.TestUtils.hexDump;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.IllegalBlockingModeException;
+import java.nio.channels.Pipe;
 import java.util.Arrays;
 import org.junit.After;
 import org.junit.Before;
@@ -36,10 +39,22 @@ public class WriteBufferTest
 
     private WriteBuffer buf;
 
+    /** Sub-classes can exercise other kinds of blocks. */
+    protected BlockAllocator allocator()
+    {
+        return ALLOCATOR;
+    }
+
+    /** Sub-classes can configure the buffer further. */
+    protected WriteBuffer createBuffer()
+    {
+        return new WriteBuffer(allocator());
+    }
+
     @Before
     public void setup()
     {
-        buf = new WriteBuffer(ALLOCATOR);
+        buf = createBuffer();
     }
 
     @After
@@ -915,4 +930,54 @@ public class WriteBufferTest
         buf.writeBytes("DOO".getBytes("UTF-8"));
         assertBuffer("ARGLEFOOBARGLEDOO".getBytes("UTF-8"));
     }
+
+    @Test
+    public void testWriteToChannel() throws IOException
+    {
+        buf.writeBytes("ARGLEFOOBARGLEDOO".getBytes("UTF-8"));
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        buf.writeTo(Channels.newChannel(out));
+        assertArrayEquals("ARGLEFOOBARGLEDOO".getBytes("UTF-8"), out.toByteArray());
+    }
+
+    @Test(expected = IllegalBlockingModeException.class)
+    public void testWriteToFullNonBlockingChannel() throws IOException
+    {
+        // far more than the pipe holds, with nothing reading from it
+        final byte[] bytes = new byte[1024 * 1024];
+        buf.writeBytes(bytes);
+        final Pipe pipe = Pipe.open();
+        try
+        {
+            pipe.sink().configureBlocking(false);
+            buf.writeTo(pipe.sink());
+        }
+        finally
+        {
+            pipe.sink().close();
+            pipe.source().close();
+        }
+    }
+
+    @Test
+    public void testPatchEarlierBlocks() throws IOException
+    {
+        buf.writeBytes("ARGLEFOOBARGLEDOO".getBytes("UTF-8"));
+        buf.writeUInt8At(1, 'r');
+        // XXX straddles the first and second blocks
+        buf.writeVarUIntDirect2At(10, 0x3F7F);
+        assertEquals('r', buf.getUInt8At(1));
+        assertEquals('O', buf.getUInt8At(16));
+        assertBuffer("ArGLEFOOBA~\u00FFLEDOO".getBytes("ISO-8859-1"));
+    }
+
+    @Test
+    public void testTruncateToEarlierBlock() throws IOException
+    {
+        buf.writeBytes("ARGLEFOOBARGLEDOO".getBytes("UTF-8"));
+        buf.truncate(8);
+        assertEquals(8, buf.position());
+        buf.writeBytes("BAZ".getBytes("UTF-8"));
+        assertBuffer("ARGLEFOOBAZ".getBytes("UTF-8"));
+    }
 }
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion.impl.lite;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import software.amazon.ion.IonList;
+import software.amazon.ion.IonStruct;
+import software.amazon.ion.IonSystem;
+import software.amazon.ion.IonValue;
+import software.amazon.ion.system.IonSystemBuilder;
+
+public class CloneSharingTest
+{
+    private static final String TEMPLATE =
+        "ann::{a:1, b:{c:[1, 2, {d:\"x\"}], e:sym}, f:[g, (h)], a:2, "
+        + "i:null.list, j:{}}";
+
+    private final IonSystem system = IonSystemBuilder.standard().build();
+
+    private IonStruct template()
+    {
+        IonStruct template = (IonStruct) system.singleValue(TEMPLATE);
+        template.makeReadOnly();
+        return template;
+    }
+
+    private static boolean hasCloneSource(IonValue value)
+    {
+        return ((IonContainerLite) value).hasCloneSource();
+    }
+
+    @Test
+    public void testCloneOfReadOnlyIsDeferred()
+    {
+        IonStruct template = template();
+        IonStruct copy = template.clone();
+        assertTrue(hasCloneSource(copy));
+        assertFalse(copy.isReadOnly());
+        assertEquals(template.toString(), copy.toString());
+        assertTrue(hasCloneSource(copy));
+
+        IonStruct b = (IonStruct) copy.get("b");
+        assertFalse(hasCloneSource(copy));
+        assertTrue(hasCloneSource(b));
+        assertTrue(hasCloneSource(copy.get("f")));
+        assertSame(copy, b.getContainer());
+        assertEquals("b", b.getFieldName());
+        assertNotSame(template.get("b"), b);
+
+        assertEquals(template, copy);
+        assertFalse(hasCloneSource(b));
+    }
+
+    @Test
+    public void testCloneOfMutableIsCopied()
+    {
+        IonStruct value = (IonStruct) system.singleValue(TEMPLATE);
+        IonStruct copy = value.clone();
+        assertFalse(hasCloneSource(copy));
+        assertFalse(hasCloneSource(copy.get("b")));
+        assertEquals(value, copy);
+    }
+
+    @Test
+    public void testMutationLeavesTemplateAlone()
+    {
+        IonStruct template = template();
+        String original = template.toString();
+
+        IonStruct copy = template.clone();
+        IonStruct b = (IonStruct) copy.get("b");
+        ((IonList) b.get("c")).add(system.newInt(3));
+        copy.put("a", system.newString("one"));
+        copy.remove("j");
+        copy.setTypeAnnotations("other");
+
+        assertEquals(original, template.toString());
+        assertTrue(hasCloneSource(copy.get("f")));
+        assertEquals(
+            system.singleValue("other::{b:{c:[1, 2, {d:\"x\"}, 3], e:sym}, "
+                               + "f:[g, (h)], i:null.list, a:\"one\"}"),
+            copy);
+        assertArrayEquals(
+            system.newDatagram(system.singleValue(copy.toString())).getBytes(),
+            system.newDatagram(copy).getBytes());
+    }
+
+    @Test
+    public void testCloneOfDeferredClone()
+    {
+        IonStruct template = template();
+        IonStruct copy = template.clone();
+        IonStruct copy2 = copy.clone();
+        assertTrue(hasCloneSource(copy2));
+
+        copy.clear();
+        assertEquals(template, copy2);
+        assertTrue(copy.isEmpty());
+    }
+
+    @Test
+    public void testFieldLookupsAfterCopy()
+    {
+        IonStruct template = (IonStruct) system.newEmptyStruct();
+        for (int i = 0; i < 20; i++)
+        {
+            template.add("f" + (i % 7), system.newInt(i));
+        }
+        template.makeReadOnly();
+
+        IonStruct copy = template.clone();
+        assertEquals(system.newInt(14), copy.get("f0"));
+        copy.put("f1", system.newInt(-1));
+        assertEquals(system.newInt(-1), copy.get("f1"));
+        assertEquals(18, copy.size());
+        assertEquals(null, ((IonStructLite) copy).validate());
+        assertEquals(20, template.size());
+    }
+
+    @Test
+    public void testMakeReadOnlyCopiesEverything()
+    {
+        IonStruct copy = template().clone();
+        copy.makeReadOnly();
+        assertFalse(hasCloneSource(copy));
+        assertFalse(hasCloneSource(copy.get("b")));
+        assertFalse(hasCloneSource(((IonStruct) copy.get("b")).get("c")));
+        assertEquals(template(), copy);
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion.impl.lite;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Random;
+import org.junit.Test;
+import software.amazon.ion.Decimal;
+import software.amazon.ion.IonDatagram;
+import software.amazon.ion.IonDecimal;
+import software.amazon.ion.IonList;
+import software.amazon.ion.IonSystem;
+import software.amazon.ion.IonTimestamp;
+import software.amazon.ion.Timestamp;
+import software.amazon.ion.system.IonSystemBuilder;
+
+public class CompactScalarTest
+{
+    private final IonSystem system = IonSystemBuilder.standard().build();
+
+    private static boolean isCompact(IonDecimal value)
+    {
+        return ((IonDecimalLite) value).isCompact();
+    }
+
+    private static boolean isCompact(IonTimestamp value)
+    {
+        return ((IonTimestampLite) value).isCompact();
+    }
+
+    private void checkDecimal(BigDecimal expected, boolean compact)
+    {
+        IonDecimal value = system.newDecimal(expected);
+        assertEquals(compact, isCompact(value));
+
+        Decimal dec = Decimal.valueOf(expected);
+        assertEquals(dec, value.decimalValue());
+        assertEquals(dec.isNegativeZero(), value.decimalValue().isNegativeZero());
+        assertEquals(Decimal.bigDecimalValue(expected).toString(),
+                     value.bigDecimalValue().toString());
+        assertEquals(expected.doubleValue(), value.doubleValue(), 0);
+
+        IonDecimal loaded = (IonDecimal) system.singleValue(value.toString());
+        assertEquals(loaded, value);
+        assertEquals(loaded.hashCode(), value.hashCode());
+        assertEquals(value, value.clone());
+        assertEquals(compact, isCompact(value.clone()));
+    }
+
+    @Test
+    public void testDecimals()
+    {
+        checkDecimal(BigDecimal.ZERO, true);
+        checkDecimal(new BigDecimal("0.000"), true);
+        checkDecimal(new BigDecimal("-1.50"), true);
+        checkDecimal(new BigDecimal("12e20"), true);
+        checkDecimal(BigDecimal.valueOf(Long.MAX_VALUE, 3), true);
+        checkDecimal(BigDecimal.valueOf(Long.MIN_VALUE, -3), true);
+        checkDecimal(new BigDecimal(BigInteger.ONE.shiftLeft(63), 2), false);
+        checkDecimal(new BigDecimal("-123456789012345678901234567890.1"), false);
+        checkDecimal(Decimal.NEGATIVE_ZERO, false);
+        checkDecimal(Decimal.negativeZero(2), false);
+
+        Random random = new Random(42);
+        for (int i = 0; i < 1000; i++)
+        {
+            BigInteger unscaled = new BigInteger(random.nextInt(100), random);
+            if (random.nextBoolean()) unscaled = unscaled.negate();
+            BigDecimal expected =
+                new BigDecimal(unscaled, random.nextInt(40) - 20);
+            checkDecimal(expected, unscaled.bitLength() < 64);
+        }
+    }
+
+    @Test
+    public void testNullDecimal()
+    {
+        IonDecimal value = system.newDecimal(1.5);
+        value.setValue((BigDecimal) null);
+        assertTrue(value.isNullValue());
+        assertFalse(isCompact(value));
+        assertNull(value.bigDecimalValue());
+        assertNull(value.decimalValue());
+        assertEquals(system.newNullDecimal(), value);
+    }
+
+    private void checkTimestamp(Timestamp expected, boolean compact)
+    {
+        IonTimestamp value = system.newTimestamp(expected);
+        assertEquals(compact, isCompact(value));
+
+        Timestamp actual = value.timestampValue();
+        assertEquals(expected, actual);
+        assertEquals(expected.toString(), actual.toString());
+        assertEquals(expected.getLocalOffset(), value.getLocalOffset());
+        assertEquals(expected.getMillis(), value.getMillis());
+
+        assertEquals(expected.hashCode(), actual.hashCode());
+        assertEquals(value, value.clone());
+        assertEquals(compact, isCompact(value.clone()));
+        assertEquals(value, system.singleValue(expected.toString()));
+    }
+
+    @Test
+    public void testTimestamps()
+    {
+        checkTimestamp(Timestamp.valueOf("2016T"), true);
+        checkTimestamp(Timestamp.valueOf("2016-02T"), true);
+        checkTimestamp(Timestamp.valueOf("0001-01-01"), true);
+        checkTimestamp(Timestamp.valueOf("9999-12-31T23:59-00:00"), true);
+        checkTimestamp(Timestamp.valueOf("2016-02-29T00:00:00Z"), true);
+        checkTimestamp(Timestamp.valueOf("2016-03-01T00:30:59.5+01:00"), true);
+        checkTimestamp(Timestamp.valueOf("2016-01-01T00:00:00.000-23:45"), true);
+        checkTimestamp(Timestamp.valueOf("2016-01-01T12:00:00.50+05:30"), true);
+        checkTimestamp(Timestamp.valueOf("1999-12-31T23:59:59.999-08:00"), true);
+        checkTimestamp(Timestamp.valueOf("2016-01-01T12:00:00.0001Z"), false);
+        checkTimestamp(Timestamp.valueOf("2016-01-01T12:00:00.123456Z"), false);
+        checkTimestamp(Timestamp.valueOf("2016-01-01T12:00:00+00:01"), false);
+        checkTimestamp(Timestamp.valueOf("2016-01-01T12:00-23:59"), false);
+
+        Random random = new Random(42);
+        for (int i = 0; i < 1000; i++)
+        {
+            // within years 0002 through 9998, so that any offset is valid
+            long millis = random.nextLong() % 250000000000000L;
+            if (millis < -62000000000000L) millis = -millis;
+            int minutes = random.nextInt(48 * 60 - 1) - (24 * 60 - 1);
+            if (random.nextBoolean()) minutes -= minutes % 15;
+            Integer offset = (random.nextInt(8) == 0 ? null : minutes);
+            checkTimestamp(Timestamp.forMillis(millis, offset),
+                           offset == null || minutes % 15 == 0);
+
+            Timestamp ts = Timestamp.forMillis(millis, offset);
+            checkTimestamp(Timestamp.forMinute(ts.getYear(), ts.getMonth(),
+                                               ts.getDay(), ts.getHour(),
+                                               ts.getMinute(), offset),
+                           offset == null || minutes % 15 == 0);
+        }
+    }
+
+    @Test
+    public void testTimestampMutators()
+    {
+        IonTimestamp value = system.newTimestamp(
+            Timestamp.valueOf("2016-01-01T12:00:00.123+01:00"));
+        value.setLocalOffset(-60);
+        assertTrue(isCompact(value));
+        assertEquals(Timestamp.valueOf("2016-01-01T10:00:00.123-01:00"),
+                     value.timestampValue());
+
+        value.setLocalOffset(7);
+        assertFalse(isCompact(value));
+        assertEquals(Integer.valueOf(7), value.getLocalOffset());
+
+        value.setMillisUtc(0);
+        assertTrue(isCompact(value));
+        assertEquals(Timestamp.valueOf("1970-01-01T00:00:00.000Z"),
+                     value.timestampValue());
+
+        value.makeNull();
+        assertFalse(isCompact(value));
+        assertNull(value.timestampValue());
+        assertEquals(system.newNullTimestamp(), value);
+    }
+
+    @Test
+    public void testLoadedValuesAreCompact()
+    {
+        String data = "[1.5,-0.,2016-01-01T00:00:00.000Z,"
+            + "12345678901234567890123.4,2016-01-01T00:00:00.0000Z]";
+        IonDatagram text = system.getLoader().load(data);
+        IonDatagram binary = system.getLoader().load(text.getBytes());
+        for (IonDatagram dg : new IonDatagram[] { text, binary })
+        {
+            IonList list = (IonList) dg.get(0);
+            assertEquals(system.singleValue(data), list);
+            assertEquals(data, list.toString());
+            assertTrue(isCompact((IonDecimal) list.get(0)));
+            assertFalse(isCompact((IonDecimal) list.get(1)));
+            assertTrue(isCompact((IonTimestamp) list.get(2)));
+            assertFalse(isCompact((IonDecimal) list.get(3)));
+            assertFalse(isCompact((IonTimestamp) list.get(4)));
+        }
+    }
+}
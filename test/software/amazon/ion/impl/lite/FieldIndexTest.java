@@ -0,0 +1,121 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion.impl.lite;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import org.junit.Test;
+import software.amazon.ion.IonStruct;
+import software.amazon.ion.IonSystem;
+import software.amazon.ion.system.IonSystemBuilder;
+
+public class FieldIndexTest
+{
+    private static void check(Map<String, Integer> expected, FieldIndex index,
+                              String[] names)
+    {
+        assertEquals(expected.size(), index.size());
+        for (String name : names)
+        {
+            Integer idx = expected.get(name);
+            assertEquals(idx == null ? -1 : idx.intValue(), index.get(name));
+        }
+    }
+
+    @Test
+    public void testMatchesHashMap()
+    {
+        // few distinct names, so that puts, replacements, and removals
+        // collide and wrap around the table
+        String[] names = new String[40];
+        for (int i = 0; i < names.length - 1; i++)
+        {
+            names[i] = "f" + (i * 7919);
+        }
+        names[names.length - 1] = null;
+
+        Random random = new Random(42);
+        Map<String, Integer> expected = new HashMap<String, Integer>();
+        FieldIndex index = new FieldIndex(0);
+        for (int op = 0; op < 20000; op++)
+        {
+            String name = names[random.nextInt(names.length)];
+            if (name != null && random.nextBoolean())
+            {
+                // an equal name that isn't the same instance
+                name = new String(name);
+            }
+            if (random.nextInt(3) == 0)
+            {
+                expected.remove(name);
+                index.remove(name);
+            }
+            else
+            {
+                int idx = random.nextInt(100);
+                expected.put(name, idx);
+                index.put(name, idx);
+            }
+            check(expected, index, names);
+        }
+
+        FieldIndex copy = index.copy();
+        check(expected, copy, names);
+        copy.put("new", 1);
+        assertEquals(-1, index.get("new"));
+    }
+
+    @Test
+    public void testGrowth()
+    {
+        FieldIndex index = new FieldIndex(2);
+        for (int i = 0; i < 1000; i++)
+        {
+            index.put("f" + i, i);
+        }
+        assertEquals(1000, index.size());
+        assertEquals(1000, index.names().length);
+        for (int i = 0; i < 1000; i++)
+        {
+            assertEquals(i, index.get("f" + i));
+        }
+    }
+
+    @Test
+    public void testStructWithDuplicates()
+    {
+        IonSystem system = IonSystemBuilder.standard().build();
+        IonStruct struct = system.newEmptyStruct();
+        for (int i = 0; i < 20; i++)
+        {
+            struct.add("f" + (i % 7), system.newInt(i));
+        }
+        assertEquals(system.newInt(14), struct.get("f0"));
+
+        struct.remove(struct.get("f0"));
+        assertEquals(system.newInt(7), struct.get("f0"));
+        struct.put("f0", system.newInt(-1));
+        assertEquals(18, struct.size());
+        assertEquals(system.newInt(-1), struct.get("f0"));
+
+        struct.removeAll("f1", "f2");
+        assertEquals(null, struct.get("f1"));
+        assertEquals(system.newInt(19), struct.get("f5"));
+        assertEquals(null, ((IonStructLite) struct).validate());
+    }
+}
@@ -0,0 +1,276 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion.impl.lite;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import org.junit.Test;
+import software.amazon.ion.IonDatagram;
+import software.amazon.ion.IonException;
+import software.amazon.ion.IonList;
+import software.amazon.ion.IonStruct;
+import software.amazon.ion.IonSymbol;
+import software.amazon.ion.IonSystem;
+import software.amazon.ion.SymbolTable;
+import software.amazon.ion.system.IonSystemBuilder;
+import software.amazon.ion.system.SimpleCatalog;
+
+public class ForwardBinaryEncoderTest
+{
+    private static final String DATA =
+        "null true false 0 -1 1 0x7fffffffffffffff -0x8000000000000000 "
+        + "123456789012345678901234567890 -123456789012345678901234567890 "
+        + "0e0 -1.5e300 0. -0. 1.50 -123456789012345678901234567890.12 "
+        + "12d-300 2016T 2016-02T 2016-02-03 2016-02-03T04:05-06:07 "
+        + "2016-02-03T04:05:06Z 2016-02-03T04:05:06.789+01:00 "
+        + "2016-02-03T04:05:06.000-00:00 sym 'another sym' \"str\" "
+        + "\"\\u00e9\\u4e2d\\U0001f600\" {{\"clob\"}} {{YmxvYg==}} "
+        + "null.int null.struct null.list null.sexp null.symbol null.blob "
+        + "[] () {} a::b::[1, c::(d e), {f:g, 'h i':[j], f:null}] "
+        + "{long_field_name_to_push_the_length_past_the_short_form:12345}";
+
+    private final SimpleCatalog catalog = new SimpleCatalog();
+    private final IonSystem system =
+        IonSystemBuilder.standard().withCatalog(catalog).build();
+
+    private void checkEncoding(IonDatagram dg)
+        throws Exception
+    {
+        byte[] bytes = dg.getBytes();
+        assertEquals(bytes.length, dg.byteSize());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertEquals(bytes.length, dg.getBytes(out));
+        assertArrayEquals(bytes, out.toByteArray());
+
+        // again, now that the lengths are cached
+        assertArrayEquals(bytes, dg.getBytes());
+
+        IonDatagram loaded = system.getLoader().load(bytes);
+        assertEquals(dg, loaded);
+        assertEquals(dg.toString(), loaded.toString());
+
+        // the reverse encoder can't encode read-only datagrams
+        if (! dg.isReadOnly())
+        {
+            ReverseBinaryEncoder reverse = new ReverseBinaryEncoder(16);
+            reverse.serialize(dg);
+            assertEquals(system.getLoader().load(reverse.toNewByteArray()),
+                         loaded);
+        }
+    }
+
+    @Test
+    public void testAllTypes()
+        throws Exception
+    {
+        checkEncoding(system.getLoader().load(DATA));
+        checkEncoding(system.getLoader().load(system.getLoader().load(DATA).getBytes()));
+    }
+
+    @Test
+    public void testEmptyDatagram()
+        throws Exception
+    {
+        IonDatagram dg = system.newDatagram();
+        checkEncoding(dg);
+        assertEquals(4, dg.byteSize());
+    }
+
+    @Test
+    public void testContainersSizedBeforeTheSymbolTableIsReplaced()
+        throws Exception
+    {
+        // the first symbol outside the system table follows nested containers
+        for (String data : new String[] { "[[1,2], foo]",
+                                          "{name:[1,2,3], zzz:7}",
+                                          "[([{}] 1), a::[[2]], {b:[3]}]" })
+        {
+            IonDatagram dg = system.newDatagram();
+            dg.add(system.singleValue(data));
+            checkEncoding(dg);
+            assertEquals(system.singleValue(data),
+                         system.getLoader().load(dg.getBytes()).get(0));
+
+            dg.add(system.singleValue(data));
+            checkEncoding(dg);
+        }
+    }
+
+    @Test
+    public void testValuesLargerThanTheStreamBuffer()
+        throws Exception
+    {
+        char[] chars = new char[100000];
+        Arrays.fill(chars, 'é');
+        byte[] blob = new byte[100000];
+        Arrays.fill(blob, (byte) 7);
+
+        IonDatagram dg = system.newDatagram();
+        IonList list = system.newEmptyList();
+        list.add().newString(new String(chars));
+        list.add().newBlob(blob);
+        IonList inner = list.add().newEmptyList();
+        for (int i = 0; i < 10000; i++)
+        {
+            inner.add().newSymbol("s" + (i % 500));
+        }
+        dg.add(list);
+        checkEncoding(dg);
+    }
+
+    @Test
+    public void testSymbolTables()
+        throws Exception
+    {
+        SymbolTable shared = system.newSharedSymbolTable(
+            "shared", 1, Arrays.asList("x", "y").iterator());
+        catalog.putTable(shared);
+
+        String data =
+            "a $ion_symbol_table::{symbols:[\"b\"]} b c "
+            + "$ion_1_0 d $ion_symbol_table::{imports:"
+            + "[{name:\"shared\", version:1, max_id:2}], symbols:[\"e\"]} "
+            + "x::{y:e} $ion_1_0 f";
+        IonDatagram dg = system.getLoader().load(data);
+        checkEncoding(dg);
+
+        // values added to the datagram share new symbols
+        dg.add().newSymbol("g");
+        dg.add(system.singleValue("{h:i}"));
+        checkEncoding(dg);
+    }
+
+    @Test
+    public void testCachedLengthsFollowModifications()
+        throws Exception
+    {
+        IonDatagram dg = system.getLoader().load(DATA);
+        dg.getBytes();
+
+        IonList list = (IonList) dg.get(dg.size() - 2).clone();
+        dg.add(list);
+        IonStruct struct = (IonStruct) list.get(2);
+        IonList nested = (IonList) struct.get("h i");
+        checkEncoding(dg);
+        SymbolTable symtab = ((IonDatagramLite) dg).encodingSymbolTable();
+        assertTrue(((IonContainerLite) nested).getEncodedLength(symtab) >= 0);
+
+        // lengthen a deeply nested value past the short length form
+        nested.get(0).setTypeAnnotations("some", "longer", "annotations");
+        checkEncoding(dg);
+        nested.add().newString("a string that's long enough");
+        checkEncoding(dg);
+        list.removeTypeAnnotation("a");
+        struct.put("f").newInt(Long.MAX_VALUE);
+        checkEncoding(dg);
+        nested.remove(0);
+        list.makeReadOnly();
+        checkEncoding(dg);
+
+        IonDatagram copy = dg.clone();
+        checkEncoding(copy);
+    }
+
+    @Test
+    public void testReadOnlyContainersAreNotCached()
+        throws Exception
+    {
+        IonDatagram dg = system.getLoader().load(DATA);
+        IonList list = (IonList) dg.get(dg.size() - 2);
+        dg.makeReadOnly();
+        checkEncoding(dg);
+
+        IonContainerLite nested = (IonContainerLite) list.get(1);
+        SymbolTable symtab = list.get(1).getSymbolTable();
+        assertEquals(-1, nested.getEncodedLength(symtab));
+        assertEquals(-1, ((IonContainerLite) list).getEncodedLength(symtab));
+
+        // binary-loaded values have their own local symbol table
+        IonDatagram binary = system.getLoader().load(dg.getBytes());
+        binary.makeReadOnly();
+        checkEncoding(binary);
+        IonContainerLite top = (IonContainerLite) binary.get(dg.size() - 2);
+        assertEquals(-1, top.getEncodedLength(top.getSymbolTable()));
+    }
+
+    private SymbolTable encodedSymbolTable(IonDatagram dg)
+    {
+        IonDatagram loaded = system.getLoader().load(dg.getBytes());
+        return loaded.get(0).getSymbolTable();
+    }
+
+    @Test
+    public void testRemovedSymbolsAreNotEncoded()
+        throws Exception
+    {
+        IonDatagram dg = system.getLoader().load(
+            "keep {removed_field:removed_symbol, kept:[replaced_symbol]}");
+        IonStruct struct = (IonStruct) dg.get(1);
+        assertNotNull(encodedSymbolTable(dg).find("removed_field"));
+
+        struct.remove("removed_field");
+        ((IonSymbol) ((IonList) struct.get("kept")).get(0)).setValue("new");
+        checkEncoding(dg);
+
+        SymbolTable symtab = encodedSymbolTable(dg);
+        assertNotNull(symtab.find("kept"));
+        assertNotNull(symtab.find("new"));
+        assertNull(symtab.find("removed_field"));
+        assertNull(symtab.find("removed_symbol"));
+        assertNull(symtab.find("replaced_symbol"));
+
+        dg.remove(struct);
+        assertNull(encodedSymbolTable(dg).find("kept"));
+    }
+
+    @Test
+    public void testNullContainerModifications()
+        throws Exception
+    {
+        IonDatagram dg = system.getLoader().load("{a:[null.list, b::null.struct]}");
+        checkEncoding(dg);
+
+        IonList list = (IonList) ((IonStruct) dg.get(0)).get("a");
+        ((IonList) list.get(0)).add().newInt(1);
+        checkEncoding(dg);
+        list.get(1).setTypeAnnotations("much", "longer", "annotations");
+        checkEncoding(dg);
+        ((IonStruct) list.get(1)).put("c").newString("d");
+        checkEncoding(dg);
+    }
+
+    @Test
+    public void testUnpairedSurrogates()
+    {
+        for (String str : new String[] { "\ud800", "a\udc00", "\ud800a" })
+        {
+            IonDatagram dg = system.newDatagram(system.newString(str));
+            try
+            {
+                dg.getBytes();
+                fail("expected an exception for " + str);
+            }
+            catch (IonException e) { }
+        }
+    }
+}
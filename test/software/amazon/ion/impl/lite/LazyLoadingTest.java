@@ -0,0 +1,196 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion.impl.lite;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.Iterator;
+import org.junit.Test;
+import software.amazon.ion.IonDatagram;
+import software.amazon.ion.IonList;
+import software.amazon.ion.IonStruct;
+import software.amazon.ion.IonSystem;
+import software.amazon.ion.IonValue;
+import software.amazon.ion.IonWriter;
+import software.amazon.ion.system.IonSystemBuilder;
+
+public class LazyLoadingTest
+{
+    private static final String DATA =
+        "$ion_symbol_table::{symbols:[\"local\"]} "
+        + "{a:1, b:[2, \"two\", {c:local, d:[3.0e0, 4d0]}], "
+        + "e:ann::{f:null.list, g:(h i)}, j:[]} "
+        + "[1, [2, [3]], {k:l}] "
+        + "top::(x [y] {z:2012-01-01T}) "
+        + "null.struct 5";
+
+    private final IonSystem eager = IonSystemBuilder.standard().build();
+    private final IonSystem lazy = IonSystemBuilder.standard()
+                                                   .withLazyLoading(true)
+                                                   .withStreamCopyOptimized(true)
+                                                   .build();
+    private final byte[] bytes = eager.getLoader().load(DATA).getBytes();
+
+    private static boolean hasBacking(IonValue value)
+    {
+        return ((IonContainerLite) value).hasBacking();
+    }
+
+    @Test
+    public void testLoadEqualsEagerLoad()
+    {
+        IonDatagram expected = eager.getLoader().load(bytes);
+        IonDatagram actual = lazy.getLoader().load(bytes);
+        assertTrue(hasBacking(actual.get(0)));
+
+        assertEquals(expected, actual);
+        assertEquals(expected.toString(), actual.toString());
+        assertEquals(expected.systemSize(), actual.systemSize());
+        assertEquals(eager.getLoader().load(expected.getBytes()),
+                     eager.getLoader().load(actual.getBytes()));
+    }
+
+    @Test
+    public void testIterateEqualsEagerIterate()
+    {
+        Iterator<IonValue> expected = eager.iterate(bytes);
+        Iterator<IonValue> actual = lazy.iterate(bytes);
+        while (expected.hasNext())
+        {
+            IonValue value = actual.next();
+            assertEquals(expected.next(), value);
+            assertEquals("local", value.getSymbolTable().findKnownSymbol(10));
+        }
+        assertFalse(actual.hasNext());
+    }
+
+    @Test
+    public void testAccessLoadsOneLevel()
+    {
+        IonStruct struct = (IonStruct) lazy.getLoader().load(bytes).get(0);
+        assertTrue(hasBacking(struct));
+
+        IonList b = (IonList) struct.get("b");
+        assertFalse(hasBacking(struct));
+        assertTrue(hasBacking(b));
+        assertTrue(hasBacking(struct.get("e")));
+
+        IonStruct inner = (IonStruct) b.get(2);
+        assertFalse(hasBacking(b));
+        assertTrue(hasBacking(inner));
+        assertEquals("local", ((IonStruct) inner).get("c").toString());
+        assertTrue(hasBacking(inner.get("d")));
+        assertEquals(2, ((IonList) inner.get("d")).size());
+    }
+
+    @Test
+    public void testMutation()
+    {
+        IonDatagram expected = eager.getLoader().load(bytes);
+        IonDatagram actual = lazy.getLoader().load(bytes);
+
+        for (IonDatagram dg : new IonDatagram[] { expected, actual })
+        {
+            IonStruct struct = (IonStruct) dg.get(0);
+            struct.put("a", dg.getSystem().newString("changed"));
+            ((IonList) struct.get("b")).remove(0);
+            ((IonStruct) struct.get("e")).setTypeAnnotations("other");
+            ((IonList) dg.get(1)).clear();
+            dg.get(2).clearTypeAnnotations();
+        }
+        assertTrue(hasBacking(((IonStruct) actual.get(0)).get("e")));
+        assertTrue(hasBacking(actual.get(2)));
+
+        assertEquals(expected, actual);
+        assertEquals(expected.toString(), actual.toString());
+    }
+
+    @Test
+    public void testClone()
+    {
+        IonStruct original = (IonStruct) lazy.getLoader().load(bytes).get(0);
+        IonStruct copy = original.clone();
+        assertTrue(hasBacking(original));
+        assertTrue(hasBacking(copy));
+
+        copy.remove("a");
+        assertEquals(4, original.size());
+        assertEquals(3, copy.size());
+        assertEquals(original.get("b"), copy.get("b"));
+    }
+
+    @Test
+    public void testMakeReadOnlyLoadsEverything()
+    {
+        IonDatagram dg = lazy.getLoader().load(bytes);
+        IonStruct struct = (IonStruct) dg.get(0);
+        struct.makeReadOnly();
+        IonList b = (IonList) struct.get("b");
+        assertFalse(hasBacking(b));
+        assertFalse(hasBacking(b.get(2)));
+        assertEquals(eager.getLoader().load(bytes).get(0), struct);
+    }
+
+    @Test
+    public void testTextIsLoadedEagerly()
+    {
+        IonValue value = lazy.singleValue("{a:[1]}".getBytes());
+        assertFalse(hasBacking(value));
+        assertFalse(hasBacking(((IonStruct) value).get("a")));
+    }
+
+    private byte[] writeLazily(byte[] data)
+        throws Exception
+    {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        IonWriter writer = lazy.newBinaryWriter(out);
+        for (Iterator<IonValue> i = lazy.iterate(data); i.hasNext(); )
+        {
+            IonValue value = i.next();
+            boolean backed =
+                value instanceof IonContainerLite && hasBacking(value);
+            value.writeTo(writer);
+            assertEquals(backed, value instanceof IonContainerLite && hasBacking(value));
+        }
+        writer.close();
+        return out.toByteArray();
+    }
+
+    @Test
+    public void testUnchangedValuesAreCopied()
+        throws Exception
+    {
+        // without symbols, the encoding is copied as-is, though the writer
+        // may precede it with a symbol table of its own
+        byte[] data = eager.getLoader().load("[1, 2, \"x\"] [4, [5.0, (6)]]").getBytes();
+        byte[] values = Arrays.copyOfRange(data, 4, data.length);
+        byte[] out = writeLazily(data);
+        assertArrayEquals(values, Arrays.copyOfRange(out, out.length - values.length, out.length));
+        assertEquals(eager.getLoader().load(data), eager.getLoader().load(out));
+    }
+
+    @Test
+    public void testUnchangedValuesAreStreamed()
+        throws Exception
+    {
+        byte[] out = writeLazily(bytes);
+        assertEquals(eager.getLoader().load(bytes), eager.getLoader().load(out));
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion.streaming;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import software.amazon.ion.IonException;
+import software.amazon.ion.IonIncrementalReader;
+import software.amazon.ion.IonType;
+import software.amazon.ion.IonWriter;
+import software.amazon.ion.system.IonBinaryWriterBuilder;
+import software.amazon.ion.system.IonReaderBuilder;
+
+public class IncrementalReaderTest
+{
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final IonIncrementalReader reader =
+        IonReaderBuilder.standard().buildIncremental();
+
+    private static byte[] records(int count) throws IOException
+    {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        IonWriter writer = IonBinaryWriterBuilder.standard().build(out);
+        for (int i = 0; i < count; i++)
+        {
+            writer.addTypeAnnotation("record");
+            writer.stepIn(IonType.STRUCT);
+            writer.setFieldName("id");
+            writer.writeInt(i);
+            writer.setFieldName("name");
+            writer.writeSymbol("name" + i);
+            writer.setFieldName("values");
+            writer.stepIn(IonType.LIST);
+            for (int j = 0; j < i % 50; j++)
+            {
+                writer.writeString("some text that makes the record long " + j);
+            }
+            writer.stepOut();
+            writer.stepOut();
+        }
+        writer.close();
+        return out.toByteArray();
+    }
+
+    private void assertRecord(int i)
+    {
+        assertEquals(IonType.STRUCT, reader.next());
+        assertEquals("record", reader.getTypeAnnotations()[0]);
+        reader.stepIn();
+        assertEquals(IonType.INT, reader.next());
+        assertEquals(i, reader.intValue());
+        assertEquals(IonType.SYMBOL, reader.next());
+        assertEquals("name" + i, reader.stringValue());
+        assertEquals(IonType.LIST, reader.next());
+        reader.stepIn();
+        int count = 0;
+        while (reader.next() != null)
+        {
+            count++;
+        }
+        assertEquals(i % 50, count);
+        reader.stepOut();
+        assertNull(reader.next());
+        assertFalse(reader.needsData());
+        reader.stepOut();
+    }
+
+    /** Checks the id of the record the reader is positioned on. */
+    private void assertRecordAt(int i)
+    {
+        assertEquals(IonType.STRUCT, reader.getType());
+        reader.stepIn();
+        assertEquals(IonType.INT, reader.next());
+        assertEquals(i, reader.intValue());
+        reader.stepOut();
+    }
+
+    @Test
+    public void testNeedsDataBeforeFeeding()
+    {
+        assertFalse(reader.needsData());
+        assertNull(reader.next());
+        assertTrue(reader.needsData());
+    }
+
+    @Test
+    public void testFeedByteAtATime() throws IOException
+    {
+        byte[] data = records(200);
+        int expected = 0;
+        for (int i = 0; i < data.length; i++)
+        {
+            reader.feed(data, i, 1);
+            while (reader.next() != null)
+            {
+                assertRecordAt(expected++);
+            }
+            assertTrue(reader.needsData());
+        }
+        assertEquals(200, expected);
+        reader.endOfInput();
+        assertNull(reader.next());
+        assertFalse(reader.needsData());
+    }
+
+    @Test
+    public void testFeedInLargeChunks() throws IOException
+    {
+        byte[] data = records(500);
+        int chunk = 100 * 1024 + 3;
+        int expected = 0;
+        for (int offset = 0; offset < data.length; offset += chunk)
+        {
+            reader.feed(data, offset, Math.min(chunk, data.length - offset));
+            while (reader.next() != null)
+            {
+                assertRecordAt(expected++);
+            }
+            assertTrue(reader.needsData());
+        }
+        assertEquals(500, expected);
+        assertNull(reader.next());
+        assertTrue(reader.needsData());
+    }
+
+    @Test
+    public void testTruncatedValueFailsAtEndOfInput() throws IOException
+    {
+        byte[] data = records(2);
+        reader.feed(data, 0, data.length - 1);
+        assertRecord(0);
+        assertNull(reader.next());
+        assertTrue(reader.needsData());
+
+        reader.endOfInput();
+        thrown.expect(IonException.class);
+        assertEquals(IonType.STRUCT, reader.next());
+        reader.stepIn();
+        while (reader.next() != null) { }
+        reader.stepOut();
+    }
+
+    @Test
+    public void testTextIsRejected()
+    {
+        byte[] text = "{a:1}".getBytes();
+        thrown.expect(IonException.class);
+        reader.feed(text, 0, text.length);
+    }
+
+    @Test
+    public void testFeedAfterEndOfInput()
+    {
+        reader.endOfInput();
+        thrown.expect(IllegalStateException.class);
+        reader.feed(new byte[1], 0, 1);
+    }
+}
@@ -59,6 +59,7 @@ public abstract class ReaderFacetTestCase
     {
         ReaderMaker.FROM_INPUT_STREAM_BINARY,
         ReaderMaker.FROM_INPUT_STREAM_TEXT,
+        ReaderMaker.FROM_INCREMENTAL_BINARY,
         ReaderMaker.FROM_READER
     };
 
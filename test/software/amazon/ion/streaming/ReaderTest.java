@@ -25,10 +25,12 @@ import org.junit.Ignore;
 import org.junit.Test;
 import software.amazon.ion.BinaryTest;
 import software.amazon.ion.Decimal;
+import software.amazon.ion.FieldNameMatcher;
 import software.amazon.ion.IonType;
 import software.amazon.ion.ReaderMaker;
 import software.amazon.ion.SymbolTable;
 import software.amazon.ion.SymbolToken;
+import software.amazon.ion.facet.Facets;
 import software.amazon.ion.junit.Injected.Inject;
 import software.amazon.ion.junit.IonAssert;
 
@@ -58,6 +60,195 @@ public class ReaderTest
         }
     }
 
+    @Test
+    public void testNumbersAroundLongPrecision()
+    {
+        String[] ints = {
+            "0", "-0", "7", "-2147483648", "2147483647", "2147483648", "-2147483649",
+            "999999999999999999", "-999999999999999999", "1000000000000000000",
+            "9223372036854775807", "-9223372036854775808", "9223372036854775808",
+            "1_000_000"
+        };
+        String[] decimals = {
+            "0.", "-0.", "-0.00", "0d5", "-0d-3", "1.5", "-123.456", "123456789012345678.",
+            "1234567890123456789.", "0.000000000000000001", "12.34d-5", "12.34D+5",
+            "1_2.3_4d2", "9d99999"
+        };
+        String[] floats = {
+            "0e0", "-0e0", "1.5e0", "-1.5e3", "123456789e-22", "9007199254740991e0",
+            "9007199254740993e0", "1e23", "1e-23", "2.2250738585072014e-308", "4.9e-324",
+            "1.7976931348623157e308", "123456789012345678e5", "1_0.5e1"
+        };
+
+        for (String text : ints)
+        {
+            read(text);
+            assertEquals(IonType.INT, in.next());
+            assertEquals(text, new BigInteger(text.replace("_", "")), in.bigIntegerValue());
+        }
+        for (String text : decimals)
+        {
+            read(text);
+            assertEquals(IonType.DECIMAL, in.next());
+            Decimal expected = Decimal.valueOf(text.replace("_", "").replace('d', 'e').replace('D', 'e'));
+            assertTrue(text, Decimal.equals(expected, in.decimalValue()));
+            assertEquals(text, expected.scale(), in.decimalValue().scale());
+        }
+        for (String text : floats)
+        {
+            read(text);
+            assertEquals(IonType.FLOAT, in.next());
+            double expected = Double.parseDouble(text.replace("_", ""));
+            assertEquals(text, Double.doubleToRawLongBits(expected),
+                         Double.doubleToRawLongBits(in.doubleValue()));
+        }
+    }
+
+    @Test
+    public void testStringsWithSpecialCharactersAtEachOffset()
+    {
+        // special characters at every offset of the eight-byte words scanned by the text readers
+        String[] specials = { "\\\"", "\\\\", "\\n", "\u00e9", "\u4e2d", "\ud83d\ude00", "'" };
+        String[] expectedSpecials = { "\"", "\\", "\n", "\u00e9", "\u4e2d", "\ud83d\ude00", "'" };
+        for (int s = 0; s < specials.length; s++)
+        {
+            for (int length = 0; length < 20; length++)
+            {
+                for (int offset = 0; offset <= length; offset++)
+                {
+                    StringBuilder text = new StringBuilder();
+                    StringBuilder expected = new StringBuilder();
+                    for (int i = 0; i < length; i++)
+                    {
+                        if (i == offset)
+                        {
+                            text.append(specials[s]);
+                            expected.append(expectedSpecials[s]);
+                        }
+                        char c = (char) ('a' + i);
+                        text.append(c);
+                        expected.append(c);
+                    }
+                    String body = text.toString();
+                    read("\"" + body + "\" '" + body.replace("'", "\\'") + "'   \t  {a:\"" + body + "\"}");
+
+                    assertEquals(IonType.STRING, in.next());
+                    assertEquals(expected.toString(), in.stringValue());
+                    assertEquals(IonType.SYMBOL, in.next());
+                    assertEquals(expected.toString(), in.stringValue());
+                    assertEquals(IonType.STRUCT, in.next());
+                    in.stepIn();
+                    // skipped without being loaded
+                    assertEquals(IonType.STRING, in.next());
+                    expectEof();
+                    in.stepOut();
+                    expectEof();
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testLongStringAcrossPages()
+    {
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 100000; i++)
+        {
+            expected.append((char) ('a' + i % 26));
+            if (i % 1000 == 0)
+            {
+                expected.append('\u00e9');
+            }
+        }
+        read("\"" + expected + "\" \"" + expected + "\" 1");
+        assertEquals(IonType.STRING, in.next());
+        assertEquals(IonType.STRING, in.next());
+        assertEquals(expected.toString(), in.stringValue());
+        assertEquals(IonType.INT, in.next());
+        assertEquals(1, in.intValue());
+        expectEof();
+    }
+
+    @Test
+    public void testFieldNameEquals()
+    {
+        String text = "$ion_symbol_table::{symbols:[\"sym\"]} "
+            + "{abc:1, 'a b':2, '':3, $10:4, \"abd\":{ab:5}}";
+        read(text);
+        FieldNameMatcher matcher = Facets.asFacet(FieldNameMatcher.class, in);
+        if (matcher == null)
+        {
+            assertFalse(myReaderMaker.sourceIsText());
+            return;
+        }
+
+        assertEquals(IonType.STRUCT, in.next());
+        assertFalse(matcher.fieldNameEquals("abc"));
+        in.stepIn();
+
+        in.next();
+        assertTrue(matcher.fieldNameEquals("abc"));
+        assertTrue(matcher.fieldNameEquals(new StringBuilder("abc")));
+        assertFalse(matcher.fieldNameEquals("ab"));
+        assertFalse(matcher.fieldNameEquals("abd"));
+        assertFalse(matcher.fieldNameEquals("abcd"));
+        assertEquals("abc", in.getFieldName());
+        assertTrue(matcher.fieldNameEquals("abc"));
+
+        in.next();
+        assertTrue(matcher.fieldNameEquals("a b"));
+
+        in.next();
+        assertTrue(matcher.fieldNameEquals(""));
+        assertFalse(matcher.fieldNameEquals("abc"));
+
+        in.next();
+        assertTrue(matcher.fieldNameEquals("sym"));
+        assertFalse(matcher.fieldNameEquals("$10"));
+        assertEquals("sym", in.getFieldName());
+
+        assertEquals(IonType.STRUCT, in.next());
+        assertTrue(matcher.fieldNameEquals("abd"));
+        in.stepIn();
+        in.next();
+        assertTrue(matcher.fieldNameEquals("ab"));
+        assertEquals(5, in.intValue());
+        in.stepOut();
+        expectEof();
+        in.stepOut();
+        assertFalse(matcher.fieldNameEquals("abd"));
+    }
+
+    @Test
+    public void testRepeatedFieldNamesAndAnnotationsAreShared()
+    {
+        read("a::{abc:1, 'b c':2} a::{abc:3, 'b c':4}");
+        String[] first = readFieldNamesAndAnnotation();
+        String[] second = readFieldNamesAndAnnotation();
+        assertEquals(Arrays.asList(first), Arrays.asList(second));
+        if (myReaderMaker.sourceIsText())
+        {
+            for (int i = 0; i < first.length; i++)
+            {
+                assertSame(first[i], second[i]);
+            }
+        }
+    }
+
+    private String[] readFieldNamesAndAnnotation()
+    {
+        String[] names = new String[3];
+        assertEquals(IonType.STRUCT, in.next());
+        names[0] = in.getTypeAnnotations()[0];
+        in.stepIn();
+        in.next();
+        names[1] = in.getFieldName();
+        in.next();
+        names[2] = in.getFieldName();
+        in.stepOut();
+        return names;
+    }
+
     @Test
     public void testStepInOnNull() throws IOException
     {
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2011-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion.streaming;
+
+import static software.amazon.ion.util.Spans.currentSpan;
+
+import java.io.IOException;
+import org.junit.Test;
+import software.amazon.ion.IonDatagram;
+import software.amazon.ion.IonException;
+import software.amazon.ion.IonReader;
+import software.amazon.ion.IonTestCase;
+import software.amazon.ion.IonType;
+import software.amazon.ion.IonWriter;
+import software.amazon.ion.OffsetSpan;
+import software.amazon.ion.ResettableReader;
+import software.amazon.ion.TextSpan;
+import software.amazon.ion.impl.PrivateUtils;
+import software.amazon.ion.system.IonReaderBuilder;
+
+public class ResettableReaderTest
+    extends IonTestCase
+{
+    private static final String MESSAGE_A =
+        "$ion_symbol_table::{symbols:[\"apple\"]} {apple:[1, 2], b:\"x\"}";
+    private static final String MESSAGE_B =
+        "$ion_symbol_table::{symbols:[\"pear\", \"plum\"]} plum::{pear:3.5}";
+
+    private static void reset(IonReader reader, byte[] data)
+    {
+        reader.asFacet(ResettableReader.class).reset(data, 0, data.length);
+    }
+
+    /** Checks that the reader produces the same values as a new reader. */
+    private void checkSame(byte[] data, int offset, int length, IonReader reader)
+    {
+        IonReader expected = system().newReader(data, offset, length);
+        assertEquals(load(expected), load(reader));
+    }
+
+    private IonDatagram load(IonReader reader)
+    {
+        IonDatagram dg = system().newDatagram();
+        try
+        {
+            IonWriter writer = system().newWriter(dg);
+            writer.writeValues(reader);
+            writer.close();
+        }
+        catch (IOException e)
+        {
+            throw new IonException(e);
+        }
+        return dg;
+    }
+
+    private void checkResets(byte[] a, byte[] b)
+    {
+        IonReader reader = IonReaderBuilder.standard().build(a);
+        checkSame(a, 0, a.length, reader);
+
+        reset(reader, b);
+        checkSame(b, 0, b.length, reader);
+
+        // abandon the input part way through a container
+        reset(reader, a);
+        assertEquals(IonType.STRUCT, reader.next());
+        reader.stepIn();
+        assertEquals(IonType.LIST, reader.next());
+        reader.stepIn();
+        assertEquals(IonType.INT, reader.next());
+        assertEquals(1, reader.intValue());
+
+        reset(reader, b);
+        assertEquals(0, reader.getDepth());
+        checkSame(b, 0, b.length, reader);
+    }
+
+    @Test
+    public void testResetText()
+    {
+        checkResets(PrivateUtils.utf8(MESSAGE_A), PrivateUtils.utf8(MESSAGE_B));
+    }
+
+    @Test
+    public void testResetBinary()
+    {
+        checkResets(encode(MESSAGE_A), encode(MESSAGE_B));
+    }
+
+    @Test
+    public void testResetWithinArray()
+    {
+        byte[] text = PrivateUtils.utf8("  [a, b]\n{c:d} e");
+        IonReader reader = IonReaderBuilder.standard().build(PrivateUtils.utf8("x"));
+        reader.asFacet(ResettableReader.class).reset(text, 2, text.length - 4);
+        checkSame(text, 2, text.length - 4, reader);
+
+        reader.asFacet(ResettableReader.class).reset(text, 2, text.length - 4);
+        IonReader fresh = IonReaderBuilder.standard().build(text, 2, text.length - 4);
+        for (int i = 0; i < 2; i++)
+        {
+            assertEquals(fresh.next(), reader.next());
+            TextSpan expected = currentSpan(TextSpan.class, fresh);
+            TextSpan actual = currentSpan(TextSpan.class, reader);
+            assertEquals(expected.getStartLine(), actual.getStartLine());
+            assertEquals(expected.getStartColumn(), actual.getStartColumn());
+            assertEquals(currentSpan(OffsetSpan.class, fresh).getStartOffset(),
+                         currentSpan(OffsetSpan.class, reader).getStartOffset());
+        }
+        assertEquals(2, currentSpan(TextSpan.class, reader).getStartLine());
+
+        byte[] binary = encode("[a, b] {c:d} e");
+        byte[] padded = new byte[binary.length + 3];
+        System.arraycopy(binary, 0, padded, 3, binary.length);
+        reader = IonReaderBuilder.standard().build(encode("x"));
+        reader.asFacet(ResettableReader.class).reset(padded, 3, binary.length);
+        fresh = IonReaderBuilder.standard().build(padded, 3, binary.length);
+        assertEquals(IonType.LIST, fresh.next());
+        assertEquals(IonType.LIST, reader.next());
+        assertEquals(currentSpan(OffsetSpan.class, fresh).getStartOffset(),
+                     currentSpan(OffsetSpan.class, reader).getStartOffset());
+        checkSame(padded, 3, binary.length, reader);
+    }
+
+    @Test
+    public void testResetAfterError()
+    {
+        byte[] bad = PrivateUtils.utf8("[1, 2, {a:\"unterminated");
+        byte[] good = PrivateUtils.utf8(MESSAGE_B);
+        IonReader reader = IonReaderBuilder.standard().build(bad);
+        try
+        {
+            reader.next();
+            reader.stepIn();
+            while (reader.next() != null) { }
+            fail("expected an exception");
+        }
+        catch (IonException e) { }
+
+        reset(reader, good);
+        checkSame(good, 0, good.length, reader);
+    }
+
+    @Test
+    public void testResetKeepsConfiguration()
+    {
+        byte[] a = PrivateUtils.utf8("[1, 2.3.4] 5");
+        IonReader reader = IonReaderBuilder.standard()
+                                           .withLenientSkipEnabled(true)
+                                           .withStructuralIndexEnabled(true)
+                                           .build(a);
+        assertEquals(IonType.LIST, reader.next());
+        assertEquals(IonType.INT, reader.next());
+
+        reset(reader, PrivateUtils.utf8("{a:[1, 2.3.4]} 6"));
+        assertEquals(IonType.STRUCT, reader.next());
+        assertEquals(IonType.INT, reader.next());
+        assertEquals(6, reader.intValue());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testResetTextToBinaryFails()
+    {
+        IonReader reader = IonReaderBuilder.standard().build(PrivateUtils.utf8("a"));
+        reset(reader, encode("b"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testResetBinaryToTextFails()
+    {
+        IonReader reader = IonReaderBuilder.standard().build(encode("a"));
+        reset(reader, PrivateUtils.utf8("b"));
+    }
+
+    @Test
+    public void testOnlyByteArrayReadersAreResettable()
+    {
+        assertNull(IonReaderBuilder.standard().build("a")
+                                   .asFacet(ResettableReader.class));
+        assertNull(system().newReader(system().newInt(1))
+                           .asFacet(ResettableReader.class));
+    }
+}
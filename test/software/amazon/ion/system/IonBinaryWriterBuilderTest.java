@@ -25,10 +25,16 @@ import static software.amazon.ion.TestUtils.symbolTableEquals;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.IllegalBlockingModeException;
+import java.nio.channels.Pipe;
+import java.util.Arrays;
 import org.junit.Assert;
 import org.junit.Test;
 import software.amazon.ion.IonCatalog;
 import software.amazon.ion.IonSystem;
+import software.amazon.ion.IonType;
 import software.amazon.ion.IonWriter;
 import software.amazon.ion.SymbolTable;
 import software.amazon.ion.impl.PrivateIonBinaryWriterBuilder;
@@ -98,6 +104,32 @@ public class IonBinaryWriterBuilderTest
         assertSame(catalog2, b3.getCatalog());
     }
 
+    @Test
+    public void testRebind() throws IOException
+    {
+        IonBinaryWriterBuilder b = IonBinaryWriterBuilder.standard();
+        ByteArrayOutputStream first = new ByteArrayOutputStream();
+        IonWriter writer = b.build(first);
+        writer.writeSymbol("a");
+        writer.finish();
+
+        ByteArrayOutputStream second = new ByteArrayOutputStream();
+        assertSame(writer, IonBinaryWriterBuilder.rebind(writer, second));
+        writer.writeSymbol("b");
+        writer.close();
+
+        IonSystem system = IonSystemBuilder.standard().build();
+        assertEquals(system.singleValue("a"), system.singleValue(first.toByteArray()));
+        assertEquals(system.singleValue("b"), system.singleValue(second.toByteArray()));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRebindTextWriter()
+    {
+        IonWriter writer = IonTextWriterBuilder.standard().build(new ByteArrayOutputStream());
+        IonBinaryWriterBuilder.rebind(writer, new ByteArrayOutputStream());
+    }
+
     @Test(expected = UnsupportedOperationException.class)
     public void testCatalogImmutability()
     {
@@ -385,4 +417,112 @@ public class IonBinaryWriterBuilderTest
         b.setImports(new SymbolTable[0]);
         assertArrayEquals(new SymbolTable[0], b.getImports());
     }
+
+
+    /** Records gathering writes, accepting at most a few bytes per call. */
+    private static final class RecordingChannel
+        implements GatheringByteChannel
+    {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        int gatheringWrites;
+        boolean open = true;
+
+        public long write(ByteBuffer[] srcs, int offset, int length)
+        {
+            gatheringWrites++;
+            long written = 0;
+            for (ByteBuffer src : Arrays.asList(srcs).subList(offset, offset + length))
+            {
+                written += write(src);
+                if (src.hasRemaining()) break;
+            }
+            return written;
+        }
+
+        public long write(ByteBuffer[] srcs)
+        {
+            return write(srcs, 0, srcs.length);
+        }
+
+        public int write(ByteBuffer src)
+        {
+            int amount = Math.min(src.remaining(), 100);
+            for (int i = 0; i < amount; i++)
+            {
+                out.write(src.get());
+            }
+            return amount;
+        }
+
+        public boolean isOpen()
+        {
+            return open;
+        }
+
+        public void close()
+        {
+            open = false;
+        }
+    }
+
+    private static void writeValues(IonWriter writer) throws IOException
+    {
+        char[] longText = new char[1000];
+        Arrays.fill(longText, 'x');
+
+        writer.stepIn(IonType.STRUCT);
+        writer.setFieldName("name");
+        writer.writeString(new String(longText));
+        writer.setFieldName("list");
+        writer.stepIn(IonType.LIST);
+        for (int i = 0; i < 200; i++)
+        {
+            writer.writeSymbol("sym" + i);
+        }
+        writer.stepOut();
+        writer.stepOut();
+    }
+
+    @Test
+    public void testBuildChannel() throws IOException
+    {
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        IonWriter writer = IonBinaryWriterBuilder.standard().build(expected);
+        writeValues(writer);
+        writer.close();
+
+        RecordingChannel channel = new RecordingChannel();
+        writer = IonBinaryWriterBuilder.standard().build(channel);
+        writeValues(writer);
+        writer.finish();
+        int writesAfterFinish = channel.gatheringWrites;
+        assertArrayEquals(expected.toByteArray(), channel.out.toByteArray());
+
+        writer.close();
+        assertEquals(writesAfterFinish, channel.gatheringWrites);
+        assertTrue(!channel.open);
+        assertArrayEquals(expected.toByteArray(), channel.out.toByteArray());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testBuildNullChannel()
+    {
+        IonBinaryWriterBuilder.standard().build((GatheringByteChannel) null);
+    }
+
+    @Test(expected = IllegalBlockingModeException.class)
+    public void testBuildNonBlockingChannel() throws IOException
+    {
+        Pipe pipe = Pipe.open();
+        try
+        {
+            pipe.sink().configureBlocking(false);
+            IonBinaryWriterBuilder.standard().build(pipe.sink());
+        }
+        finally
+        {
+            pipe.sink().close();
+            pipe.source().close();
+        }
+    }
 }
@@ -15,14 +15,26 @@
 package software.amazon.ion.system;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import static org.junit.Assert.assertNull;
 
 import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.zip.GZIPOutputStream;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
 import software.amazon.ion.IonCatalog;
 import software.amazon.ion.IonReader;
 import software.amazon.ion.IonType;
@@ -39,6 +51,9 @@ public class IonReaderBuilderTest
     @Rule
     public ExpectedException thrown = ExpectedException.none();
 
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
     @Test
     public void testMutable()
     {
@@ -97,6 +112,73 @@ public class IonReaderBuilderTest
         assertSame(mutableCopy, mutableSame);
     }
 
+    @Test
+    public void testStructuralIndexEnabled()
+    {
+        IonReaderBuilder standard = IonReaderBuilder.standard();
+        assertFalse(standard.isStructuralIndexEnabled());
+        IonReaderBuilder immutable = standard.withStructuralIndexEnabled(true).immutable();
+        assertTrue(immutable.isStructuralIndexEnabled());
+        assertTrue(immutable.copy().isStructuralIndexEnabled());
+
+        IonReader reader = immutable.build("[a, [b]] {c:d}".getBytes());
+        assertEquals(IonType.LIST, reader.next());
+        assertEquals(IonType.STRUCT, reader.next());
+        reader.stepIn();
+        assertEquals(IonType.SYMBOL, reader.next());
+        assertEquals("c", reader.getFieldName());
+
+        thrown.expect(UnsupportedOperationException.class);
+        immutable.setStructuralIndexEnabled(false);
+    }
+
+    @Test
+    public void testLenientSkipEnabled()
+    {
+        IonReaderBuilder standard = IonReaderBuilder.standard();
+        assertFalse(standard.isLenientSkipEnabled());
+        IonReaderBuilder immutable = standard.withLenientSkipEnabled(true).immutable();
+        assertTrue(immutable.isLenientSkipEnabled());
+        assertTrue(immutable.copy().isLenientSkipEnabled());
+
+        IonReader reader = immutable.build("[a, [b c:]] {c:d}");
+        assertEquals(IonType.LIST, reader.next());
+        assertEquals(IonType.STRUCT, reader.next());
+        reader.stepIn();
+        assertEquals(IonType.SYMBOL, reader.next());
+        assertEquals("c", reader.getFieldName());
+
+        thrown.expect(UnsupportedOperationException.class);
+        immutable.setLenientSkipEnabled(false);
+    }
+
+    @Test
+    public void testSymbolCacheShared()
+    {
+        IonReaderBuilder standard = IonReaderBuilder.standard();
+        assertFalse(standard.isSymbolCacheShared());
+        IonReaderBuilder shared = standard.copy().withSymbolCacheShared(true).immutable();
+        assertTrue(shared.isSymbolCacheShared());
+        assertTrue(shared.copy().isSymbolCacheShared());
+        assertFalse(shared.copy().withSymbolCacheShared(false).isSymbolCacheShared());
+
+        IonReader r1 = shared.build("{field:1}");
+        IonReader r2 = shared.copy().build("{field:2}".getBytes());
+        IonReader r3 = IonReaderBuilder.standard().build("{field:3}");
+        String[] names = new String[3];
+        IonReader[] readers = { r1, r2, r3 };
+        for (int i = 0; i < readers.length; i++)
+        {
+            readers[i].next();
+            readers[i].stepIn();
+            readers[i].next();
+            names[i] = readers[i].getFieldName();
+        }
+        assertSame(names[0], names[1]);
+        assertNotSame(names[0], names[2]);
+        assertEquals(names[0], names[2]);
+    }
+
     @Test
     public void testSystemFreeRoundtrip() throws IOException
     {
@@ -110,4 +192,127 @@ public class IonReaderBuilderTest
         assertEquals(42, reader.intValue());
     }
 
+    private File writeFile(byte[] data, boolean gzip) throws IOException
+    {
+        File file = tempFolder.newFile();
+        OutputStream out = new FileOutputStream(file);
+        if (gzip)
+        {
+            out = new GZIPOutputStream(out);
+        }
+        out.write(data);
+        out.close();
+        return file;
+    }
+
+    private static byte[] binaryData() throws IOException
+    {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        IonWriter writer = PrivateIonBinaryWriterBuilder.standard().build(out);
+        writer.writeInt(42);
+        writer.writeString("hello");
+        writer.finish();
+        return out.toByteArray();
+    }
+
+    private static void assertData(IonReader reader) throws IOException
+    {
+        assertEquals(IonType.INT, reader.next());
+        assertEquals(42, reader.intValue());
+        assertEquals(IonType.STRING, reader.next());
+        assertEquals("hello", reader.stringValue());
+        assertNull(reader.next());
+        reader.close();
+    }
+
+    @Test
+    public void testBuildFromPath() throws IOException
+    {
+        File binary = writeFile(binaryData(), false);
+        assertData(IonReaderBuilder.standard().build(binary.toPath()));
+
+        File text = writeFile("42 \"hello\"".getBytes("UTF-8"), false);
+        assertData(IonReaderBuilder.standard().build(text.toPath()));
+    }
+
+    @Test
+    public void testBuildFromGzipPath() throws IOException
+    {
+        File binary = writeFile(binaryData(), true);
+        assertData(IonReaderBuilder.standard().build(binary.toPath()));
+
+        File text = writeFile("42 \"hello\"".getBytes("UTF-8"), true);
+        assertData(IonReaderBuilder.standard().build(text.toPath()));
+    }
+
+    @Test
+    public void testBuildFromFileChannel() throws IOException
+    {
+        File binary = writeFile(binaryData(), false);
+        RandomAccessFile file = new RandomAccessFile(binary, "r");
+        FileChannel channel = file.getChannel();
+        channel.position(3);
+        IonReader reader = IonReaderBuilder.standard().build(channel);
+        // the reader doesn't depend on the channel remaining open
+        file.close();
+        assertData(reader);
+    }
+
+    @Test
+    public void testBuildFromEmptyPath() throws IOException
+    {
+        File empty = writeFile(new byte[0], false);
+        IonReader reader = IonReaderBuilder.standard().build(empty.toPath());
+        assertNull(reader.next());
+        reader.close();
+    }
+
+    private static void assertByteBuffer(ByteBuffer buffer) throws IOException
+    {
+        int position = buffer.position();
+        int limit = buffer.limit();
+        assertData(IonReaderBuilder.standard().build(buffer));
+        assertEquals(position, buffer.position());
+        assertEquals(limit, buffer.limit());
+    }
+
+    private static ByteBuffer framed(ByteBuffer buffer, byte[] data)
+    {
+        buffer.put(new byte[] { 1, 2, 3 });
+        buffer.put(data);
+        buffer.put(new byte[] { 4, 5 });
+        buffer.position(3);
+        buffer.limit(3 + data.length);
+        return buffer;
+    }
+
+    @Test
+    public void testBuildFromHeapByteBuffer() throws IOException
+    {
+        byte[] binary = binaryData();
+        assertByteBuffer(ByteBuffer.wrap(binary));
+        assertByteBuffer(framed(ByteBuffer.allocate(binary.length + 5), binary));
+        assertByteBuffer(ByteBuffer.wrap(binary).asReadOnlyBuffer());
+
+        byte[] text = "42 \"hello\"".getBytes("UTF-8");
+        assertByteBuffer(framed(ByteBuffer.allocate(text.length + 5), text).slice());
+    }
+
+    @Test
+    public void testBuildFromDirectByteBuffer() throws IOException
+    {
+        byte[] binary = binaryData();
+        assertByteBuffer(framed(ByteBuffer.allocateDirect(binary.length + 5), binary));
+
+        byte[] text = "42 \"hello\"".getBytes("UTF-8");
+        assertByteBuffer(framed(ByteBuffer.allocateDirect(text.length + 5), text));
+
+        ByteArrayOutputStream gzipped = new ByteArrayOutputStream();
+        OutputStream out = new GZIPOutputStream(gzipped);
+        out.write(binary);
+        out.close();
+        byte[] gzip = gzipped.toByteArray();
+        assertByteBuffer(framed(ByteBuffer.allocateDirect(gzip.length + 5), gzip));
+    }
+
 }
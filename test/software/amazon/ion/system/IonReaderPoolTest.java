@@ -0,0 +1,127 @@
+/*
+ * Copyright 2011-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion.system;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.GZIPOutputStream;
+import org.junit.Test;
+import software.amazon.ion.IonReader;
+import software.amazon.ion.IonType;
+import software.amazon.ion.IonWriter;
+
+public class IonReaderPoolTest
+{
+    private static byte[] text(String ion) throws IOException
+    {
+        return ion.getBytes("UTF-8");
+    }
+
+    private static byte[] binary(String ion) throws IOException
+    {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        IonWriter writer = IonBinaryWriterBuilder.standard().build(out);
+        IonReader reader = IonReaderBuilder.standard().build(ion);
+        writer.writeValues(reader);
+        writer.close();
+        return out.toByteArray();
+    }
+
+    private static void checkInts(IonReader reader, int... expected)
+    {
+        for (int value : expected)
+        {
+            assertEquals(IonType.INT, reader.next());
+            assertEquals(value, reader.intValue());
+        }
+        assertEquals(null, reader.next());
+    }
+
+    @Test
+    public void testReadersAreReused() throws IOException
+    {
+        IonReaderPool pool = new IonReaderPool(IonReaderBuilder.standard(), 2);
+
+        IonReader textReader = pool.acquire(text("1 2"));
+        checkInts(textReader, 1, 2);
+        IonReader binaryReader = pool.acquire(binary("3"));
+        checkInts(binaryReader, 3);
+        pool.release(textReader);
+        pool.release(binaryReader);
+
+        IonReader reader = pool.acquire(binary("4 5"));
+        assertSame(binaryReader, reader);
+        checkInts(reader, 4, 5);
+
+        reader = pool.acquire(text("  6  "), 2, 1);
+        assertSame(textReader, reader);
+        checkInts(reader, 6);
+
+        // the pool is empty
+        assertNotSame(textReader, pool.acquire(text("7")));
+    }
+
+    @Test
+    public void testCapacityIsBounded() throws IOException
+    {
+        IonReaderPool pool = new IonReaderPool(IonReaderBuilder.standard(), 1);
+        IonReader r1 = pool.acquire(text("1"));
+        IonReader r2 = pool.acquire(text("2"));
+        pool.release(r1);
+        pool.release(r2);
+
+        assertSame(r1, pool.acquire(text("3")));
+        assertNotSame(r2, pool.acquire(text("4")));
+    }
+
+    @Test
+    public void testGzippedDataIsNotPooled() throws IOException
+    {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        GZIPOutputStream gzip = new GZIPOutputStream(out);
+        gzip.write(text("8"));
+        gzip.close();
+
+        IonReaderPool pool = new IonReaderPool(IonReaderBuilder.standard(), 1);
+        IonReader reader = pool.acquire(out.toByteArray());
+        checkInts(reader, 8);
+        pool.release(reader);
+
+        IonReader other = pool.acquire(text("9"));
+        assertNotSame(reader, other);
+        checkInts(other, 9);
+    }
+
+    @Test
+    public void testBuilderIsCopied() throws IOException
+    {
+        IonReaderBuilder builder = IonReaderBuilder.standard().withLenientSkipEnabled(true);
+        IonReaderPool pool = new IonReaderPool(builder, 1);
+        builder.setLenientSkipEnabled(false);
+
+        IonReader reader = pool.acquire(text("[1.2.3] 1"));
+        assertEquals(IonType.LIST, reader.next());
+        checkInts(reader, 1);
+        pool.release(reader);
+
+        reader = pool.acquire(text("[1.2.3] 2"));
+        assertEquals(IonType.LIST, reader.next());
+        checkInts(reader, 2);
+    }
+}
@@ -141,6 +141,18 @@ public class IonSystemBuilderTest
     }
 
 
+    @Test(expected = UnsupportedOperationException.class)
+    public void testLazyLoadingImmutability()
+    {
+        IonSystemBuilder b = IonSystemBuilder.standard().copy();
+        b.setLazyLoading(true);
+
+        IonSystemBuilder b2 = b.immutable();
+        assertTrue(b2.isLazyLoading());
+        b2.setLazyLoading(false);
+    }
+
+
     //-------------------------------------------------------------------------
 
     @Test
@@ -160,10 +172,12 @@ public class IonSystemBuilderTest
         IonCatalog catalog = new SimpleCatalog();
         IonSystemBuilder b1 = IonSystemBuilder.standard()
                                               .withCatalog(catalog)
-                                              .withStreamCopyOptimized(true);
+                                              .withStreamCopyOptimized(true)
+                                              .withLazyLoading(true);
         IonSystemBuilder b2 = b1.copy();
         assertNotSame(b1, b2);
         assertSame(b1.getCatalog(),     b2.getCatalog());
         assertSame(b1.isStreamCopyOptimized(), b2.isStreamCopyOptimized());
+        assertSame(b1.isLazyLoading(), b2.isLazyLoading());
     }
 }
@@ -14,13 +14,25 @@
 
 package software.amazon.ion.util;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static software.amazon.ion.impl.PrivateIonConstants.BINARY_VERSION_MARKER_1_0;
 import static software.amazon.ion.impl.PrivateUtils.EMPTY_BYTE_ARRAY;
 import static software.amazon.ion.util.IonStreamUtils.isIonBinary;
+import static software.amazon.ion.util.IonStreamUtils.readDoubleList;
+import static software.amazon.ion.util.IonStreamUtils.readIntList;
+import static software.amazon.ion.util.IonStreamUtils.readLongList;
 
+import java.util.Arrays;
 import org.junit.Test;
+import software.amazon.ion.IonDatagram;
+import software.amazon.ion.IonException;
+import software.amazon.ion.IonReader;
+import software.amazon.ion.IonSystem;
+import software.amazon.ion.IonType;
+import software.amazon.ion.system.IonSystemBuilder;
 
 public class IonStreamUtilsTest
 {
@@ -68,4 +80,147 @@ public class IonStreamUtilsTest
         assertEquals(false, isIonBinary(BINARY_VERSION_MARKER_1_0, 0, 2));
         assertEquals(false, isIonBinary(BINARY_VERSION_MARKER_1_0, 0, 3));
     }
+
+    private static final IonSystem SYSTEM = IonSystemBuilder.standard().build();
+
+    private static final String INTS =
+        "[0, 1, -2, 2147483647, -2147483648, a::b::5]";
+
+    private static final String LONGS =
+        "[2147483648, -2147483649, 9223372036854775807, -9223372036854775808]";
+
+    private static final String NUMBERS =
+        INTS + " {f:[1]} [1.5e0, -0e0, nan, +inf, a::2e0] [] null.list " + LONGS;
+
+    /** @return readers over the same data, the first of which is binary */
+    private static IonReader[] readers(String text)
+    {
+        IonDatagram dg = SYSTEM.getLoader().load(text);
+        return new IonReader[] {
+            SYSTEM.newReader(dg.getBytes()),
+            SYSTEM.newReader(text),
+            SYSTEM.newReader(dg),
+        };
+    }
+
+    @Test
+    public void testReadNumberLists()
+    {
+        int[] expectedInts = {
+            0, 1, -2, Integer.MAX_VALUE, Integer.MIN_VALUE, 5
+        };
+        long[] expectedLongs = {
+            1L << 31, -(1L << 31) - 1, Long.MAX_VALUE, Long.MIN_VALUE
+        };
+        double[] expectedDoubles = {
+            1.5, -0.0, Double.NaN, Double.POSITIVE_INFINITY, 2
+        };
+
+        for (IonReader reader : readers(NUMBERS + " " + NUMBERS))
+        {
+            int[] ints = new int[expectedInts.length];
+            assertEquals(IonType.LIST, reader.next());
+            assertEquals(ints.length, readIntList(reader, ints));
+            assertArrayEquals(expectedInts, ints);
+
+            assertEquals(IonType.STRUCT, reader.next());
+            reader.stepIn();
+            assertEquals(IonType.LIST, reader.next());
+            int[] one = new int[4];
+            assertEquals(1, readIntList(reader, one));
+            assertEquals(1, one[0]);
+            assertEquals(null, reader.next());
+            reader.stepOut();
+
+            double[] doubles = new double[8];
+            assertEquals(IonType.LIST, reader.next());
+            assertEquals(expectedDoubles.length, readDoubleList(reader, doubles));
+            assertArrayEquals(expectedDoubles,
+                              Arrays.copyOf(doubles, expectedDoubles.length), 0);
+
+            assertEquals(IonType.LIST, reader.next());
+            assertEquals(0, readDoubleList(reader, new double[0]));
+            assertEquals(IonType.LIST, reader.next());
+            assertTrue(reader.isNullValue());
+            assertEquals(0, readLongList(reader, new long[0]));
+
+            long[] longs = new long[expectedInts.length];
+            assertEquals(IonType.LIST, reader.next());
+            assertEquals(expectedLongs.length, readLongList(reader, longs));
+            assertArrayEquals(expectedLongs,
+                              Arrays.copyOf(longs, expectedLongs.length));
+            assertEquals(IonType.LIST, reader.next());
+            assertEquals(expectedInts.length, readLongList(reader, longs));
+            assertEquals(5, longs[5]);
+            assertEquals(IonType.STRUCT, reader.next());
+            assertEquals(IonType.LIST, reader.next());
+            assertEquals(IonType.LIST, reader.next());
+            assertEquals(IonType.LIST, reader.next());
+            assertEquals(IonType.LIST, reader.next());
+            assertEquals(null, reader.next());
+        }
+    }
+
+    @Test
+    public void testReadListWithPaddingAndShortFloats()
+    {
+        // [nop, 5] [1.5 as a 32-bit float]
+        byte[] binary = {
+            (byte) 0xE0, 0x01, 0x00, (byte) 0xEA,
+            (byte) 0xB3, 0x00, 0x21, 0x05,
+            (byte) 0xB5, 0x44, 0x3F, (byte) 0xC0, 0x00, 0x00,
+        };
+        IonReader reader = SYSTEM.newReader(binary);
+        long[] longs = new long[1];
+        assertEquals(IonType.LIST, reader.next());
+        assertEquals(1, readLongList(reader, longs));
+        assertEquals(5, longs[0]);
+        double[] doubles = new double[1];
+        assertEquals(IonType.LIST, reader.next());
+        assertEquals(1, readDoubleList(reader, doubles));
+        assertEquals(1.5, doubles[0], 0);
+        assertEquals(null, reader.next());
+    }
+
+    private static void checkBadList(String text, boolean asLongs,
+                                     Class<? extends Exception> expected)
+    {
+        for (IonReader reader : readers(text))
+        {
+            reader.next();
+            try
+            {
+                if (asLongs)
+                {
+                    readLongList(reader, new long[2]);
+                }
+                else
+                {
+                    readIntList(reader, new int[2]);
+                }
+                fail("Expected " + expected.getSimpleName() + " reading " + text);
+            }
+            catch (Exception e)
+            {
+                assertTrue(e.toString(), expected.isInstance(e));
+            }
+        }
+    }
+
+    @Test
+    public void testReadBadLists()
+    {
+        checkBadList("[1, null.int]", false, IonException.class);
+        checkBadList("[1, null]", false, IonException.class);
+        checkBadList("[1, 2e0]", false, IonException.class);
+        checkBadList("[1, [2]]", false, IonException.class);
+        checkBadList("[1, 2, 3]", false, IonException.class);
+        checkBadList("[2147483648]", false, IonException.class);
+        checkBadList("[-2147483649]", false, IonException.class);
+        checkBadList("[9223372036854775808]", true, IonException.class);
+        checkBadList("[-9223372036854775809]", true, IonException.class);
+        checkBadList("[123456789012345678901234567890]", true, IonException.class);
+        checkBadList("(1 2)", false, IllegalStateException.class);
+        checkBadList("1", false, IllegalStateException.class);
+    }
 }
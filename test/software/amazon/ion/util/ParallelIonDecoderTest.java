@@ -0,0 +1,152 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at:
+ *
+ *     http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package software.amazon.ion.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.After;
+import org.junit.Test;
+import software.amazon.ion.IonDatagram;
+import software.amazon.ion.IonException;
+import software.amazon.ion.IonReader;
+import software.amazon.ion.IonTestCase;
+import software.amazon.ion.IonType;
+import software.amazon.ion.IonValue;
+import software.amazon.ion.IonWriter;
+import software.amazon.ion.system.IonBinaryWriterBuilder;
+
+public class ParallelIonDecoderTest
+    extends IonTestCase
+{
+    private final ForkJoinPool myPool = new ForkJoinPool(4);
+
+    @After
+    public void shutDownPool()
+    {
+        myPool.shutdown();
+    }
+
+    private ParallelIonDecoder decoder(int chunkSize)
+    {
+        return new ParallelIonDecoder(system(), myPool, chunkSize);
+    }
+
+    /**
+     * Writes several streams, each with its own local symbol table, so that
+     * chunk boundaries fall on both sides of symbol table changes.
+     */
+    private byte[] records() throws IOException
+    {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        IonWriter writer = IonBinaryWriterBuilder.standard().build(out);
+        for (int i = 0; i < 300; i++)
+        {
+            writer.setTypeAnnotations("record" + (i / 50));
+            writer.stepIn(IonType.STRUCT);
+            writer.setFieldName("id");
+            writer.writeInt(i);
+            writer.setFieldName("name" + (i % 7));
+            writer.writeSymbol("value" + (i % 11));
+            writer.stepOut();
+            if (i % 50 == 49)
+            {
+                writer.finish();
+            }
+        }
+        writer.close();
+        return out.toByteArray();
+    }
+
+    private void assertLoaded(IonDatagram expected, List<IonValue> actual)
+    {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++)
+        {
+            assertEquals(expected.get(i), actual.get(i));
+        }
+    }
+
+    @Test
+    public void testLoadMatchesSequentialLoad() throws IOException
+    {
+        byte[] data = records();
+        IonDatagram expected = loader().load(data);
+        for (int chunkSize : new int[] { 1, 20, 100, 1000, data.length })
+        {
+            assertLoaded(expected, decoder(chunkSize).load(data));
+        }
+    }
+
+    @Test
+    public void testLoadDirectByteBuffer() throws IOException
+    {
+        byte[] data = records();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(data.length + 10);
+        buffer.position(10);
+        buffer.put(data);
+        buffer.position(10);
+
+        assertLoaded(loader().load(data), decoder(100).load(buffer));
+        assertEquals(10, buffer.position());
+        assertEquals(data.length + 10, buffer.limit());
+    }
+
+    @Test
+    public void testDecodeInOrder() throws IOException
+    {
+        List<Long> ids = decoder(64).decode(records(),
+            new ParallelIonDecoder.ValueDecoder<Long>()
+            {
+                public Long decode(IonReader reader)
+                {
+                    reader.stepIn();
+                    reader.next();
+                    long id = reader.longValue();
+                    reader.stepOut();
+                    return id;
+                }
+            });
+        assertEquals(300, ids.size());
+        for (int i = 0; i < ids.size(); i++)
+        {
+            assertEquals(i, ids.get(i).longValue());
+        }
+    }
+
+    @Test
+    public void testLoadText()
+    {
+        byte[] data = "a::1 {b:c} [d, e]".getBytes();
+        assertLoaded(loader().load(data), decoder(1).load(data));
+    }
+
+    @Test
+    public void testLoadEmpty()
+    {
+        assertTrue(decoder(1).load(new byte[0]).isEmpty());
+    }
+
+    @Test(expected = IonException.class)
+    public void testTruncatedData() throws IOException
+    {
+        byte[] data = records();
+        byte[] truncated = new byte[data.length - 1];
+        System.arraycopy(data, 0, truncated, 0, truncated.length);
+        decoder(100).load(truncated);
+    }
+}